@@ -0,0 +1,7 @@
+package com.reddevil.reddevilanalytics_backend.ai;
+
+import java.util.List;
+
+public record AIPredictionBatchRequest(
+    List<AIPredictionRequest> predictions
+) {}
@@ -0,0 +1,11 @@
+package com.reddevil.reddevilanalytics_backend.ai;
+
+import java.util.List;
+
+/**
+ * Answer to {@code /predict/batch}; predictions carry the match ID they were requested for and
+ * may come back in any order.
+ */
+public record AIPredictionBatchResponse(
+    List<AIPredictionResponse> predictions
+) {}
@@ -4,5 +4,7 @@ public record AIPredictionRequest(
     Long matchId,
     TeamStats homeTeamStats,
     TeamStats awayTeamStats,
-    String venue
+    String venue,
+    Double homeTeamRating,
+    Double awayTeamRating
 ) {}
@@ -1,6 +1,7 @@
 package com.reddevil.reddevilanalytics_backend.ai;
 
 public record AIPredictionResponse(
+    Long matchId,
     Double homeWinProbability,
     Double drawProbability,
     Double awayWinProbability,
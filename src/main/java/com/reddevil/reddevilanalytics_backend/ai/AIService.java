@@ -2,37 +2,55 @@ package com.reddevil.reddevilanalytics_backend.ai;
 
 import com.reddevil.reddevilanalytics_backend.domain.Match;
 import com.reddevil.reddevilanalytics_backend.domain.MatchPrediction;
+import com.reddevil.reddevilanalytics_backend.event.PredictionChangedEvent;
+import com.reddevil.reddevilanalytics_backend.prediction.Forecast;
+import com.reddevil.reddevilanalytics_backend.prediction.PredictionEngine;
+import com.reddevil.reddevilanalytics_backend.rating.RatingService;
+import com.reddevil.reddevilanalytics_backend.repository.MatchPredictionBatchWriter;
 import com.reddevil.reddevilanalytics_backend.repository.MatchPredictionRepository;
 import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.service.MatchHeroViewService;
+import com.reddevil.reddevilanalytics_backend.stats.TeamSeasonStats;
+import com.reddevil.reddevilanalytics_backend.stats.TeamStatsService;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.time.Duration;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AIService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final PredictionBatcher predictionBatcher;
+    private final PredictionEngine predictionEngine;
+    private final RatingService ratingService;
+    private final TeamStatsService teamStatsService;
     private final MatchPredictionRepository matchPredictionRepository;
+    private final MatchPredictionBatchWriter matchPredictionBatchWriter;
     private final MatchRepository matchRepository;
-
-    @Value("${providers.ai-service.base-url}")
-    private String aiServiceBaseUrl;
+    private final MatchHeroViewService matchHeroViewService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${providers.ai-service.enabled}")
     private boolean aiServiceEnabled;
 
-    @Cacheable(value = "predictions", key = "#matchId")
-    @CircuitBreaker(name = "aiService", fallbackMethod = "calculateFormBasedPrediction")
+    @Cacheable(value = "predictions", key = "#matchId", sync = true)
+    @CircuitBreaker(name = "aiService", fallbackMethod = "calculateLocalPrediction")
     public MatchPrediction getPrediction(Long matchId) {
         log.info("Getting AI prediction for match ID: {}", matchId);
 
@@ -44,67 +62,135 @@ public class AIService {
                 .orElseGet(() -> generateNewPrediction(match));
     }
 
+    /**
+     * Predictions for many matches at once. Stored ones are loaded with one query; the rest are
+     * requested together through the {@link PredictionBatcher} and stored with one batched insert.
+     * Matches the AI service does not answer, or all of them when it is disabled, are predicted
+     * locally and stored in the same batch.
+     *
+     * @return predictions keyed by match ID
+     */
+    public Map<Long, MatchPrediction> getPredictions(List<Match> matches) {
+        Map<Long, MatchPrediction> predictions = new HashMap<>();
+        matchPredictionRepository.findByMatchIdIn(matches.stream().map(Match::getId).toList())
+                .forEach(prediction -> predictions.put(prediction.getMatch().getId(), prediction));
+
+        List<Match> missing = matches.stream()
+                .filter(match -> !predictions.containsKey(match.getId()))
+                .toList();
+        if (missing.isEmpty()) {
+            return predictions;
+        }
+
+        List<MatchPrediction> generated = new ArrayList<>();
+        if (aiServiceEnabled) {
+            log.info("Requesting AI predictions for {} matches", missing.size());
+            generated.addAll(Flux.fromIterable(missing)
+                    .flatMap(match -> predictionBatcher.predict(buildPredictionRequest(match))
+                            .map(response -> toPrediction(match, response))
+                            .onErrorResume(e -> {
+                                log.warn("No AI prediction for match {}, predicting locally: {}", match.getId(), e.getMessage());
+                                return Mono.empty();
+                            }))
+                    .collectList()
+                    .block());
+        }
+
+        Set<Long> answered = generated.stream()
+                .map(prediction -> prediction.getMatch().getId())
+                .collect(Collectors.toSet());
+        for (Match match : missing) {
+            if (!answered.contains(match.getId())) {
+                generated.add(localPrediction(match));
+            }
+        }
+
+        saveAll(generated).forEach(prediction -> predictions.put(prediction.getMatch().getId(), prediction));
+        return predictions;
+    }
+
     private MatchPrediction generateNewPrediction(Match match) {
         if (!aiServiceEnabled) {
-            log.warn("AI Service is disabled, using form-based prediction");
-            return calculateFormBasedPrediction(match.getId(), new RuntimeException("AI Service disabled"));
+            log.debug("AI Service is disabled, predicting match {} locally", match.getId());
+            return saveLocalPrediction(match);
         }
 
         try {
-            // Build request with team stats
-            AIPredictionRequest request = buildPredictionRequest(match);
-            
-            // Call AI service
-            WebClient webClient = webClientBuilder
-                    .baseUrl(aiServiceBaseUrl)
-                    .build();
-
-            AIPredictionResponse response = webClient.post()
-                    .uri("/predict")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(AIPredictionResponse.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
-
+            // Goes out with whatever other requests arrive within the batch window
+            AIPredictionResponse response = predictionBatcher.predict(buildPredictionRequest(match)).block();
             if (response == null) {
                 throw new RuntimeException("AI Service returned null response");
             }
 
-            // Save prediction
-            MatchPrediction prediction = MatchPrediction.builder()
-                    .match(match)
-                    .homeWinProbability(BigDecimal.valueOf(response.homeWinProbability()))
-                    .drawProbability(BigDecimal.valueOf(response.drawProbability()))
-                    .awayWinProbability(BigDecimal.valueOf(response.awayWinProbability()))
-                    .predictedHomeScore(BigDecimal.valueOf(response.predictedHomeScore()))
-                    .predictedAwayScore(BigDecimal.valueOf(response.predictedAwayScore()))
-                    .confidenceScore(BigDecimal.valueOf(response.confidenceScore()))
-                    .build();
-
-            return matchPredictionRepository.save(prediction);
+            return saveAll(List.of(toPrediction(match, response))).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Prediction was not stored"));
         } catch (Exception e) {
             log.error("Error calling AI service for match {}: {}", match.getId(), e.getMessage());
-            return calculateFormBasedPrediction(match.getId(), e);
+            return calculateLocalPrediction(match.getId(), e);
+        }
+    }
+
+    private MatchPrediction toPrediction(Match match, AIPredictionResponse response) {
+        return MatchPrediction.builder()
+                .match(match)
+                .homeWinProbability(BigDecimal.valueOf(response.homeWinProbability()))
+                .drawProbability(BigDecimal.valueOf(response.drawProbability()))
+                .awayWinProbability(BigDecimal.valueOf(response.awayWinProbability()))
+                .predictedHomeScore(BigDecimal.valueOf(response.predictedHomeScore()))
+                .predictedAwayScore(BigDecimal.valueOf(response.predictedAwayScore()))
+                .confidenceScore(BigDecimal.valueOf(response.confidenceScore()))
+                .build();
+    }
+
+    /**
+     * Inserts in one batch and reads the rows back, which also picks up predictions another node
+     * stored first.
+     */
+    private List<MatchPrediction> saveAll(List<MatchPrediction> predictions) {
+        if (predictions.isEmpty()) {
+            return List.of();
         }
+
+        matchPredictionBatchWriter.insertAll(predictions);
+        List<MatchPrediction> saved = matchPredictionRepository.findByMatchIdIn(predictions.stream()
+                .map(prediction -> prediction.getMatch().getId())
+                .toList());
+        
+        for (MatchPrediction prediction : saved) {
+            matchHeroViewService.onPredictionSaved(prediction);
+            eventPublisher.publishEvent(new PredictionChangedEvent(prediction.getMatch().getId()));
+        }
+        return saved;
     }
 
     private AIPredictionRequest buildPredictionRequest(Match match) {
-        // Build team stats from match data
-        // For now, using mock data - should be enhanced to fetch real stats
-        TeamStats homeStats = new TeamStats(10, 5, 3, 30, 15, "WWDLW");
-        TeamStats awayStats = new TeamStats(8, 6, 4, 25, 20, "WLDWL");
+        Long seasonId = match.getSeason() != null ? match.getSeason().getId() : null;
+        TeamStats homeStats = toTeamStats(teamStatsService.get(seasonId, match.getHomeTeam().getId()));
+        TeamStats awayStats = toTeamStats(teamStatsService.get(seasonId, match.getAwayTeam().getId()));
         
         String venue = determineVenue(match);
         
+        Long competitionId = match.getCompetition() != null ? match.getCompetition().getId() : null;
+        Double homeRating = competitionId != null ? ratingService.rating(competitionId, match.getHomeTeam().getId()) : null;
+        Double awayRating = competitionId != null ? ratingService.rating(competitionId, match.getAwayTeam().getId()) : null;
+        
         return new AIPredictionRequest(
             match.getId(),
             homeStats,
             awayStats,
-            venue
+            venue,
+            homeRating,
+            awayRating
         );
     }
 
+    private TeamStats toTeamStats(TeamSeasonStats stats) {
+        String form = stats.form().form();
+        return new TeamStats(stats.won(), stats.drawn(), stats.lost(), stats.goalsFor(), stats.goalsAgainst(),
+                form != null ? form : "");
+    }
+
     private String determineVenue(Match match) {
         // Simple venue determination - could be enhanced
         if (match.getVenue() != null && match.getVenue().contains(match.getHomeTeam().getName())) {
@@ -113,29 +199,43 @@ public class AIService {
         return "NEUTRAL";
     }
 
-    public MatchPrediction calculateFormBasedPrediction(Long matchId, Throwable throwable) {
-        log.warn("Using fallback prediction for match {}: {}", matchId, throwable.getMessage());
+    /**
+     * Prediction from the in-process {@link PredictionEngine}: the default when the AI service is
+     * disabled and the fallback when it fails.
+     */
+    public MatchPrediction calculateLocalPrediction(Long matchId, Throwable throwable) {
+        log.warn("Using local prediction for match {}: {}", matchId, throwable.getMessage());
         
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
 
-        // Check if fallback prediction already exists
+        // Check if a prediction already exists
         return matchPredictionRepository.findByMatch(match)
-                .orElseGet(() -> {
-                    // Simple heuristic based prediction
-                    // Home team advantage: 45% home win, 30% draw, 25% away win
-                    MatchPrediction fallbackPrediction = MatchPrediction.builder()
-                            .match(match)
-                            .homeWinProbability(BigDecimal.valueOf(45.0))
-                            .drawProbability(BigDecimal.valueOf(30.0))
-                            .awayWinProbability(BigDecimal.valueOf(25.0))
-                            .predictedHomeScore(BigDecimal.valueOf(1.5))
-                            .predictedAwayScore(BigDecimal.valueOf(1.0))
-                            .confidenceScore(BigDecimal.valueOf(0.50))
-                            .build();
-
-                    log.info("Saving fallback prediction for match {}", matchId);
-                    return matchPredictionRepository.save(fallbackPrediction);
-                });
+                .orElseGet(() -> saveLocalPrediction(match));
+    }
+
+    private MatchPrediction saveLocalPrediction(Match match) {
+        log.info("Saving local prediction for match {}", match.getId());
+        return saveAll(List.of(localPrediction(match))).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Prediction was not stored"));
+    }
+
+    private MatchPrediction localPrediction(Match match) {
+        Forecast forecast = predictionEngine.forecast(match);
+
+        return MatchPrediction.builder()
+                .match(match)
+                .homeWinProbability(percent(forecast.homeWin()))
+                .drawProbability(percent(forecast.draw()))
+                .awayWinProbability(percent(forecast.awayWin()))
+                .predictedHomeScore(BigDecimal.valueOf(forecast.expectedHomeGoals()).setScale(2, RoundingMode.HALF_UP))
+                .predictedAwayScore(BigDecimal.valueOf(forecast.expectedAwayGoals()).setScale(2, RoundingMode.HALF_UP))
+                .confidenceScore(BigDecimal.valueOf(forecast.confidence()).setScale(2, RoundingMode.HALF_UP))
+                .build();
+    }
+
+    private BigDecimal percent(double probability) {
+        return BigDecimal.valueOf(probability * 100).setScale(2, RoundingMode.HALF_UP);
     }
 }
@@ -0,0 +1,122 @@
+package com.reddevil.reddevilanalytics_backend.ai;
+
+import com.reddevil.reddevilanalytics_backend.config.ProviderHttpClients;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesces prediction requests into {@code /predict/batch} calls. A batch is sent once it holds
+ * {@code batch-size} requests or {@code batch-window} milliseconds after its first request,
+ * whichever comes first, so a matchweek asked for at once costs one round trip.
+ */
+@Slf4j
+@Component
+public class PredictionBatcher {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_BATCHES_IN_FLIGHT = 4;
+
+    private record PendingPrediction(AIPredictionRequest request, Sinks.One<AIPredictionResponse> result) {}
+
+    private final WebClient webClient;
+    private final Duration batchWindow;
+    private final Sinks.Many<PendingPrediction> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable subscription;
+
+    public PredictionBatcher(
+            ProviderHttpClients httpClients,
+            @Value("${providers.ai-service.base-url}") String baseUrl,
+            @Value("${providers.ai-service.batch-size:32}") int batchSize,
+            @Value("${providers.ai-service.batch-window:50}") long batchWindowMs) {
+        this(httpClients.webClientBuilder(ProviderHttpClients.AI_SERVICE).baseUrl(baseUrl).build(),
+                batchSize, Duration.ofMillis(batchWindowMs));
+    }
+
+    /**
+     * The fair {@code bufferTimeout} only flushes on demand, so while all batches are in flight
+     * requests keep filling the next one instead of overflowing the buffer, which would end the
+     * pipeline for good.
+     */
+    PredictionBatcher(WebClient webClient, int batchSize, Duration batchWindow) {
+        this.webClient = webClient;
+        this.batchWindow = batchWindow;
+        this.subscription = queue.asFlux()
+                .bufferTimeout(batchSize, batchWindow, true)
+                .flatMap(this::send, MAX_BATCHES_IN_FLIGHT)
+                .subscribe(null, e -> log.error("Prediction batching stopped: {}", e.getMessage(), e));
+        log.info("PredictionBatcher initialized - batchSize: {}, batchWindow: {}ms", batchSize, batchWindow.toMillis());
+    }
+
+    /**
+     * Queues one request; the returned Mono completes when the batch it lands in is answered.
+     */
+    public Mono<AIPredictionResponse> predict(AIPredictionRequest request) {
+        return Mono.defer(() -> {
+            Sinks.One<AIPredictionResponse> result = Sinks.one();
+            queue.emitNext(new PendingPrediction(request, result), Sinks.EmitFailureHandler.busyLooping(batchWindow));
+            return result.asMono();
+        }).timeout(REQUEST_TIMEOUT.plus(batchWindow));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queue.tryEmitComplete();
+        subscription.dispose();
+    }
+
+    /**
+     * Never errors: a failed batch fails its own requests and the stream carries on.
+     */
+    private Mono<Void> send(List<PendingPrediction> batch) {
+        log.debug("Sending prediction batch of {} matches", batch.size());
+
+        return Mono.defer(() -> webClient.post()
+                        .uri("/predict/batch")
+                        .bodyValue(new AIPredictionBatchRequest(batch.stream()
+                                .map(PendingPrediction::request)
+                                .toList()))
+                        .retrieve()
+                        .bodyToMono(AIPredictionBatchResponse.class))
+                .timeout(REQUEST_TIMEOUT)
+                .doOnNext(response -> complete(batch, response))
+                .switchIfEmpty(Mono.fromRunnable(() -> fail(batch, new IllegalStateException("AI Service returned empty batch response"))))
+                .onErrorResume(e -> {
+                    log.error("Error calling AI service for batch of {} matches: {}", batch.size(), e.getMessage());
+                    fail(batch, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void complete(List<PendingPrediction> batch, AIPredictionBatchResponse response) {
+        Map<Long, AIPredictionResponse> byMatch = response.predictions() == null ? Map.of() : response.predictions().stream()
+                .filter(prediction -> prediction.matchId() != null)
+                .collect(Collectors.toMap(AIPredictionResponse::matchId, Function.identity(), (first, second) -> first));
+
+        for (PendingPrediction pending : batch) {
+            Long matchId = pending.request().matchId();
+            AIPredictionResponse prediction = byMatch.get(matchId);
+            if (prediction != null) {
+                pending.result().tryEmitValue(prediction);
+            } else {
+                pending.result().tryEmitError(new IllegalStateException("AI Service returned no prediction for match " + matchId));
+            }
+        }
+    }
+
+    private void fail(List<PendingPrediction> batch, Throwable error) {
+        batch.forEach(pending -> pending.result().tryEmitError(error));
+    }
+}
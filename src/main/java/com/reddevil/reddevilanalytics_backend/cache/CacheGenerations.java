@@ -0,0 +1,109 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Generation counters for cache scopes, kept in Redis. Scoped cache keys embed the current
+ * generations, so a single {@code INCR} orphans every entry of a scope however many there are;
+ * the orphans are never read again and expire by TTL.
+ *
+ * <p>Generations are read from a local copy. Bumps are broadcast on {@link #GENERATION_CHANNEL}
+ * and the copy is reloaded from Redis periodically in case a message was missed.
+ */
+@Slf4j
+@Component
+public class CacheGenerations {
+
+    public static final String GENERATION_CHANNEL = "cache:generations";
+
+    private static final String KEY_PREFIX = "cache:generation:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final LoadingCache<String, Long> generations;
+
+    public CacheGenerations(StringRedisTemplate redisTemplate,
+                            @Value("${app.cache.generation.refresh:30000}") long refreshMillis) {
+        this.redisTemplate = redisTemplate;
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .refreshAfterWrite(Duration.ofMillis(refreshMillis))
+                .build(this::load);
+    }
+
+    public static String tableScope(Long competitionId, Long seasonId) {
+        return "table:" + competitionId + "_" + seasonId;
+    }
+
+    public long generation(String scope) {
+        return generations.get(scope);
+    }
+
+    /**
+     * Suffixes {@code key} with the generation of the table of the competition and season, so a
+     * bump of that table retires the entry.
+     */
+    public String scopedKey(Long competitionId, Long seasonId, String key) {
+        return key + "@" + generation(tableScope(competitionId, seasonId));
+    }
+
+    /**
+     * Moves the scope to its next generation on every node.
+     *
+     * @throws IllegalStateException when Redis did not take the bump, in which case entries under
+     *                               the current generation are still being served and the caller
+     *                               has to drop them another way
+     */
+    public void bump(String scope) {
+        Long updated;
+        try {
+            updated = redisTemplate.opsForValue().increment(KEY_PREFIX + scope);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not bump cache generation of " + scope, e);
+        }
+        if (updated == null) {
+            throw new IllegalStateException("Could not bump cache generation of " + scope);
+        }
+        generations.asMap().merge(scope, updated, Math::max);
+        try {
+            redisTemplate.convertAndSend(GENERATION_CHANNEL, nodeId + "|" + scope + "|" + updated);
+        } catch (Exception e) {
+            // Other nodes pick the generation up on their next reload
+            log.warn("Could not broadcast cache generation of {}: {}", scope, e.getMessage());
+        }
+        log.debug("Cache generation of {} is now {}", scope, updated);
+    }
+
+    /**
+     * Handles a message from {@link #GENERATION_CHANNEL}, ignoring the ones this node sent.
+     */
+    public void onGenerationMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            generations.asMap().merge(parts[1], Long.parseLong(parts[2]), Math::max);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed cache generation message: {}", message);
+        }
+    }
+
+    private Long load(String scope) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + scope);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("Could not read cache generation of {}: {}", scope, e.getMessage());
+            return 0L;
+        }
+    }
+}
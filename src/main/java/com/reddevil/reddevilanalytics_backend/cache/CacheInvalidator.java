@@ -0,0 +1,161 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import com.reddevil.reddevilanalytics_backend.domain.MatchHeroView;
+import com.reddevil.reddevilanalytics_backend.event.MatchChangedEvent;
+import com.reddevil.reddevilanalytics_backend.event.PlayerAssetsChangedEvent;
+import com.reddevil.reddevilanalytics_backend.event.PredictionChangedEvent;
+import com.reddevil.reddevilanalytics_backend.event.StandingsChangedEvent;
+import com.reddevil.reddevilanalytics_backend.event.StandingsProjectionChangedEvent;
+import com.reddevil.reddevilanalytics_backend.event.TeamAssetsChangedEvent;
+import com.reddevil.reddevilanalytics_backend.event.TeamStatsChangedEvent;
+import com.reddevil.reddevilanalytics_backend.repository.MatchHeroViewRepository;
+import com.reddevil.reddevilanalytics_backend.repository.StandingRepository;
+import com.reddevil.reddevilanalytics_backend.repository.StandingScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * The one place that knows which cache entries and data versions a domain change affects.
+ * Writers publish change events; they are handled once the writing transaction commits, or
+ * straight away when there is none, so a concurrent miss cannot cache the pre-commit state.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    public static final String PREDICTIONS = "predictions";
+    public static final String TEAM_ASSETS = "teamAssets";
+
+    private final CacheManager cacheManager;
+    private final ResponseCache responseCache;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final CacheGenerations cacheGenerations;
+    private final MatchHeroViewRepository matchHeroViewRepository;
+    private final StandingRepository standingRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchChanged(MatchChangedEvent event) {
+        invalidateMatch(event.matchId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStandingsChanged(StandingsChangedEvent event) {
+        invalidateStandings(event.competitionId(), event.seasonId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStandingsProjectionChanged(StandingsProjectionChangedEvent event) {
+        dataVersionRegistry.bump(DataVersionRegistry.projectionKey(event.competitionId(), event.seasonId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPredictionChanged(PredictionChangedEvent event) {
+        evict(PREDICTIONS, event.matchId());
+    }
+
+    /**
+     * A logo shows up in the team's asset response, in the hero of each of its matches and in
+     * every table it appears in; all of those are looked up and invalidated one by one.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTeamAssetsChanged(TeamAssetsChangedEvent event) {
+        Long teamId = event.teamId();
+        evict(TEAM_ASSETS, teamId);
+        dataVersionRegistry.bump(DataVersionRegistry.teamAssetsKey(teamId));
+        responseCache.evict(ResponseCache.TEAM_ASSETS, teamId);
+
+        List<Long> matchIds = matchHeroViewRepository.findMatchIdsByTeamId(teamId);
+        matchIds.forEach(this::invalidateMatch);
+
+        List<StandingScope> scopes = standingRepository.findScopesByTeamId(teamId);
+        scopes.forEach(scope -> invalidateStandings(scope.competitionId(), scope.seasonId()));
+
+        log.debug("Invalidated assets of team {} in {} match heroes and {} tables", teamId, matchIds.size(), scopes.size());
+    }
+
+    /**
+     * Form only shows on heroes of matches still to be played and venue splits only for the
+     * season they belong to, so just those heroes and that season's tables of the team are
+     * invalidated.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTeamStatsChanged(TeamStatsChangedEvent event) {
+        List<Long> matchIds = matchHeroViewRepository.findMatchIdsByTeamIdAndSeasonIdAndStatusIn(
+                event.teamId(), event.seasonId(), MatchHeroView.FORM_STATUSES);
+        matchIds.forEach(this::invalidateMatch);
+
+        List<StandingScope> scopes = standingRepository.findScopesByTeamId(event.teamId()).stream()
+                .filter(scope -> event.seasonId().equals(scope.seasonId()))
+                .toList();
+        scopes.forEach(scope -> invalidateStandings(scope.competitionId(), scope.seasonId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerAssetsChanged(PlayerAssetsChangedEvent event) {
+        dataVersionRegistry.bump(DataVersionRegistry.playerAssetsKey(event.playerId()));
+        responseCache.evict(ResponseCache.PLAYER_ASSETS, event.playerId());
+    }
+
+    /**
+     * Retires the cached tables of the competition, across all seasons.
+     *
+     * @return the number of tables invalidated
+     */
+    public int invalidateCompetition(Long competitionId) {
+        List<StandingScope> scopes = standingRepository.findScopesByCompetitionId(competitionId);
+        scopes.forEach(scope -> invalidateStandings(scope.competitionId(), scope.seasonId()));
+        return scopes.size();
+    }
+
+    /**
+     * Retires the cached tables of the season, across all competitions.
+     *
+     * @return the number of tables invalidated
+     */
+    public int invalidateSeason(Long seasonId) {
+        List<StandingScope> scopes = standingRepository.findScopesBySeasonId(seasonId);
+        scopes.forEach(scope -> invalidateStandings(scope.competitionId(), scope.seasonId()));
+        return scopes.size();
+    }
+
+    // Bumps before evicting, so a load that outlasts the evict finds the version moved; see ResponseCache
+    private void invalidateMatch(Long matchId) {
+        dataVersionRegistry.bump(DataVersionRegistry.matchKey(matchId));
+        responseCache.evict(ResponseCache.MATCH_HERO, matchId);
+    }
+
+    private void invalidateStandings(Long competitionId, Long seasonId) {
+        bumpGeneration(CacheGenerations.tableScope(competitionId, seasonId));
+        dataVersionRegistry.bump(DataVersionRegistry.standingsKey(competitionId, seasonId));
+    }
+
+    private void bumpGeneration(String scope) {
+        try {
+            cacheGenerations.bump(scope);
+        } catch (IllegalStateException e) {
+            // Entries under the old generation would stay readable until their TTL; standings
+            // responses are the only ones keyed by generation, so they all go
+            log.warn("{}, clearing cached standings instead: {}", e.getMessage(),
+                    e.getCause() != null ? e.getCause().getMessage() : "no reply");
+            responseCache.clear(ResponseCache.STANDINGS);
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
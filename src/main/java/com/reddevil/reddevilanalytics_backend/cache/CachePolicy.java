@@ -0,0 +1,10 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import java.time.Duration;
+
+/**
+ * How long a cached response lives and the {@code Cache-Control} value it is served with
+ * ({@code null} to leave the header out).
+ */
+public record CachePolicy(Duration ttl, String cacheControl) {
+}
@@ -0,0 +1,28 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * A rendered HTTP response body, cached as the exact bytes that go out on the wire.
+ * {@code expiresAt}, {@code ttlMillis} and {@code loadMillis} let readers refresh the entry
+ * before it expires; {@code cacheControl} is optional.
+ */
+public record CachedResponse(byte[] body, String contentType, String cacheControl, long expiresAt, long ttlMillis,
+                             int loadMillis) {
+
+    public ResponseEntity<byte[]> toResponseEntity() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(contentType))
+                .contentLength(body.length);
+        if (cacheControl != null) {
+            builder.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        return builder.body(body);
+    }
+
+    public long remainingMillis() {
+        return expiresAt - System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,64 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stores a {@link CachedResponse} as a format byte, the content type and cache control
+ * (length-prefixed, empty for none), the expiry metadata and then the raw body, so reading an entry back is a copy rather than a JSON decode.
+ * Entries in any other format read as a miss and get re-rendered.
+ */
+public class CachedResponseRedisSerializer implements RedisSerializer<CachedResponse> {
+
+    private static final byte FORMAT = 4;
+
+    @Override
+    public byte[] serialize(CachedResponse value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] contentType = value.contentType().getBytes(StandardCharsets.US_ASCII);
+        byte[] cacheControl = value.cacheControl() != null
+                ? value.cacheControl().getBytes(StandardCharsets.US_ASCII)
+                : new byte[0];
+        return ByteBuffer.allocate(1 + 2 * Short.BYTES + contentType.length + cacheControl.length
+                        + 2 * Long.BYTES + Integer.BYTES + value.body().length)
+                .put(FORMAT)
+                .putShort((short) contentType.length)
+                .put(contentType)
+                .putShort((short) cacheControl.length)
+                .put(cacheControl)
+                .putLong(value.expiresAt())
+                .putLong(value.ttlMillis())
+                .putInt(value.loadMillis())
+                .put(value.body())
+                .array();
+    }
+
+    @Override
+    public CachedResponse deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != FORMAT) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+            byte[] contentType = new byte[buffer.getShort()];
+            buffer.get(contentType);
+            byte[] cacheControl = new byte[buffer.getShort()];
+            buffer.get(cacheControl);
+            long expiresAt = buffer.getLong();
+            long ttlMillis = buffer.getLong();
+            int loadMillis = buffer.getInt();
+            byte[] body = new byte[buffer.remaining()];
+            buffer.get(body);
+            return new CachedResponse(body, new String(contentType, StandardCharsets.US_ASCII),
+                    cacheControl.length > 0 ? new String(cacheControl, StandardCharsets.US_ASCII) : null,
+                    expiresAt, ttlMillis, loadMillis);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not read cached response", e);
+        }
+    }
+}
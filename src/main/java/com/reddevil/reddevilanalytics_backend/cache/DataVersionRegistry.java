@@ -0,0 +1,207 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data versions per resource, kept in Redis, bumped by the writers and read by conditional GETs.
+ * A version is an epoch-millis timestamp that only moves forward, so it doubles as
+ * {@code Last-Modified}. A resource that was never written gets the time it was first asked for,
+ * stored once for every node, so all nodes hand out the same ETag whenever they started.
+ * Stored versions expire once they have not been bumped for a while, so versions created by
+ * reads of arbitrary IDs do not pile up; one that expired comes back as a later version.
+ *
+ * <p>Versions are read from a local copy, like {@link CacheGenerations}: bumps are broadcast on
+ * {@link #VERSION_CHANNEL} and the copy is reloaded from Redis periodically in case a message
+ * was missed.
+ */
+@Slf4j
+@Component
+public class DataVersionRegistry {
+
+    public static final String VERSION_CHANNEL = "cache:data-versions";
+
+    private static final String KEY_PREFIX = "cache:data-version:";
+
+    // Moves a version to the later of now and one past the stored version, and renews its expiry
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            local updated = math.max(tonumber(redis.call('GET', KEYS[1]) or '0') + 1, tonumber(ARGV[1]))
+            redis.call('SET', KEYS[1], string.format('%d', updated), 'PX', ARGV[2])
+            return updated
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Duration ttl;
+    private final LoadingCache<String, Long> versions;
+
+    public DataVersionRegistry(StringRedisTemplate redisTemplate,
+                               @Value("${app.cache.data-version.refresh:30000}") long refreshMillis,
+                               @Value("${app.cache.data-version.ttl:2592000000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .refreshAfterWrite(Duration.ofMillis(refreshMillis))
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Long load(String key) {
+                        Long stored = read(key);
+                        // Without Redis this node decides on its own until a reload reaches it again
+                        return stored != null ? stored : System.currentTimeMillis();
+                    }
+
+                    // A reload only moves forward, like a bump, so a lagging read never hands out an older ETag
+                    @Override
+                    public Long reload(String key, Long oldValue) {
+                        Long stored = read(key);
+                        return stored != null ? Math.max(oldValue, stored) : oldValue;
+                    }
+                });
+    }
+
+    public static String standingsKey(Long competitionId, Long seasonId) {
+        return "standings:" + competitionId + "_" + seasonId;
+    }
+
+    public static String projectionKey(Long competitionId, Long seasonId) {
+        return "projection:" + competitionId + "_" + seasonId;
+    }
+
+    public static String matchKey(Long matchId) {
+        return "match:" + matchId;
+    }
+
+    public static String teamAssetsKey(Long teamId) {
+        return "teamAssets:" + teamId;
+    }
+
+    public static String playerAssetsKey(Long playerId) {
+        return "playerAssets:" + playerId;
+    }
+
+    public long version(String key) {
+        return versions.get(key);
+    }
+
+    /**
+     * Reads versions straight from Redis, past the local copy, for callers that have to know
+     * whether a writer bumped one a moment ago.
+     *
+     * @return the versions in the order of {@code keys}, 0 for one never stored, or null when
+     *         Redis could not be read
+     */
+    public List<Long> storedVersions(List<String> keys) {
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys.stream().map(key -> KEY_PREFIX + key).toList());
+        } catch (Exception e) {
+            log.warn("Could not read {} data versions: {}", keys.size(), e.getMessage());
+            return null;
+        }
+        if (values == null) {
+            return null;
+        }
+        try {
+            return values.stream().map(value -> value != null ? Long.parseLong(value) : 0L).toList();
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed data version among {}: {}", keys, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Moves the version forward. Called by {@link CacheInvalidator} once the change is committed,
+     * so a new ETag is never handed out before the data is visible. Without Redis the version
+     * only moves on this node until the next bump reaches Redis.
+     */
+    public void bump(String key) {
+        long now = System.currentTimeMillis();
+        long updated;
+        try {
+            Long stored = redisTemplate.execute(BUMP_SCRIPT, List.of(KEY_PREFIX + key), Long.toString(now),
+                    Long.toString(ttl.toMillis()));
+            updated = stored != null ? stored : now;
+        } catch (Exception e) {
+            log.warn("Could not store data version of {}, bumping it locally: {}", key, e.getMessage());
+            updated = Math.max(now, versions.asMap().getOrDefault(key, 0L) + 1);
+        }
+        updated = versions.asMap().merge(key, updated, Math::max);
+        log.debug("Data version of {} is now {}", key, updated);
+
+        try {
+            redisTemplate.convertAndSend(VERSION_CHANNEL, nodeId + "|" + key + "|" + updated);
+        } catch (Exception e) {
+            log.warn("Could not publish data version of {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Evaluates {@code If-None-Match}/{@code If-Modified-Since} against the versions a response
+     * depends on and sets {@code ETag} and {@code Last-Modified} on the response.
+     *
+     * @return true when the caller should stop and let the 304 go out
+     */
+    public static boolean checkNotModified(WebRequest request, long... versions) {
+        StringBuilder etag = new StringBuilder("\"");
+        long lastModified = 0;
+        for (int i = 0; i < versions.length; i++) {
+            if (i > 0) {
+                etag.append('-');
+            }
+            etag.append(Long.toString(versions[i], 36));
+            lastModified = Math.max(lastModified, versions[i]);
+        }
+        return request.checkNotModified(etag.append('"').toString(), lastModified);
+    }
+
+    /**
+     * Handles a message from {@link #VERSION_CHANNEL}, ignoring the ones this node sent.
+     */
+    public void onVersionMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            versions.asMap().merge(parts[1], Long.parseLong(parts[2]), Math::max);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed data version message: {}", message);
+        }
+    }
+
+    /**
+     * Reads the stored version, storing the current time first when there is none, so the first
+     * node to be asked decides it for all of them.
+     *
+     * @return the stored version, or null when Redis could not be read
+     */
+    private Long read(String key) {
+        String redisKey = KEY_PREFIX + key;
+        try {
+            String value = redisTemplate.opsForValue().get(redisKey);
+            if (value == null) {
+                redisTemplate.opsForValue().setIfAbsent(redisKey, Long.toString(System.currentTimeMillis()), ttl);
+                value = redisTemplate.opsForValue().get(redisKey);
+            }
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+        } catch (Exception e) {
+            log.warn("Could not read data version of {}: {}", key, e.getMessage());
+        }
+        return null;
+    }
+}
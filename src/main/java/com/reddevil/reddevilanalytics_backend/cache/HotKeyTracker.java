@@ -0,0 +1,120 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Approximate top-K of the most read keys of one cache. A sample of lookups is counted in a
+ * count-min sketch, and the keys with the highest estimates are kept as candidates. Counts are
+ * halved every {@code resetAfter} samples, so the ranking follows current traffic.
+ */
+public class HotKeyTracker {
+
+    public record HotKey(String key, long estimatedHits) {}
+
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final long[][] counts;
+    private final int widthMask;
+    private final int capacity;
+    private final double sampleRate;
+    private final long resetAfter;
+    private final Map<String, Long> candidates = new HashMap<>();
+    private long samples;
+
+    /**
+     * @param width sketch width, rounded up to a power of two
+     * @param capacity number of candidate keys kept
+     * @param sampleRate share of lookups counted, between 0 and 1
+     */
+    public HotKeyTracker(int width, int capacity, double sampleRate) {
+        int size = Integer.highestOneBit(Math.max(width, 16) - 1) << 1;
+        this.counts = new long[DEPTH][size];
+        this.widthMask = size - 1;
+        this.capacity = capacity;
+        this.sampleRate = sampleRate;
+        this.resetAfter = 10L * size;
+    }
+
+    public void record(String key) {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        synchronized (this) {
+            long estimate = increment(key);
+            if (candidates.size() < capacity || candidates.containsKey(key)) {
+                candidates.put(key, estimate);
+            } else {
+                Map.Entry<String, Long> coldest = coldestCandidate();
+                if (coldest != null && estimate > coldest.getValue()) {
+                    candidates.remove(coldest.getKey());
+                    candidates.put(key, estimate);
+                }
+            }
+
+            if (++samples >= resetAfter) {
+                halve();
+            }
+        }
+    }
+
+    /**
+     * @return up to {@code limit} keys, hottest first, with hits scaled back up by the sample rate
+     */
+    public synchronized List<HotKey> top(int limit) {
+        List<HotKey> hotKeys = new ArrayList<>(candidates.size());
+        candidates.forEach((key, estimate) -> hotKeys.add(new HotKey(key, Math.round(estimate / sampleRate))));
+        hotKeys.sort(Comparator.comparingLong(HotKey::estimatedHits).reversed());
+        return hotKeys.subList(0, Math.min(limit, hotKeys.size()));
+    }
+
+    public synchronized void reset() {
+        for (long[] row : counts) {
+            Arrays.fill(row, 0);
+        }
+        candidates.clear();
+        samples = 0;
+    }
+
+    private long increment(String key) {
+        int hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = index(hash, i);
+            estimate = Math.min(estimate, ++counts[i][index]);
+        }
+        return estimate;
+    }
+
+    private int index(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x45D9F3B;
+        h ^= h >>> 16;
+        return h & widthMask;
+    }
+
+    private Map.Entry<String, Long> coldestCandidate() {
+        Map.Entry<String, Long> coldest = null;
+        for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+            if (coldest == null || entry.getValue() < coldest.getValue()) {
+                coldest = entry;
+            }
+        }
+        return coldest;
+    }
+
+    private void halve() {
+        for (long[] row : counts) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>= 1;
+            }
+        }
+        candidates.replaceAll((key, estimate) -> estimate >> 1);
+        samples = 0;
+    }
+}
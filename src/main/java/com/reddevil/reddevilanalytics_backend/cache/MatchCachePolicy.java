@@ -0,0 +1,72 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import com.reddevil.reddevilanalytics_backend.domain.MatchStatus;
+import com.reddevil.reddevilanalytics_backend.dto.MatchHeroResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Cache lifetime of a match response derived from the state of the match: seconds while it is
+ * live, until kickoff while it is scheduled, and a day once it is over.
+ * The same policy drives the Redis/L1 TTL and the {@code Cache-Control} header, whose max-age
+ * is capped where the server copy can still be evicted by a change.
+ */
+@Component
+public class MatchCachePolicy {
+
+    private static final Duration MIN_TTL = Duration.ofSeconds(5);
+
+    private final Duration liveTtl;
+    private final Duration scheduledMaxAge;
+    private final Duration finishedTtl;
+    private final Duration finishedMaxAge;
+    private final Duration defaultTtl;
+
+    public MatchCachePolicy(
+            @Value("${app.cache.match.live-ttl:15000}") long liveTtlMillis,
+            @Value("${app.cache.match.scheduled-max-age:300000}") long scheduledMaxAgeMillis,
+            @Value("${app.cache.match.finished-ttl:86400000}") long finishedTtlMillis,
+            @Value("${app.cache.match.finished-max-age:3600000}") long finishedMaxAgeMillis,
+            @Value("${app.cache.match.default-ttl:300000}") long defaultTtlMillis) {
+        this.liveTtl = Duration.ofMillis(liveTtlMillis);
+        this.scheduledMaxAge = Duration.ofMillis(scheduledMaxAgeMillis);
+        this.finishedTtl = Duration.ofMillis(finishedTtlMillis);
+        this.finishedMaxAge = Duration.ofMillis(finishedMaxAgeMillis);
+        this.defaultTtl = Duration.ofMillis(defaultTtlMillis);
+    }
+
+    public CachePolicy forHero(MatchHeroResponse hero) {
+        MatchStatus status = hero.getStatus() != null ? MatchStatus.valueOf(hero.getStatus()) : null;
+        return policy(status, hero.getMatchDate());
+    }
+
+    public CachePolicy policy(MatchStatus status, LocalDateTime kickoff) {
+        if (status == null) {
+            return new CachePolicy(defaultTtl, CacheControl.noCache().getHeaderValue());
+        }
+        return switch (status) {
+            case LIVE -> new CachePolicy(liveTtl,
+                    CacheControl.maxAge(liveTtl).cachePublic().getHeaderValue());
+            case SCHEDULED -> {
+                Duration untilKickoff = kickoff != null
+                        ? Duration.between(LocalDateTime.now(), kickoff)
+                        : defaultTtl;
+                Duration ttl = untilKickoff.compareTo(MIN_TTL) < 0 ? MIN_TTL : untilKickoff;
+                // Predictions and logos can still change before kickoff, so clients revalidate sooner
+                Duration maxAge = ttl.compareTo(scheduledMaxAge) < 0 ? ttl : scheduledMaxAge;
+                yield new CachePolicy(ttl, CacheControl.maxAge(maxAge).cachePublic().getHeaderValue());
+            }
+            // Results get corrected after full time; the server copy is evicted then and a load that
+            // raced the correction is not put back, but it still expires daily in case Redis could
+            // not tell. Clients revalidate against the ETag once their shorter max-age runs out
+            case FINISHED, CANCELLED -> new CachePolicy(finishedTtl,
+                    CacheControl.maxAge(finishedMaxAge).cachePublic().getHeaderValue());
+            case POSTPONED -> new CachePolicy(defaultTtl,
+                    CacheControl.maxAge(defaultTtl).cachePublic().getHeaderValue());
+        };
+    }
+}
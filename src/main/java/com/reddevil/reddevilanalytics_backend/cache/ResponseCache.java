@@ -0,0 +1,353 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches rendered JSON response bodies per endpoint and parameters. A hit is handed to the
+ * controller as bytes and written out as-is: no entity mapping and no JSON round trip.
+ *
+ * <p>Concurrent misses on one key share a single load, and hits close to expiry trigger a
+ * background refresh (probabilistic early expiration), so an entry expiring under load does
+ * not turn into a burst of identical queries.
+ *
+ * <p>Writers evict after their commit, which a load that read the database before it can
+ * outlast. Entries are therefore tied to a data version: a load whose version moved while it
+ * ran is not cached, and one whose version moves while it is being put is evicted again.
+ * Entries keyed by a cache generation need no version, a late put lands under a retired key.
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+    public static final String STANDINGS = "standingsResponse";
+    public static final String MATCH_HERO = "matchHeroResponse";
+    public static final String TEAM_ASSETS = "teamAssetsResponse";
+    public static final String PLAYER_ASSETS = "playerAssetsResponse";
+    public static final String STANDINGS_PROJECTION = "standingsProjectionResponse";
+
+    public static final Map<String, Duration> TTLS = Map.of(
+            STANDINGS, Duration.ofHours(12),
+            MATCH_HERO, Duration.ofMinutes(5),
+            TEAM_ASSETS, Duration.ofDays(7),
+            PLAYER_ASSETS, Duration.ofDays(7),
+            // Outlasts a match; written on every change and evicted once no match is live
+            STANDINGS_PROJECTION, Duration.ofHours(3));
+
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final CacheManager cacheManager;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final JsonMapper jsonMapper;
+    private final double refreshAheadBeta;
+    private final double refreshAheadWindow;
+
+    private final Map<String, CompletableFuture<Optional<CachedResponse>>> inFlight = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(1, 4, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(256), new CustomizableThreadFactory("cache-refresh-"),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    public ResponseCache(CacheManager cacheManager, DataVersionRegistry dataVersionRegistry, JsonMapper jsonMapper,
+                         @Value("${app.cache.refresh-ahead.beta:1.0}") double refreshAheadBeta,
+                         @Value("${app.cache.refresh-ahead.window:0.1}") double refreshAheadWindow) {
+        this.cacheManager = cacheManager;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.jsonMapper = jsonMapper;
+        this.refreshAheadBeta = refreshAheadBeta;
+        this.refreshAheadWindow = refreshAheadWindow;
+    }
+
+    /**
+     * Returns the cached body, or renders and caches what the loader returns with the
+     * cache's default TTL. An empty loader result is not cached.
+     *
+     * @param versionKey the {@link DataVersionRegistry} key the body depends on, or null when
+     *                   {@code key} carries a cache generation
+     */
+    public <T> Optional<CachedResponse> get(String cacheName, Object key, String versionKey,
+                                            Supplier<Optional<T>> loader) {
+        CachePolicy defaultPolicy = new CachePolicy(TTLS.getOrDefault(cacheName, DEFAULT_TTL), null);
+        return get(cacheName, key, versionKey, loader, body -> defaultPolicy);
+    }
+
+    /**
+     * Like {@link #get(String, Object, String, Supplier)}, with TTL and {@code Cache-Control}
+     * derived from the loaded body.
+     */
+    public <T> Optional<CachedResponse> get(String cacheName, Object key, String versionKey,
+                                            Supplier<Optional<T>> loader, Function<? super T, CachePolicy> policy) {
+        Cache cache = cacheManager.getCache(cacheName);
+        CachedResponse cached = cache != null ? cache.get(key, CachedResponse.class) : null;
+        if (cached != null) {
+            if (shouldRefreshEarly(cached)) {
+                refreshAsync(cache, cacheName, key, versionKey, loader, policy);
+            }
+            return Optional.of(cached);
+        }
+
+        try {
+            return load(cache, cacheName, key, versionKey, loader, policy).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Like {@link #get(String, Object, String, Supplier, Function)} for several keys: hits come from the
+     * cache and every miss from one call to {@code loader}, which returns the bodies it found by
+     * key. Keys it leaves out are missing from the result and not cached. Misses are not shared
+     * with concurrent loads of the same keys.
+     *
+     * @return rendered bodies in the order of {@code keys}
+     */
+    public <K, T> Map<K, CachedResponse> getAll(String cacheName, Collection<K> keys, Function<? super K, String> versionKey,
+                                                Function<List<K>, Map<K, T>> loader,
+                                                Function<? super T, CachePolicy> policy) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Map<K, CachedResponse> found = new LinkedHashMap<>();
+        List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            CachedResponse cached = cache != null ? cache.get(key, CachedResponse.class) : null;
+            if (cached == null) {
+                missing.add(key);
+                continue;
+            }
+            if (shouldRefreshEarly(cached)) {
+                refreshAsync(cache, cacheName, key, versionKey != null ? versionKey.apply(key) : null,
+                        () -> Optional.ofNullable(loader.apply(List.of(key)).get(key)), policy);
+            }
+            found.put(key, cached);
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        Map<K, Long> versions = storedVersions(missing, versionKey);
+        long start = System.nanoTime();
+        Map<K, T> bodies;
+        try {
+            bodies = loader.apply(missing);
+        } catch (RuntimeException e) {
+            recordLoad(cache, System.nanoTime() - start, false);
+            throw e;
+        }
+        long loadNanos = System.nanoTime() - start;
+        recordLoad(cache, loadNanos, true);
+        int loadMillis = (int) TimeUnit.NANOSECONDS.toMillis(loadNanos);
+
+        Map<K, CachedResponse> loaded = new HashMap<>();
+        bodies.forEach((key, body) -> loaded.put(key, render(body, policy.apply(body), loadMillis)));
+        if (cache != null) {
+            putLoaded(cache, loaded, versionKey, versions);
+        }
+
+        Map<K, CachedResponse> ordered = new LinkedHashMap<>();
+        for (K key : keys) {
+            CachedResponse response = found.containsKey(key) ? found.get(key) : loaded.get(key);
+            if (response != null) {
+                ordered.put(key, response);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Reads a body that is only ever written with {@link #put(String, Object, Object)}.
+     */
+    public Optional<CachedResponse> getIfPresent(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return Optional.ofNullable(cache != null ? cache.get(key, CachedResponse.class) : null);
+    }
+
+    /**
+     * Renders a body its owner keeps current itself and caches it with the cache's default TTL,
+     * replacing any earlier one.
+     */
+    public CachedResponse put(String cacheName, Object key, Object body) {
+        CachedResponse rendered = render(body, new CachePolicy(TTLS.getOrDefault(cacheName, DEFAULT_TTL), null), 0);
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.put(key, rendered);
+        }
+        return rendered;
+    }
+
+    /**
+     * Evicts straight away; writers go through {@link CacheInvalidator}, which calls this after commit.
+     */
+    public void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    public void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+            log.debug("Cleared response cache {}", cacheName);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Runs the loader once per key at a time; callers arriving while it runs wait for its result.
+     */
+    private <T> CompletableFuture<Optional<CachedResponse>> load(Cache cache, String cacheName, Object key,
+                                                                 String versionKey, Supplier<Optional<T>> loader,
+                                                                 Function<? super T, CachePolicy> policy) {
+        String flightKey = cacheName + "::" + key;
+        CompletableFuture<Optional<CachedResponse>> flight = new CompletableFuture<>();
+        CompletableFuture<Optional<CachedResponse>> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            Function<Object, String> versionOf = versionKey != null ? ignored -> versionKey : null;
+            Map<Object, Long> versions = storedVersions(List.of(key), versionOf);
+            long start = System.nanoTime();
+            Optional<T> body;
+            try {
+                body = loader.get();
+            } catch (RuntimeException e) {
+                recordLoad(cache, System.nanoTime() - start, false);
+                throw e;
+            }
+            long loadNanos = System.nanoTime() - start;
+            recordLoad(cache, loadNanos, true);
+            int loadMillis = (int) TimeUnit.NANOSECONDS.toMillis(loadNanos);
+
+            Optional<CachedResponse> rendered = body.map(value -> render(value, policy.apply(value), loadMillis));
+            if (cache != null && rendered.isPresent()) {
+                putLoaded(cache, Map.of(key, rendered.get()), versionOf, versions);
+            }
+            flight.complete(rendered);
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+        return flight;
+    }
+
+    private <T> void refreshAsync(Cache cache, String cacheName, Object key, String versionKey,
+                                  Supplier<Optional<T>> loader, Function<? super T, CachePolicy> policy) {
+        if (inFlight.containsKey(cacheName + "::" + key)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                load(cache, cacheName, key, versionKey, loader, policy).join();
+                log.debug("Refreshed {} entry {} ahead of expiry", cacheName, key);
+            } catch (Exception e) {
+                log.warn("Early refresh of {} entry {} failed: {}", cacheName, key, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Puts bodies loaded while their data versions stood at {@code versions}, leaving out those
+     * whose version has moved since. One that moves during the put is evicted again, because the
+     * writer's own evict may have come first. Without versions everything is put.
+     */
+    private <K> void putLoaded(Cache cache, Map<K, CachedResponse> loaded, Function<? super K, String> versionKey,
+                               Map<K, Long> versions) {
+        Map<K, Long> current = versions != null ? storedVersions(loaded.keySet(), versionKey) : null;
+        List<K> put = new ArrayList<>();
+        loaded.forEach((key, response) -> {
+            if (current != null && !current.get(key).equals(versions.get(key))) {
+                log.debug("Not caching {} entry {}, its data changed while it loaded", cache.getName(), key);
+                return;
+            }
+            cache.put(key, response);
+            put.add(key);
+        });
+
+        Map<K, Long> after = current != null && !put.isEmpty() ? storedVersions(put, versionKey) : null;
+        if (after != null) {
+            put.stream()
+                    .filter(key -> !after.get(key).equals(versions.get(key)))
+                    .forEach(cache::evict);
+        }
+    }
+
+    /**
+     * @return the stored data version of each key, or null when there are none to guard with
+     */
+    private <K> Map<K, Long> storedVersions(Collection<K> keys, Function<? super K, String> versionKey) {
+        if (versionKey == null) {
+            return null;
+        }
+        List<K> ordered = List.copyOf(keys);
+        List<Long> stored = dataVersionRegistry.storedVersions(ordered.stream().map(versionKey).toList());
+        if (stored == null) {
+            return null;
+        }
+        Map<K, Long> versions = new HashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            versions.put(ordered.get(i), stored.get(i));
+        }
+        return versions;
+    }
+
+    private boolean shouldRefreshEarly(CachedResponse cached) {
+        return shouldRefreshEarly(cached, System.currentTimeMillis(), ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * XFetch: the closer the entry is to expiry and the slower it was to build, the likelier a
+     * reader refreshes it early. {@code -ln(random)} spreads the refreshes across readers. Loads
+     * take milliseconds against TTLs of minutes to days, so on top of that every entry has a
+     * refresh window, the last {@code window} share of its TTL, across which the odds grow from
+     * none to certain.
+     */
+    boolean shouldRefreshEarly(CachedResponse cached, long now, double random) {
+        long remaining = cached.expiresAt() - now;
+        double headStart = Math.max(cached.loadMillis(), 1) * refreshAheadBeta * -Math.log(random);
+        double window = cached.ttlMillis() * refreshAheadWindow;
+        return remaining <= headStart || random * window > remaining;
+    }
+
+    private static void recordLoad(Cache cache, long nanos, boolean success) {
+        if (cache instanceof TwoTierCache tiered) {
+            tiered.recordLoad(nanos, success);
+        }
+    }
+
+    private CachedResponse render(Object body, CachePolicy policy, int loadMillis) {
+        return new CachedResponse(jsonMapper.writeValueAsBytes(body), MediaType.APPLICATION_JSON_VALUE,
+                policy.cacheControl(), System.currentTimeMillis() + policy.ttl().toMillis(), policy.ttl().toMillis(),
+                loadMillis);
+    }
+}
@@ -0,0 +1,200 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A per-node Caffeine tier (L1) in front of a shared Redis cache (L2). Reads fill L1 from L2;
+ * writes go to both and are broadcast so other nodes drop their L1 copy.
+ * L1 keys are the string form of the cache key, which is also what travels in eviction messages.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final TwoTierCacheManager cacheManager;
+    private final HotKeyTracker hotKeys;
+    private final Timer loadSuccess;
+    private final Timer loadFailure;
+
+    public record Stats(String name, long localHits, long remoteHits, long misses, long puts,
+                        long evictions, long localSize) {}
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    TwoTierCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+                 boolean allowNullValues, TwoTierCacheManager cacheManager, HotKeyTracker hotKeys,
+                 Timer loadSuccess, Timer loadFailure) {
+        super(allowNullValues);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.cacheManager = cacheManager;
+        this.hotKeys = hotKeys;
+        this.loadSuccess = loadSuccess;
+        this.loadFailure = loadFailure;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        hotKeys.record(localKey);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            misses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        Object storeValue = toStoreValue(wrapper.get());
+        local.put(localKey, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value = remote.get(key, () -> {
+            long start = System.nanoTime();
+            try {
+                T loaded = valueLoader.call();
+                recordLoad(System.nanoTime() - start, true);
+                return loaded;
+            } catch (Exception e) {
+                recordLoad(System.nanoTime() - start, false);
+                throw e;
+            }
+        });
+        local.put(localKey(key), toStoreValue(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        puts.increment();
+        remote.put(key, value);
+        local.put(localKey(key), toStoreValue(value));
+        cacheManager.publishEviction(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.increment();
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        cacheManager.publishEviction(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        evictions.increment();
+        remote.clear();
+        local.invalidateAll();
+        cacheManager.publishEviction(name, null);
+    }
+
+    /**
+     * Reads L1 only, for callers that batch their L2 reads themselves.
+     */
+    public ValueWrapper getLocal(Object key) {
+        String localKey = localKey(key);
+        hotKeys.record(localKey);
+        Object value = local.getIfPresent(localKey);
+        if (value == null) {
+            return null;
+        }
+        localHits.increment();
+        return toValueWrapper(value);
+    }
+
+    /**
+     * Fills L1 with a value the caller read from L2 itself, counted as an L2 hit.
+     */
+    public void putLocal(Object key, Object value) {
+        remoteHits.increment();
+        local.put(localKey(key), toStoreValue(value));
+    }
+
+    /**
+     * Records the time taken to build a value, for callers that load outside {@link #get(Object, Callable)}.
+     */
+    public void recordLoad(long nanos, boolean success) {
+        (success ? loadSuccess : loadFailure).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public Stats stats() {
+        return new Stats(name, localHits(), remoteHits(), misses(), puts(), evictions(), localSize());
+    }
+
+    public List<HotKeyTracker.HotKey> hotKeys(int limit) {
+        return hotKeys.top(limit);
+    }
+
+    void evictLocal(String localKey) {
+        if (localKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    long localHits() {
+        return localHits.sum();
+    }
+
+    long remoteHits() {
+        return remoteHits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long puts() {
+        return puts.sum();
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+    long localSize() {
+        return local.estimatedSize();
+    }
+
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
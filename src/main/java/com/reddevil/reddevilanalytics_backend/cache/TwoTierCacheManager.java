@@ -0,0 +1,213 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the {@link RedisCacheManager} so every cache gets a bounded Caffeine tier per node.
+ * Writes and evictions are published on {@link #EVICTION_CHANNEL}; each node drops the key
+ * from its own L1 when it receives a message from another node.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    public static final String EVICTION_CHANNEL = "cache:evictions";
+
+    private static final String ALL_KEYS = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisCacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final Map<String, Duration> localTtls;
+    private final HotKeySettings hotKeySettings;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Sizing of the per-cache hot key trackers.
+     */
+    public record HotKeySettings(int sketchWidth, int topK, double sampleRate) {}
+
+    /**
+     * @param localTtls per-cache L1 TTLs, for caches whose Redis TTL is shorter than {@code localTtl}
+     */
+    public TwoTierCacheManager(RedisCacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry, long localMaxSize, Duration localTtl,
+                               Map<String, Duration> localTtls, HotKeySettings hotKeySettings) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.localTtls = localTtls;
+        this.hotKeySettings = hotKeySettings;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * The caches created so far; caches are created on first use.
+     */
+    public Collection<TwoTierCache> getCaches() {
+        return caches.values();
+    }
+
+    void publishEviction(String cacheName, String localKey) {
+        String message = nodeId + "|" + cacheName + "|" + (localKey != null ? localKey : ALL_KEYS);
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("Could not publish cache eviction for {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * Handles a message from {@link #EVICTION_CHANNEL}, ignoring the ones this node sent.
+     */
+    public void onEvictionMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+            log.debug("Dropped L1 entry {} of cache {} on remote eviction", parts[2], parts[1]);
+        }
+    }
+
+    private TwoTierCache createCache(String name, Cache remote) {
+        Duration ttl = localTtls.getOrDefault(name, localTtl);
+        boolean allowNullValues = !(remote instanceof RedisCache redisCache)
+                || redisCache.getCacheConfiguration().getAllowCacheNullValues();
+
+        Counter sizeEvictions = evictionCounter(name, "l1", "size");
+        Counter expirations = evictionCounter(name, "l1", "expired");
+        TwoTierCache cache = new TwoTierCache(name,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaxSize)
+                        .expireAfter(new LocalExpiry(ttl.toNanos()))
+                        .evictionListener((String key, Object value, RemovalCause cause) ->
+                                (cause == RemovalCause.EXPIRED ? expirations : sizeEvictions).increment())
+                        .build(),
+                remote, allowNullValues, this,
+                new HotKeyTracker(hotKeySettings.sketchWidth(), hotKeySettings.topK(), hotKeySettings.sampleRate()),
+                loadTimer(name, "success"), loadTimer(name, "failure"));
+
+        registerMetrics(cache);
+        log.info("Created two-tier cache {} with L1 TTL {}", name, ttl);
+        return cache;
+    }
+
+    private void registerMetrics(TwoTierCache cache) {
+        String name = cache.getName();
+        FunctionCounter.builder("cache.tier.gets", cache, TwoTierCache::localHits)
+                .tags("cache", name, "tier", "l1", "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.tier.gets", cache, TwoTierCache::remoteHits)
+                .tags("cache", name, "tier", "l2", "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.tier.gets", cache, TwoTierCache::misses)
+                .tags("cache", name, "tier", "l2", "result", "miss")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("cache.puts", cache, TwoTierCache::puts)
+                .tags("cache", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", cache, TwoTierCache::evictions)
+                .tags("cache", name, "tier", "l2", "reason", "explicit")
+                .register(meterRegistry);
+
+        Gauge.builder("cache.tier.hit.ratio", cache, c -> ratio(c.localHits(), c.remoteHits() + c.misses()))
+                .tags("cache", name, "tier", "l1")
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.hit.ratio", cache, c -> ratio(c.remoteHits(), c.misses()))
+                .tags("cache", name, "tier", "l2")
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.size", cache, TwoTierCache::localSize)
+                .tags("cache", name, "tier", "l1")
+                .register(meterRegistry);
+    }
+
+    private Counter evictionCounter(String cacheName, String tier, String reason) {
+        return Counter.builder("cache.evictions")
+                .tags("cache", cacheName, "tier", tier, "reason", reason)
+                .register(meterRegistry);
+    }
+
+    private Timer loadTimer(String cacheName, String result) {
+        return Timer.builder("cache.load")
+                .description("Time taken to build a value on a miss")
+                .tags("cache", cacheName, "result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fixed L1 TTL, shortened for cached responses that expire sooner on their own.
+     */
+    private record LocalExpiry(long ttlNanos) implements Expiry<String, Object> {
+
+        @Override
+        public long expireAfterCreate(String key, Object value, long currentTime) {
+            if (value instanceof CachedResponse response) {
+                return Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(Math.max(response.remainingMillis(), 0)));
+            }
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static double ratio(long hits, long others) {
+        long total = hits + others;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
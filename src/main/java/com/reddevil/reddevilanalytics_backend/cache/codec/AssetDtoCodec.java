@@ -0,0 +1,39 @@
+package com.reddevil.reddevilanalytics_backend.cache.codec;
+
+import com.reddevil.reddevilanalytics_backend.provider.dto.AssetDTO;
+
+public class AssetDtoCodec implements CacheCodec<AssetDTO> {
+
+    @Override
+    public byte tag() {
+        return 2;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<AssetDTO> type() {
+        return AssetDTO.class;
+    }
+
+    @Override
+    public void write(AssetDTO value, BinaryWriter out) {
+        out.writeString(value.getLogoUrl())
+                .writeString(value.getBannerUrl())
+                .writeString(value.getPhotoUrl())
+                .writeString(value.getCutoutUrl());
+    }
+
+    @Override
+    public AssetDTO read(BinaryReader in, int version) {
+        return AssetDTO.builder()
+                .logoUrl(in.readString())
+                .bannerUrl(in.readString())
+                .photoUrl(in.readString())
+                .cutoutUrl(in.readString())
+                .build();
+    }
+}
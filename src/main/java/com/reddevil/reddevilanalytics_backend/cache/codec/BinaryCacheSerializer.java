@@ -0,0 +1,89 @@
+package com.reddevil.reddevilanalytics_backend.cache.codec;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact cache values: a marker byte, the codec tag, the codec's schema version and the
+ * codec's fields, without class names or field names.
+ *
+ * <p>Entries this node cannot read, written as JSON before this format or by a newer schema
+ * version during a rolling deploy, read as a miss and are reloaded rather than failing the request.
+ */
+public class BinaryCacheSerializer implements RedisSerializer<Object> {
+
+    private static final byte MARKER = (byte) 0xCB;
+    private static final byte NULL_TAG = 0;
+
+    private final Map<Byte, CacheCodec<?>> codecsByTag = new HashMap<>();
+    private final Map<Class<?>, CacheCodec<?>> codecsByType = new HashMap<>();
+
+    public BinaryCacheSerializer(List<CacheCodec<?>> codecs) {
+        for (CacheCodec<?> codec : codecs) {
+            if (codec.tag() == NULL_TAG || codecsByTag.putIfAbsent(codec.tag(), codec) != null) {
+                throw new IllegalArgumentException("Duplicate or reserved cache codec tag " + codec.tag());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof NullValue) {
+            return new byte[] {MARKER, NULL_TAG};
+        }
+
+        CacheCodec<Object> codec = codecFor(value.getClass());
+        try {
+            BinaryWriter out = new BinaryWriter(64)
+                    .writeByte(MARKER)
+                    .writeByte(codec.tag())
+                    .writeByte(codec.version());
+            codec.write(value, out);
+            return out.toByteArray();
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not encode " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length < 2 || bytes[0] != MARKER) {
+            return null;
+        }
+        if (bytes[1] == NULL_TAG) {
+            return NullValue.INSTANCE;
+        }
+
+        CacheCodec<?> codec = codecsByTag.get(bytes[1]);
+        if (codec == null || bytes.length < 3 || bytes[2] > codec.version()) {
+            return null;
+        }
+        try {
+            return codec.read(new BinaryReader(bytes, 3), bytes[2]);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not decode " + codec.type().getSimpleName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheCodec<Object> codecFor(Class<?> type) {
+        CacheCodec<?> codec = codecsByType.get(type);
+        if (codec == null) {
+            codec = codecsByType.entrySet().stream()
+                    .filter(entry -> entry.getKey().isAssignableFrom(type))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElseThrow(() -> new SerializationException("No cache codec for " + type.getName()));
+        }
+        return (CacheCodec<Object>) codec;
+    }
+}
@@ -0,0 +1,73 @@
+package com.reddevil.reddevilanalytics_backend.cache.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Reads what {@link BinaryWriter} wrote. Truncated or corrupt input fails with an
+ * {@link IllegalArgumentException}.
+ */
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalArgumentException("Unexpected end of cache entry");
+        }
+        return buffer[position++];
+    }
+
+    public long readVarLong() {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in cache entry");
+    }
+
+    public Long readNullableLong() {
+        return readByte() == 0 ? null : readVarLong();
+    }
+
+    public String readString() {
+        long length = readVarLong() - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.length - position) {
+            throw new IllegalArgumentException("String length exceeds cache entry");
+        }
+        String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+        position += (int) length;
+        return value;
+    }
+
+    public BigDecimal readDecimal() {
+        int scale = readByte();
+        if (scale < 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(readVarLong(), scale);
+    }
+
+    public LocalDateTime readDateTime() {
+        if (readByte() == 0) {
+            return null;
+        }
+        long epochSecond = readVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, (int) readVarLong(), ZoneOffset.UTC);
+    }
+}
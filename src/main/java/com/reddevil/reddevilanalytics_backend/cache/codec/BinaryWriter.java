@@ -0,0 +1,97 @@
+package com.reddevil.reddevilanalytics_backend.cache.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer with variable-length integers, so small ids and counts take one or two bytes.
+ * Nullable values are prefixed so that null costs a single byte.
+ */
+public final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public BinaryWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Zigzag varint: values close to zero, negative or not, take the fewest bytes.
+     */
+    public BinaryWriter writeVarLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        ensureCapacity(10);
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        buffer[position++] = (byte) zigzag;
+        return this;
+    }
+
+    public BinaryWriter writeNullableLong(Long value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        return writeByte(1).writeVarLong(value);
+    }
+
+    /**
+     * UTF-8 bytes prefixed with length + 1; a zero prefix is null.
+     */
+    public BinaryWriter writeString(String value) {
+        if (value == null) {
+            return writeVarLong(0);
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    /**
+     * Scale and unscaled value; a scale byte of -1 is null. The unscaled value must fit a long.
+     */
+    public BinaryWriter writeDecimal(BigDecimal value) {
+        if (value == null) {
+            return writeByte(-1);
+        }
+        if (value.scale() < 0) {
+            value = value.setScale(0);
+        } else if (value.scale() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Decimal scale too large for cache entry: " + value.scale());
+        }
+        return writeByte(value.scale()).writeVarLong(value.unscaledValue().longValueExact());
+    }
+
+    public BinaryWriter writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        return writeByte(1)
+                .writeVarLong(value.toEpochSecond(ZoneOffset.UTC))
+                .writeVarLong(value.getNano());
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.reddevil.reddevilanalytics_backend.cache.codec;
+
+/**
+ * Binary encoding of one cached value type for {@link BinaryCacheSerializer}.
+ *
+ * <p>{@link #version()} is written with every entry and handed back to {@link #read}, so a codec
+ * can keep reading the entries of its older versions after a field is added. Entries of a newer
+ * version than the running code knows read as a miss.
+ */
+public interface CacheCodec<T> {
+
+    /**
+     * Identifies the value type inside an entry; unique per serializer and never reused.
+     */
+    byte tag();
+
+    int version();
+
+    Class<T> type();
+
+    void write(T value, BinaryWriter out);
+
+    T read(BinaryReader in, int version);
+}
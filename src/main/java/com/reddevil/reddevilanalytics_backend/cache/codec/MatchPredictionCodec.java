@@ -0,0 +1,55 @@
+package com.reddevil.reddevilanalytics_backend.cache.codec;
+
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.domain.MatchPrediction;
+
+/**
+ * Keeps the probabilities, expected scores and only the ID of the match.
+ */
+public class MatchPredictionCodec implements CacheCodec<MatchPrediction> {
+
+    @Override
+    public byte tag() {
+        return 3;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<MatchPrediction> type() {
+        return MatchPrediction.class;
+    }
+
+    @Override
+    public void write(MatchPrediction value, BinaryWriter out) {
+        out.writeNullableLong(value.getId())
+                .writeNullableLong(value.getMatch() != null ? value.getMatch().getId() : null)
+                .writeDecimal(value.getHomeWinProbability())
+                .writeDecimal(value.getDrawProbability())
+                .writeDecimal(value.getAwayWinProbability())
+                .writeDecimal(value.getPredictedHomeScore())
+                .writeDecimal(value.getPredictedAwayScore())
+                .writeDecimal(value.getConfidenceScore())
+                .writeDateTime(value.getCreatedAt());
+    }
+
+    @Override
+    public MatchPrediction read(BinaryReader in, int version) {
+        Long id = in.readNullableLong();
+        Long matchId = in.readNullableLong();
+        return MatchPrediction.builder()
+                .id(id)
+                .match(matchId != null ? Match.builder().id(matchId).build() : null)
+                .homeWinProbability(in.readDecimal())
+                .drawProbability(in.readDecimal())
+                .awayWinProbability(in.readDecimal())
+                .predictedHomeScore(in.readDecimal())
+                .predictedAwayScore(in.readDecimal())
+                .confidenceScore(in.readDecimal())
+                .createdAt(in.readDateTime())
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.reddevil.reddevilanalytics_backend.cache.codec;
+
+import com.reddevil.reddevilanalytics_backend.domain.Provider;
+import com.reddevil.reddevilanalytics_backend.domain.Team;
+import com.reddevil.reddevilanalytics_backend.domain.TeamAsset;
+
+/**
+ * Keeps the asset URLs and only the ID of the team; cached assets are read for their URLs.
+ */
+public class TeamAssetCodec implements CacheCodec<TeamAsset> {
+
+    @Override
+    public byte tag() {
+        return 1;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<TeamAsset> type() {
+        return TeamAsset.class;
+    }
+
+    @Override
+    public void write(TeamAsset value, BinaryWriter out) {
+        out.writeNullableLong(value.getId())
+                .writeNullableLong(value.getTeam() != null ? value.getTeam().getId() : null)
+                .writeString(value.getLogoUrl())
+                .writeString(value.getBannerUrl())
+                .writeString(value.getProvider() != null ? value.getProvider().name() : null)
+                .writeDateTime(value.getUpdatedAt());
+    }
+
+    @Override
+    public TeamAsset read(BinaryReader in, int version) {
+        Long id = in.readNullableLong();
+        Long teamId = in.readNullableLong();
+        String logoUrl = in.readString();
+        String bannerUrl = in.readString();
+        String provider = in.readString();
+        return TeamAsset.builder()
+                .id(id)
+                .team(teamId != null ? Team.builder().id(teamId).build() : null)
+                .logoUrl(logoUrl)
+                .bannerUrl(bannerUrl)
+                .provider(provider != null ? Provider.valueOf(provider) : null)
+                .updatedAt(in.readDateTime())
+                .build();
+    }
+}
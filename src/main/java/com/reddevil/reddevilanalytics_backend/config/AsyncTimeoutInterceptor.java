@@ -0,0 +1,34 @@
+package com.reddevil.reddevilanalytics_backend.config;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Lets a handler give its own async request, such as a streamed export, a longer timeout than
+ * the default every other async request keeps. The timeout is applied just before the request
+ * goes async, the only point where the async request itself is in reach.
+ */
+public class AsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private static final String TIMEOUT_ATTRIBUTE = AsyncTimeoutInterceptor.class.getName() + ".timeout";
+
+    /**
+     * Called from the handler, before it returns the async body.
+     */
+    public static void setTimeout(WebRequest webRequest, long timeoutMillis) {
+        webRequest.setAttribute(TIMEOUT_ATTRIBUTE, timeoutMillis, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long timeout
+                && request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(timeout);
+        }
+    }
+}
@@ -1,17 +1,39 @@
 package com.reddevil.reddevilanalytics_backend.config;
 
+import com.reddevil.reddevilanalytics_backend.cache.CacheGenerations;
+import com.reddevil.reddevilanalytics_backend.cache.CachedResponse;
+import com.reddevil.reddevilanalytics_backend.cache.CachedResponseRedisSerializer;
+import com.reddevil.reddevilanalytics_backend.cache.DataVersionRegistry;
+import com.reddevil.reddevilanalytics_backend.cache.ResponseCache;
+import com.reddevil.reddevilanalytics_backend.cache.TwoTierCacheManager;
+import com.reddevil.reddevilanalytics_backend.cache.codec.AssetDtoCodec;
+import com.reddevil.reddevilanalytics_backend.cache.codec.BinaryCacheSerializer;
+import com.reddevil.reddevilanalytics_backend.cache.codec.MatchPredictionCodec;
+import com.reddevil.reddevilanalytics_backend.cache.codec.TeamAssetCodec;
+import com.reddevil.reddevilanalytics_backend.controller.StreamingController;
+import com.reddevil.reddevilanalytics_backend.rating.RatingService;
+import com.reddevil.reddevilanalytics_backend.service.MatchScheduleIndex;
+import com.reddevil.reddevilanalytics_backend.standings.StandingsProjectionService;
+import com.reddevil.reddevilanalytics_backend.stats.TeamStatsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -29,26 +51,104 @@ public class CacheConfig {
         return template;
     }
 
+    /**
+     * Binary values for the hot entity caches; see the codecs for what each entry keeps.
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public BinaryCacheSerializer cacheValueSerializer() {
+        return new BinaryCacheSerializer(List.of(
+                new TeamAssetCodec(),
+                new AssetDtoCodec(),
+                new MatchPredictionCodec()));
+    }
+
+    @Bean
+    public TwoTierCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            BinaryCacheSerializer cacheValueSerializer,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.local.max-size:10000}") long localMaxSize,
+            @Value("${app.cache.local.ttl:60000}") long localTtlMillis,
+            @Value("${app.cache.hot-keys.sketch-width:2048}") int hotKeySketchWidth,
+            @Value("${app.cache.hot-keys.top-k:32}") int hotKeyTopK,
+            @Value("${app.cache.hot-keys.sample-rate:0.1}") double hotKeySampleRate) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
                 .entryTtl(Duration.ofHours(1));
 
+        // Rendered response bodies are stored as raw bytes, not as JSON documents, and each
+        // carries its own expiry (see MatchCachePolicy for state-dependent lifetimes)
+        RedisCacheConfiguration responseConfig = defaultConfig
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new CachedResponseRedisSerializer()))
+                .disableCachingNullValues()
+                .entryTtl((key, value) -> value instanceof CachedResponse response
+                        ? Duration.ofMillis(Math.max(response.remainingMillis(), 1000))
+                        : Duration.ofHours(1));
+
+        RedisCacheConfiguration binaryConfig = defaultConfig
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer));
+
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         
         // Custom TTL per cache
-        cacheConfigurations.put("standings", defaultConfig.entryTtl(Duration.ofMinutes(30)));
         cacheConfigurations.put("fixtures", defaultConfig.entryTtl(Duration.ofHours(1)));
         cacheConfigurations.put("liveSnapshot", defaultConfig.entryTtl(Duration.ofSeconds(30)));
-        cacheConfigurations.put("teamAssets", defaultConfig.entryTtl(Duration.ofDays(7)));
-        cacheConfigurations.put("playerAssets", defaultConfig.entryTtl(Duration.ofDays(7)));
-        cacheConfigurations.put("nextMatch", defaultConfig.entryTtl(Duration.ofMinutes(5)));
+        cacheConfigurations.put("predictions", binaryConfig.entryTtl(Duration.ofDays(1)));
+        cacheConfigurations.put("teamAssets", binaryConfig.entryTtl(Duration.ofDays(7)));
+        cacheConfigurations.put("playerAssets", binaryConfig.entryTtl(Duration.ofDays(7)));
+        ResponseCache.TTLS.keySet().forEach(name -> cacheConfigurations.put(name, responseConfig));
 
-        return RedisCacheManager.builder(connectionFactory)
+        // L1 never outlives L2
+        Duration localTtl = Duration.ofMillis(localTtlMillis);
+        Map<String, Duration> localTtls = new HashMap<>();
+        localTtls.put("liveSnapshot", Duration.ofSeconds(30));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoTierCacheManager(redisCacheManager, stringRedisTemplate, meterRegistry,
+                localMaxSize, localTtl, localTtls,
+                new TwoTierCacheManager.HotKeySettings(hotKeySketchWidth, hotKeyTopK, hotKeySampleRate));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoTierCacheManager cacheManager,
+            DataVersionRegistry dataVersionRegistry,
+            CacheGenerations cacheGenerations,
+            RatingService ratingService,
+            TeamStatsService teamStatsService,
+            MatchScheduleIndex matchScheduleIndex,
+            StreamingController streamingController) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onEvictionMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoTierCacheManager.EVICTION_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> dataVersionRegistry.onVersionMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(DataVersionRegistry.VERSION_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> cacheGenerations.onGenerationMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CacheGenerations.GENERATION_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> ratingService.onRatingMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(RatingService.RATING_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> teamStatsService.onStatsMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TeamStatsService.STATS_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> matchScheduleIndex.onScheduleMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(MatchScheduleIndex.SCHEDULE_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> streamingController.onProjectionMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(StandingsProjectionService.PROJECTION_CHANNEL));
+        return container;
     }
 }
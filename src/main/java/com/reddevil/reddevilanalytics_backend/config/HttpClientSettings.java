@@ -0,0 +1,26 @@
+package com.reddevil.reddevilanalytics_backend.config;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Transport settings of one upstream, bound from {@code providers.<name>.http}. Durations
+ * without a unit are milliseconds. {@code maxPayloadSize} caps bodies a client reads as raw bytes
+ * instead of through the codecs.
+ */
+public record HttpClientSettings(
+    @DefaultValue("20") int maxConnections,
+    @DefaultValue("100") int pendingAcquireMaxCount,
+    @DefaultValue("5000") Duration pendingAcquireTimeout,
+    @DefaultValue("30000") Duration maxIdleTime,
+    @DefaultValue("300000") Duration maxLifeTime,
+    @DefaultValue("60000") Duration evictionInterval,
+    @DefaultValue("5000") Duration connectTimeout,
+    @DefaultValue("30000") Duration responseTimeout,
+    @DefaultValue("30000") Duration readTimeout,
+    @DefaultValue("true") boolean keepAlive,
+    @DefaultValue("true") boolean compression,
+    @DefaultValue("16MB") DataSize maxPayloadSize
+) {}
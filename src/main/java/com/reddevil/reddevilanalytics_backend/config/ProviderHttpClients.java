@@ -0,0 +1,82 @@
+package com.reddevil.reddevilanalytics_backend.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One connection pool per upstream, so a slow provider can only exhaust its own connections.
+ * Pools publish Reactor Netty's {@code reactor.netty.connection.provider.*} meters (active,
+ * idle and pending connections, acquire time) tagged with the provider name.
+ */
+@Slf4j
+@Component
+public class ProviderHttpClients {
+
+    public static final String API_FOOTBALL = "api-football";
+    public static final String FOOTBALL_DATA = "football-data";
+    public static final String THESPORTSDB = "thesportsdb";
+    public static final String AI_SERVICE = "ai-service";
+
+    private final Binder binder;
+    private final Map<String, ConnectionProvider> pools = new ConcurrentHashMap<>();
+
+    public ProviderHttpClients(Environment environment) {
+        this.binder = Binder.get(environment);
+    }
+
+    /**
+     * A new builder on the provider's pool; each caller configures its own base URL and headers.
+     */
+    public WebClient.Builder webClientBuilder(String provider) {
+        HttpClientSettings settings = settings(provider);
+        ConnectionProvider pool = pools.computeIfAbsent(provider, name -> createPool(name, settings));
+        
+        HttpClient httpClient = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.connectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, settings.keepAlive())
+                .keepAlive(settings.keepAlive())
+                .compress(settings.compression())
+                .responseTimeout(settings.responseTimeout())
+                // Added per request, so it is removed when the connection goes back to the pool idle
+                .doOnRequest((request, connection) -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(settings.readTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+        
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+
+    public HttpClientSettings settings(String provider) {
+        return binder.bindOrCreate("providers." + provider + ".http", HttpClientSettings.class);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pools.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private ConnectionProvider createPool(String provider, HttpClientSettings settings) {
+        log.info("Creating HTTP connection pool for {} with {} connections", provider, settings.maxConnections());
+        return ConnectionProvider.builder(provider)
+                .maxConnections(settings.maxConnections())
+                .pendingAcquireMaxCount(settings.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(settings.pendingAcquireTimeout())
+                .maxIdleTime(settings.maxIdleTime())
+                .maxLifeTime(settings.maxLifeTime())
+                .evictInBackground(settings.evictionInterval())
+                .metrics(true)
+                .build();
+    }
+}
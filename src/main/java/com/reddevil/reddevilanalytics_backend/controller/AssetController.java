@@ -1,16 +1,21 @@
 package com.reddevil.reddevilanalytics_backend.controller;
 
-import com.reddevil.reddevilanalytics_backend.domain.PlayerAsset;
-import com.reddevil.reddevilanalytics_backend.domain.TeamAsset;
+import com.reddevil.reddevilanalytics_backend.cache.CachedResponse;
+import com.reddevil.reddevilanalytics_backend.cache.DataVersionRegistry;
+import com.reddevil.reddevilanalytics_backend.cache.ResponseCache;
 import com.reddevil.reddevilanalytics_backend.dto.AssetResponse;
 import com.reddevil.reddevilanalytics_backend.service.AssetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Optional;
 
@@ -22,52 +27,68 @@ import java.util.Optional;
 public class AssetController {
 
     private final AssetService assetService;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final ResponseCache responseCache;
 
     @GetMapping("/teams/{teamId}")
     @Operation(summary = "Get team assets", 
                description = "Returns logo and banner URLs for a team")
-    public ResponseEntity<AssetResponse> getTeamAssets(
-            @Parameter(description = "Team ID") @PathVariable Long teamId) {
+    @ApiResponse(responseCode = "200", 
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = AssetResponse.class)))
+    public ResponseEntity<byte[]> getTeamAssets(
+            @Parameter(description = "Team ID") @PathVariable Long teamId,
+            WebRequest webRequest) {
         
         log.info("Getting team assets for team ID: {}", teamId);
         
-        Optional<TeamAsset> assetOpt = assetService.getTeamAssets(teamId);
+        if (DataVersionRegistry.checkNotModified(webRequest,
+                dataVersionRegistry.version(DataVersionRegistry.teamAssetsKey(teamId)))) {
+            return null;
+        }
+        
+        Optional<CachedResponse> response = responseCache.get(ResponseCache.TEAM_ASSETS, teamId, 
+                DataVersionRegistry.teamAssetsKey(teamId),
+                () -> assetService.getTeamAssets(teamId).map(asset -> AssetResponse.builder()
+                        .logoUrl(asset.getLogoUrl())
+                        .bannerUrl(asset.getBannerUrl())
+                        .build()));
         
-        if (assetOpt.isEmpty()) {
+        if (response.isEmpty()) {
             log.warn("No assets found for team ID: {}", teamId);
             return ResponseEntity.notFound().build();
         }
         
-        TeamAsset asset = assetOpt.get();
-        AssetResponse response = AssetResponse.builder()
-                .logoUrl(asset.getLogoUrl())
-                .bannerUrl(asset.getBannerUrl())
-                .build();
-        
-        return ResponseEntity.ok(response);
+        return response.get().toResponseEntity();
     }
 
     @GetMapping("/players/{playerId}")
     @Operation(summary = "Get player assets", 
                description = "Returns photo and cutout URLs for a player")
-    public ResponseEntity<AssetResponse> getPlayerAssets(
-            @Parameter(description = "Player ID") @PathVariable Long playerId) {
+    @ApiResponse(responseCode = "200", 
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = AssetResponse.class)))
+    public ResponseEntity<byte[]> getPlayerAssets(
+            @Parameter(description = "Player ID") @PathVariable Long playerId,
+            WebRequest webRequest) {
         
         log.info("Getting player assets for player ID: {}", playerId);
         
-        Optional<PlayerAsset> assetOpt = assetService.getPlayerAssets(playerId);
+        if (DataVersionRegistry.checkNotModified(webRequest,
+                dataVersionRegistry.version(DataVersionRegistry.playerAssetsKey(playerId)))) {
+            return null;
+        }
+        
+        Optional<CachedResponse> response = responseCache.get(ResponseCache.PLAYER_ASSETS, playerId, 
+                DataVersionRegistry.playerAssetsKey(playerId),
+                () -> assetService.getPlayerAssets(playerId).map(asset -> AssetResponse.builder()
+                        .photoUrl(asset.getPhotoUrl())
+                        .cutoutUrl(asset.getCutoutUrl())
+                        .build()));
         
-        if (assetOpt.isEmpty()) {
+        if (response.isEmpty()) {
             log.warn("No assets found for player ID: {}", playerId);
             return ResponseEntity.notFound().build();
         }
         
-        PlayerAsset asset = assetOpt.get();
-        AssetResponse response = AssetResponse.builder()
-                .photoUrl(asset.getPhotoUrl())
-                .cutoutUrl(asset.getCutoutUrl())
-                .build();
-        
-        return ResponseEntity.ok(response);
+        return response.get().toResponseEntity();
     }
 }
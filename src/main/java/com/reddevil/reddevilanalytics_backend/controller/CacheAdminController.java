@@ -0,0 +1,183 @@
+package com.reddevil.reddevilanalytics_backend.controller;
+
+import com.reddevil.reddevilanalytics_backend.cache.CacheInvalidator;
+import com.reddevil.reddevilanalytics_backend.cache.TwoTierCache;
+import com.reddevil.reddevilanalytics_backend.cache.TwoTierCacheManager;
+import com.reddevil.reddevilanalytics_backend.service.CacheWarmer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@RequiredArgsConstructor
+@Tag(name = "Cache Admin", description = "Cache inspection, warming and eviction (Admin only)")
+public class CacheAdminController {
+
+    private final TwoTierCacheManager cacheManager;
+    private final CacheInvalidator cacheInvalidator;
+    private final CacheWarmer cacheWarmer;
+
+    @Value("${security.admin.api-key}")
+    private String adminApiKey;
+
+    @GetMapping
+    @Operation(summary = "List caches",
+               description = "Returns hit, miss, put and eviction counts per cache on this node (Admin only)")
+    public ResponseEntity<?> listCaches(@RequestHeader("X-Admin-Key") String apiKey) {
+        if (!validateApiKey(apiKey)) {
+            log.warn("Invalid API key provided for cache listing");
+            return unauthorized();
+        }
+
+        List<TwoTierCache.Stats> stats = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof TwoTierCache cache) {
+                stats.add(cache.stats());
+            }
+        }
+        stats.sort(Comparator.comparing(TwoTierCache.Stats::name));
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/{cacheName}/hot-keys")
+    @Operation(summary = "Get hot keys",
+               description = "Returns the most read keys of a cache on this node, estimated from a sample (Admin only)")
+    public ResponseEntity<?> getHotKeys(
+            @Parameter(description = "Cache name") @PathVariable String cacheName,
+            @Parameter(description = "Maximum number of keys") @RequestParam(defaultValue = "20") int limit,
+            @RequestHeader("X-Admin-Key") String apiKey) {
+
+        if (!validateApiKey(apiKey)) {
+            log.warn("Invalid API key provided for hot key listing");
+            return unauthorized();
+        }
+
+        if (!(cacheManager.getCache(cacheName) instanceof TwoTierCache cache)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(cache.hotKeys(Math.max(limit, 1)));
+    }
+
+    @PostMapping("/{cacheName}/warm")
+    @Operation(summary = "Warm cache",
+               description = "Loads the entries a cache is expected to serve: team assets or upcoming predictions (Admin only)")
+    public ResponseEntity<Map<String, String>> warmCache(
+            @Parameter(description = "Cache name") @PathVariable String cacheName,
+            @RequestHeader("X-Admin-Key") String apiKey) {
+
+        if (!validateApiKey(apiKey)) {
+            log.warn("Invalid API key provided for cache warming");
+            return unauthorized();
+        }
+
+        if (!CacheWarmer.WARMABLE.contains(cacheName)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Cache " + cacheName + " cannot be warmed"));
+        }
+
+        log.info("Cache warming triggered for {}", cacheName);
+        int warmed = cacheWarmer.warm(cacheName);
+        Map<String, String> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("message", "Warmed " + warmed + " entries of cache " + cacheName);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{cacheName}/keys/{key}")
+    @Operation(summary = "Evict cache entry",
+               description = "Evicts one key from Redis and from every node's local tier (Admin only)")
+    public ResponseEntity<Map<String, String>> evictKey(
+            @Parameter(description = "Cache name") @PathVariable String cacheName,
+            @Parameter(description = "Cache key as listed by hot-keys") @PathVariable String key,
+            @RequestHeader("X-Admin-Key") String apiKey) {
+
+        if (!validateApiKey(apiKey)) {
+            log.warn("Invalid API key provided for cache eviction");
+            return unauthorized();
+        }
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        log.info("Evicting key {} from cache {}", key, cacheName);
+        cache.evict(key);
+        return ResponseEntity.ok(Map.of("status", "success"));
+    }
+
+    @DeleteMapping("/{cacheName}")
+    @Operation(summary = "Clear cache",
+               description = "Removes every entry of a cache (Admin only)")
+    public ResponseEntity<Map<String, String>> clearCache(
+            @Parameter(description = "Cache name") @PathVariable String cacheName,
+            @RequestHeader("X-Admin-Key") String apiKey) {
+
+        if (!validateApiKey(apiKey)) {
+            log.warn("Invalid API key provided for cache clearing");
+            return unauthorized();
+        }
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        log.info("Clearing cache {}", cacheName);
+        cache.clear();
+        return ResponseEntity.ok(Map.of("status", "success"));
+    }
+
+    @PostMapping("/invalidate")
+    @Operation(summary = "Invalidate scope",
+               description = "Retires the cached tables of a competition and/or season (Admin only)")
+    public ResponseEntity<Map<String, String>> invalidateScope(
+            @Parameter(description = "Competition ID") @RequestParam(required = false) Long competitionId,
+            @Parameter(description = "Season ID") @RequestParam(required = false) Long seasonId,
+            @RequestHeader("X-Admin-Key") String apiKey) {
+
+        if (!validateApiKey(apiKey)) {
+            log.warn("Invalid API key provided for cache invalidation");
+            return unauthorized();
+        }
+
+        if (competitionId == null && seasonId == null) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "competitionId or seasonId is required"));
+        }
+
+        int tables = 0;
+        if (competitionId != null) {
+            tables += cacheInvalidator.invalidateCompetition(competitionId);
+        }
+        if (seasonId != null) {
+            tables += cacheInvalidator.invalidateSeason(seasonId);
+        }
+        log.info("Invalidated {} cached tables for competition {} and season {}", tables, competitionId, seasonId);
+        return ResponseEntity.ok(Map.of("status", "success"));
+    }
+
+    private ResponseEntity<Map<String, String>> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("error", "Invalid API key"));
+    }
+
+    private boolean validateApiKey(String apiKey) {
+        return apiKey != null && apiKey.equals(adminApiKey);
+    }
+}
@@ -1,23 +1,42 @@
 package com.reddevil.reddevilanalytics_backend.controller;
 
+import com.reddevil.reddevilanalytics_backend.cache.CachedResponse;
+import com.reddevil.reddevilanalytics_backend.cache.DataVersionRegistry;
+import com.reddevil.reddevilanalytics_backend.cache.MatchCachePolicy;
+import com.reddevil.reddevilanalytics_backend.cache.ResponseCache;
+import com.reddevil.reddevilanalytics_backend.config.AsyncTimeoutInterceptor;
 import com.reddevil.reddevilanalytics_backend.domain.*;
 import com.reddevil.reddevilanalytics_backend.dto.*;
-import com.reddevil.reddevilanalytics_backend.repository.MatchPredictionRepository;
 import com.reddevil.reddevilanalytics_backend.service.AssetService;
+import com.reddevil.reddevilanalytics_backend.service.FixtureExportService;
+import com.reddevil.reddevilanalytics_backend.service.MatchHeroViewService;
 import com.reddevil.reddevilanalytics_backend.service.MatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -26,50 +45,98 @@ import java.util.stream.Collectors;
 @Tag(name = "Matches", description = "Match information endpoints")
 public class MatchController {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final MatchService matchService;
     private final AssetService assetService;
-    private final MatchPredictionRepository matchPredictionRepository;
+    private final MatchHeroViewService matchHeroViewService;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final ResponseCache responseCache;
+    private final MatchCachePolicy matchCachePolicy;
+    private final FixtureExportService fixtureExportService;
+
+    @Value("${app.export.timeout:300000}")
+    private long exportTimeout;
 
     @GetMapping("/next")
     @Operation(summary = "Get next match for a team", 
                description = "Returns the next scheduled match for the specified team")
-    public ResponseEntity<MatchHeroResponse> getNextMatch(
+    @ApiResponse(responseCode = "200", 
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchHeroResponse.class)))
+    public ResponseEntity<byte[]> getNextMatch(
             @Parameter(description = "Team ID") @RequestParam Long teamId,
-            @Parameter(description = "Season ID (optional)") @RequestParam(required = false) Long seasonId) {
+            @Parameter(description = "Season ID (optional)") @RequestParam(required = false) Long seasonId,
+            WebRequest webRequest) {
         
         log.info("Getting next match for team ID {} and season ID {}", teamId, seasonId);
         
-        Optional<Match> matchOpt = matchService.getNextMatch(teamId, seasonId);
-        
-        if (matchOpt.isEmpty()) {
+        Optional<Long> matchIdOpt = matchService.findNextMatchId(teamId, seasonId);
+        if (matchIdOpt.isEmpty()) {
             log.warn("No upcoming match found for team ID {}", teamId);
             return ResponseEntity.notFound().build();
         }
         
-        Match match = matchOpt.get();
-        MatchHeroResponse response = buildMatchHeroResponse(match);
+        if (checkNotModified(webRequest, matchIdOpt.get())) {
+            return null;
+        }
         
-        return ResponseEntity.ok(response);
+        Optional<CachedResponse> heroOpt = getMatchHero(matchIdOpt.get());
+        if (heroOpt.isEmpty()) {
+            log.warn("No upcoming match found for team ID {}", teamId);
+            return ResponseEntity.notFound().build();
+        }
+        
+        return heroOpt.get().toResponseEntity();
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get match by ID", description = "Returns detailed match information by match ID")
-    public ResponseEntity<MatchHeroResponse> getMatchById(
-            @Parameter(description = "Match ID") @PathVariable Long id) {
+    @ApiResponse(responseCode = "200", 
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchHeroResponse.class)))
+    public ResponseEntity<byte[]> getMatchById(
+            @Parameter(description = "Match ID") @PathVariable Long id,
+            WebRequest webRequest) {
         
         log.info("Getting match by ID: {}", id);
         
-        Optional<Match> matchOpt = matchService.getMatchById(id);
+        if (checkNotModified(webRequest, id)) {
+            return null;
+        }
+        
+        Optional<CachedResponse> heroOpt = getMatchHero(id);
         
-        if (matchOpt.isEmpty()) {
+        if (heroOpt.isEmpty()) {
             log.warn("Match not found with ID: {}", id);
             return ResponseEntity.notFound().build();
         }
         
-        Match match = matchOpt.get();
-        MatchHeroResponse response = buildMatchHeroResponse(match);
+        return heroOpt.get().toResponseEntity();
+    }
+
+    @GetMapping
+    @Operation(summary = "Get matches by IDs",
+               description = "Returns the hero of each match in the order of the IDs, at most 100. Unknown IDs are listed in notFound")
+    @ApiResponse(responseCode = "200",
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchBatchResponse.class)))
+    public ResponseEntity<byte[]> getMatchesByIds(
+            @Parameter(description = "Comma-separated match IDs") @RequestParam List<Long> ids) {
         
-        return ResponseEntity.ok(response);
+        log.info("Getting {} matches by ID", ids.size());
+        
+        return loadMatchBatch(ids);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Get matches by IDs (batch)",
+               description = "Same as GET /api/v1/matches?ids=..., for ID lists too long for a query string")
+    @ApiResponse(responseCode = "200",
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchBatchResponse.class)))
+    public ResponseEntity<byte[]> getMatchBatch(@RequestBody MatchBatchRequest request) {
+        
+        List<Long> ids = request.getIds() != null ? request.getIds() : List.of();
+        log.info("Getting batch of {} matches", ids.size());
+        
+        return loadMatchBatch(ids);
     }
 
     @GetMapping("/live")
@@ -81,8 +148,12 @@ public class MatchController {
         
         List<Match> liveMatches = matchService.getLiveMatches(competitionId);
         
+        Map<Long, TeamAsset> assets = assetService.getTeamAssets(liveMatches.stream()
+                .flatMap(match -> Stream.of(match.getHomeTeam().getId(), match.getAwayTeam().getId()))
+                .toList());
+        
         List<LiveMatchItem> items = liveMatches.stream()
-                .map(this::buildLiveMatchItem)
+                .map(match -> buildLiveMatchItem(match, assets))
                 .collect(Collectors.toList());
         
         LiveScoresResponse response = LiveScoresResponse.builder()
@@ -92,46 +163,91 @@ public class MatchController {
         return ResponseEntity.ok(response);
     }
 
-    private MatchHeroResponse buildMatchHeroResponse(Match match) {
-        TeamInfo homeTeam = buildTeamInfo(match.getHomeTeam());
-        TeamInfo awayTeam = buildTeamInfo(match.getAwayTeam());
-        
-        PredictionInfo prediction = null;
-        Optional<MatchPrediction> predictionOpt = matchPredictionRepository.findByMatch(match);
-        if (predictionOpt.isPresent()) {
-            MatchPrediction mp = predictionOpt.get();
-            prediction = PredictionInfo.builder()
-                    .homeWinProb(mp.getHomeWinProbability())
-                    .drawProb(mp.getDrawProbability())
-                    .awayWinProb(mp.getAwayWinProbability())
-                    .confidence(mp.getConfidenceScore())
-                    .build();
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export season fixtures",
+               description = "Streams every match of a competition season as newline-delimited JSON, in kick-off order")
+    public ResponseEntity<StreamingResponseBody> exportSeasonFixtures(
+            @Parameter(description = "Competition ID") @RequestParam Long competitionId,
+            @Parameter(description = "Season ID") @RequestParam Long seasonId,
+            WebRequest webRequest) {
+        
+        log.info("Exporting fixtures for competition ID {} and season ID {}", competitionId, seasonId);
+        
+        if (!fixtureExportService.exists(competitionId, seasonId)) {
+            log.warn("No competition {} or season {} to export", competitionId, seasonId);
+            return ResponseEntity.notFound().build();
         }
         
-        Integer currentMinute = null;
-        if (match.getStatus() == MatchStatus.LIVE) {
-            long minutesElapsed = ChronoUnit.MINUTES.between(match.getMatchDate(), LocalDateTime.now());
-            currentMinute = (int) Math.min(minutesElapsed, 90);
+        // The stream runs as an async request; only this one may outlast the default async timeout
+        AsyncTimeoutInterceptor.setTimeout(webRequest, exportTimeout);
+        
+        StreamingResponseBody body = out -> fixtureExportService.exportSeasonFixtures(competitionId, seasonId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Each hero comes from the same cache entry as {@code GET /{id}}, misses are loaded together,
+     * and the batch body is put together from the cached bytes.
+     */
+    private ResponseEntity<byte[]> loadMatchBatch(List<Long> ids) {
+        List<Long> matchIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (matchIds.size() > MAX_BATCH_SIZE) {
+            log.warn("Rejecting batch of {} matches", matchIds.size());
+            return ResponseEntity.badRequest().build();
         }
         
-        return MatchHeroResponse.builder()
-                .matchId(match.getId())
-                .matchDate(match.getMatchDate())
-                .venue(match.getVenue())
-                .homeTeam(homeTeam)
-                .awayTeam(awayTeam)
-                .status(match.getStatus().name())
-                .homeScore(match.getHomeScore())
-                .awayScore(match.getAwayScore())
-                .competition(match.getCompetition() != null ? match.getCompetition().getName() : null)
-                .prediction(prediction)
-                .currentMinute(currentMinute)
-                .build();
+        Map<Long, CachedResponse> heroes = matchIds.isEmpty() ? Map.of() : responseCache.getAll(ResponseCache.MATCH_HERO, matchIds,
+                DataVersionRegistry::matchKey,
+                missing -> matchHeroViewService.getMatchHeroes(missing).stream()
+                        .collect(Collectors.toMap(MatchHeroResponse::getMatchId, Function.identity())),
+                matchCachePolicy::forHero);
+        
+        List<Long> notFound = matchIds.stream()
+                .filter(matchId -> !heroes.containsKey(matchId))
+                .toList();
+        
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes("{\"matches\":[".getBytes(StandardCharsets.UTF_8));
+        boolean first = true;
+        for (CachedResponse hero : heroes.values()) {
+            if (!first) {
+                body.write(',');
+            }
+            body.writeBytes(hero.body());
+            first = false;
+        }
+        body.writeBytes(notFound.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",", "],\"notFound\":[", "]}"))
+                .getBytes(StandardCharsets.UTF_8));
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.toByteArray());
     }
 
-    private LiveMatchItem buildLiveMatchItem(Match match) {
-        TeamInfo homeTeam = buildTeamInfo(match.getHomeTeam());
-        TeamInfo awayTeam = buildTeamInfo(match.getAwayTeam());
+    private Optional<CachedResponse> getMatchHero(Long matchId) {
+        return responseCache.get(ResponseCache.MATCH_HERO, matchId, DataVersionRegistry.matchKey(matchId),
+                () -> matchHeroViewService.getMatchHero(matchId), matchCachePolicy::forHero);
+    }
+
+    private boolean checkNotModified(WebRequest webRequest, Long matchId) {
+        long matchVersion = dataVersionRegistry.version(DataVersionRegistry.matchKey(matchId));
+        if (matchHeroViewService.isLive(matchId)) {
+            long minute = System.currentTimeMillis() / 60_000;
+            return DataVersionRegistry.checkNotModified(webRequest, matchVersion, minute);
+        }
+        return DataVersionRegistry.checkNotModified(webRequest, matchVersion);
+    }
+
+    private LiveMatchItem buildLiveMatchItem(Match match, Map<Long, TeamAsset> assets) {
+        TeamInfo homeTeam = buildTeamInfo(match.getHomeTeam(), assets.get(match.getHomeTeam().getId()));
+        TeamInfo awayTeam = buildTeamInfo(match.getAwayTeam(), assets.get(match.getAwayTeam().getId()));
         
         Integer minute = null;
         if (match.getStatus() == MatchStatus.LIVE) {
@@ -150,12 +266,10 @@ public class MatchController {
                 .build();
     }
 
-    private TeamInfo buildTeamInfo(Team team) {
+    private TeamInfo buildTeamInfo(Team team, TeamAsset asset) {
         String logoUrl = team.getLogoUrl();
-        
-        Optional<TeamAsset> assetOpt = assetService.getTeamAssets(team.getId());
-        if (assetOpt.isPresent() && assetOpt.get().getLogoUrl() != null) {
-            logoUrl = assetOpt.get().getLogoUrl();
+        if (asset != null && asset.getLogoUrl() != null) {
+            logoUrl = asset.getLogoUrl();
         }
         
         return TeamInfo.builder()
@@ -1,20 +1,37 @@
 package com.reddevil.reddevilanalytics_backend.controller;
 
+import com.reddevil.reddevilanalytics_backend.cache.CacheGenerations;
+import com.reddevil.reddevilanalytics_backend.cache.CachedResponse;
+import com.reddevil.reddevilanalytics_backend.cache.DataVersionRegistry;
+import com.reddevil.reddevilanalytics_backend.cache.ResponseCache;
 import com.reddevil.reddevilanalytics_backend.domain.Standing;
 import com.reddevil.reddevilanalytics_backend.domain.TeamAsset;
 import com.reddevil.reddevilanalytics_backend.dto.StandingItem;
+import com.reddevil.reddevilanalytics_backend.dto.StandingsProjectionResponse;
 import com.reddevil.reddevilanalytics_backend.dto.StandingsResponse;
+import com.reddevil.reddevilanalytics_backend.dto.VenueSplit;
 import com.reddevil.reddevilanalytics_backend.service.AssetService;
 import com.reddevil.reddevilanalytics_backend.service.StandingsService;
+import com.reddevil.reddevilanalytics_backend.standings.StandingsProjectionService;
+import com.reddevil.reddevilanalytics_backend.stats.TeamSeasonStats;
+import com.reddevil.reddevilanalytics_backend.stats.TeamStatsService;
+import com.reddevil.reddevilanalytics_backend.stats.VenueRecord;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,42 +44,127 @@ public class StandingsController {
 
     private final StandingsService standingsService;
     private final AssetService assetService;
+    private final StandingsProjectionService standingsProjectionService;
+    private final TeamStatsService teamStatsService;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final ResponseCache responseCache;
+    private final CacheGenerations cacheGenerations;
 
     @GetMapping
     @Operation(summary = "Get standings", 
                description = "Returns league standings for a competition and season")
-    public ResponseEntity<StandingsResponse> getStandings(
+    @ApiResponse(responseCode = "200", 
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandingsResponse.class)))
+    public ResponseEntity<byte[]> getStandings(
             @Parameter(description = "Competition ID", required = true) @RequestParam Long competitionId,
-            @Parameter(description = "Season ID", required = true) @RequestParam Long seasonId) {
+            @Parameter(description = "Season ID", required = true) @RequestParam Long seasonId,
+            WebRequest webRequest) {
         
         log.info("Getting standings for competition ID {} and season ID {}", competitionId, seasonId);
         
-        List<Standing> standings = standingsService.getStandings(competitionId, seasonId);
+        if (checkNotModified(webRequest, competitionId, seasonId)) {
+            return null;
+        }
+        
+        Optional<CachedResponse> response = responseCache.get(ResponseCache.STANDINGS, 
+                cacheGenerations.scopedKey(competitionId, seasonId, competitionId + "_" + seasonId), null, () -> {
+                    List<Standing> standings = standingsService.getStandings(competitionId, seasonId);
+                    return standings.isEmpty() 
+                            ? Optional.empty() 
+                            : Optional.of(StandingsResponse.builder()
+                                    .standings(buildStandingItems(standings))
+                                    .build());
+                });
         
-        if (standings.isEmpty()) {
+        if (response.isEmpty()) {
             log.warn("No standings found for competition ID {} and season ID {}", competitionId, seasonId);
             return ResponseEntity.notFound().build();
         }
         
-        List<StandingItem> items = standings.stream()
-                .map(this::buildStandingItem)
-                .collect(Collectors.toList());
+        return response.get().toResponseEntity();
+    }
+
+    @GetMapping("/live")
+    @Operation(summary = "Get live standings projection", 
+               description = "Returns the provisional table with the current scores of live matches applied")
+    @ApiResponse(responseCode = "200", 
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandingsProjectionResponse.class)))
+    public ResponseEntity<byte[]> getLiveStandings(
+            @Parameter(description = "Competition ID", required = true) @RequestParam Long competitionId,
+            @Parameter(description = "Season ID", required = true) @RequestParam Long seasonId,
+            WebRequest webRequest) {
         
-        StandingsResponse response = StandingsResponse.builder()
-                .standings(items)
-                .build();
+        log.info("Getting live standings projection for competition ID {} and season ID {}", competitionId, seasonId);
+        
+        if (checkNotModified(webRequest, competitionId, seasonId,
+                dataVersionRegistry.version(DataVersionRegistry.projectionKey(competitionId, seasonId)))) {
+            return null;
+        }
+        
+        Optional<CachedResponse> projection = standingsProjectionService.getProjection(competitionId, seasonId);
+        if (projection.isPresent()) {
+            return projection.get().toResponseEntity();
+        }
+        
+        // No live matches in progress, the table as it stands is the persisted one
+        Optional<CachedResponse> response = responseCache.get(ResponseCache.STANDINGS, 
+                cacheGenerations.scopedKey(competitionId, seasonId, competitionId + "_" + seasonId + "_live"), null, () -> {
+                    List<Standing> standings = standingsService.getStandings(competitionId, seasonId);
+                    return standings.isEmpty() 
+                            ? Optional.empty() 
+                            : Optional.of(StandingsProjectionResponse.builder()
+                                    .competitionId(competitionId)
+                                    .seasonId(seasonId)
+                                    .standings(buildStandingItems(standings))
+                                    .liveMatchIds(List.of())
+                                    .updatedAt(LocalDateTime.now())
+                                    .build());
+                });
+        
+        if (response.isEmpty()) {
+            log.warn("No standings found for competition ID {} and season ID {}", competitionId, seasonId);
+            return ResponseEntity.notFound().build();
+        }
         
-        return ResponseEntity.ok(response);
+        return response.get().toResponseEntity();
     }
 
-    private StandingItem buildStandingItem(Standing standing) {
-        String logoUrl = standing.getTeam().getLogoUrl();
+    private boolean checkNotModified(WebRequest webRequest, Long competitionId, Long seasonId, long... extraVersions) {
+        long[] versions = new long[extraVersions.length + 1];
+        versions[0] = dataVersionRegistry.version(DataVersionRegistry.standingsKey(competitionId, seasonId));
+        System.arraycopy(extraVersions, 0, versions, 1, extraVersions.length);
+        return DataVersionRegistry.checkNotModified(webRequest, versions);
+    }
+
+    private List<StandingItem> buildStandingItems(List<Standing> standings) {
+        Map<Long, TeamAsset> assets = assetService.getTeamAssets(standings.stream()
+                .map(standing -> standing.getTeam().getId())
+                .toList());
+
+        // The response is cached for every node, so the splits are read as stored
+        Map<Long, Map<Long, TeamSeasonStats>> statsBySeason = new HashMap<>();
+        standings.stream()
+                .filter(standing -> standing.getSeason() != null)
+                .collect(Collectors.groupingBy(standing -> standing.getSeason().getId(),
+                        Collectors.mapping(standing -> standing.getTeam().getId(), Collectors.toSet())))
+                .forEach((seasonId, teamIds) -> statsBySeason.put(seasonId, teamStatsService.load(seasonId, teamIds)));
         
-        Optional<TeamAsset> assetOpt = assetService.getTeamAssets(standing.getTeam().getId());
-        if (assetOpt.isPresent() && assetOpt.get().getLogoUrl() != null) {
-            logoUrl = assetOpt.get().getLogoUrl();
+        return standings.stream()
+                .map(standing -> buildStandingItem(standing, assets.get(standing.getTeam().getId()), statsBySeason))
+                .collect(Collectors.toList());
+    }
+
+    private StandingItem buildStandingItem(Standing standing, TeamAsset asset,
+                                           Map<Long, Map<Long, TeamSeasonStats>> statsBySeason) {
+        String logoUrl = standing.getTeam().getLogoUrl();
+        if (asset != null && asset.getLogoUrl() != null) {
+            logoUrl = asset.getLogoUrl();
         }
         
+        Long seasonId = standing.getSeason() != null ? standing.getSeason().getId() : null;
+        Optional<TeamSeasonStats> stats = Optional.ofNullable(
+                statsBySeason.getOrDefault(seasonId, Map.of()).get(standing.getTeam().getId()));
+        
         return StandingItem.builder()
                 .position(standing.getPosition())
                 .teamName(standing.getTeam().getName())
@@ -76,6 +178,19 @@ public class StandingsController {
                 .goalsAgainst(standing.getGoalsAgainst())
                 .goalDifference(standing.getGoalDifference())
                 .form(standing.getForm())
+                .home(stats.map(teamStats -> toVenueSplit(teamStats.home())).orElse(null))
+                .away(stats.map(teamStats -> toVenueSplit(teamStats.away())).orElse(null))
+                .build();
+    }
+
+    private VenueSplit toVenueSplit(VenueRecord record) {
+        return VenueSplit.builder()
+                .played(record.played())
+                .won(record.won())
+                .draw(record.drawn())
+                .lost(record.lost())
+                .goalsFor(record.goalsFor())
+                .goalsAgainst(record.goalsAgainst())
                 .build();
     }
 }
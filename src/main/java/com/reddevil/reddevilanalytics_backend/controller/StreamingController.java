@@ -1,10 +1,12 @@
 package com.reddevil.reddevilanalytics_backend.controller;
 
 import com.reddevil.reddevilanalytics_backend.ai.AIService;
+import com.reddevil.reddevilanalytics_backend.cache.CachedResponse;
 import com.reddevil.reddevilanalytics_backend.domain.Match;
 import com.reddevil.reddevilanalytics_backend.domain.MatchPrediction;
 import com.reddevil.reddevilanalytics_backend.domain.MatchStatus;
 import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.standings.StandingsProjectionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -13,9 +15,11 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
@@ -28,6 +32,7 @@ public class StreamingController {
 
     private final MatchRepository matchRepository;
     private final AIService aiService;
+    private final StandingsProjectionService standingsProjectionService;
 
     private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
     private final AtomicLong emitterIdCounter = new AtomicLong(0);
@@ -124,12 +129,12 @@ public class StreamingController {
             LocalDateTime nextWeek = now.plusDays(7);
             List<Match> upcomingMatches = matchRepository.findByMatchDateBetween(now, nextWeek);
 
+            // One batched AI call for every match still missing a prediction
+            Map<Long, MatchPrediction> predictions = aiService.getPredictions(upcomingMatches);
             for (Match match : upcomingMatches) {
-                try {
-                    MatchPrediction prediction = aiService.getPrediction(match.getId());
+                MatchPrediction prediction = predictions.get(match.getId());
+                if (prediction != null) {
                     broadcastPredictionUpdate(match, prediction);
-                } catch (Exception e) {
-                    log.warn("Error getting prediction for match {}: {}", match.getId(), e.getMessage());
                 }
             }
 
@@ -138,6 +143,38 @@ public class StreamingController {
         }
     }
 
+    /**
+     * Handles a message from {@link StandingsProjectionService#PROJECTION_CHANNEL}, which every
+     * node gets, the one that changed the projection included.
+     */
+    public void onProjectionMessage(String message) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+
+        String[] parts = message.split("\\|", 2);
+        Long competitionId;
+        Long seasonId;
+        try {
+            if (parts.length != 2) {
+                throw new NumberFormatException("expected competition and season");
+            }
+            competitionId = Long.parseLong(parts[0]);
+            seasonId = Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed standings projection message: {}", message);
+            return;
+        }
+
+        log.debug("Broadcasting standings projection for competition {} to {} clients", competitionId, emitters.size());
+        Optional<CachedResponse> projection = standingsProjectionService.getProjection(competitionId, seasonId);
+        if (projection.isPresent()) {
+            broadcastToAll("standings-projection", new String(projection.get().body(), StandardCharsets.UTF_8));
+        } else {
+            broadcastToAll("standings-projection-ended", Map.of("competitionId", competitionId, "seasonId", seasonId));
+        }
+    }
+
     private void broadcastMatchUpdate(Match match, String eventType) {
         Map<String, Object> data = Map.of(
             "matchId", match.getId(),
@@ -1,6 +1,8 @@
 package com.reddevil.reddevilanalytics_backend.controller;
 
+import com.reddevil.reddevilanalytics_backend.rating.RatingService;
 import com.reddevil.reddevilanalytics_backend.service.IngestionService;
+import com.reddevil.reddevilanalytics_backend.stats.TeamStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,6 +24,8 @@ import java.util.Map;
 public class SyncController {
 
     private final IngestionService ingestionService;
+    private final RatingService ratingService;
+    private final TeamStatsService teamStatsService;
 
     @Value("${security.admin.api-key}")
     private String adminApiKey;
@@ -115,6 +119,64 @@ public class SyncController {
         }
     }
 
+    @PostMapping("/ratings/replay")
+    @Operation(summary = "Replay ratings", 
+               description = "Rebuilds every team's Elo rating from all stored results in one pass (Admin only)")
+    public ResponseEntity<Map<String, String>> replayRatings(
+            @RequestHeader("X-Admin-Key") String apiKey) {
+        
+        if (!validateApiKey(apiKey)) {
+            log.warn("Invalid API key provided for rating replay");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Invalid API key"));
+        }
+        
+        log.info("Manual rating replay triggered");
+        
+        try {
+            int replayed = ratingService.replay();
+            Map<String, String> response = new HashMap<>();
+            response.put("status", "success");
+            response.put("message", "Replayed " + replayed + " results into team ratings");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error replaying ratings: {}", e.getMessage(), e);
+            Map<String, String> response = new HashMap<>();
+            response.put("status", "error");
+            response.put("message", "Failed to replay ratings: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @PostMapping("/team-stats/rebuild")
+    @Operation(summary = "Rebuild team statistics", 
+               description = "Recounts every team's season statistics and form from all stored results (Admin only)")
+    public ResponseEntity<Map<String, String>> rebuildTeamStats(
+            @RequestHeader("X-Admin-Key") String apiKey) {
+        
+        if (!validateApiKey(apiKey)) {
+            log.warn("Invalid API key provided for team statistics rebuild");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Invalid API key"));
+        }
+        
+        log.info("Manual team statistics rebuild triggered");
+        
+        try {
+            int counted = teamStatsService.rebuild();
+            Map<String, String> response = new HashMap<>();
+            response.put("status", "success");
+            response.put("message", "Rebuilt team statistics from " + counted + " results");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error rebuilding team statistics: {}", e.getMessage(), e);
+            Map<String, String> response = new HashMap<>();
+            response.put("status", "error");
+            response.put("message", "Failed to rebuild team statistics: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     private boolean validateApiKey(String apiKey) {
         return apiKey != null && apiKey.equals(adminApiKey);
     }
@@ -0,0 +1,100 @@
+package com.reddevil.reddevilanalytics_backend.controller;
+
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.domain.Team;
+import com.reddevil.reddevilanalytics_backend.domain.TeamAsset;
+import com.reddevil.reddevilanalytics_backend.dto.MatchSummaryItem;
+import com.reddevil.reddevilanalytics_backend.dto.TeamInfo;
+import com.reddevil.reddevilanalytics_backend.dto.TeamMatchesResponse;
+import com.reddevil.reddevilanalytics_backend.service.AssetService;
+import com.reddevil.reddevilanalytics_backend.service.MatchHistoryCursor;
+import com.reddevil.reddevilanalytics_backend.service.MatchHistoryPage;
+import com.reddevil.reddevilanalytics_backend.service.MatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/teams")
+@RequiredArgsConstructor
+@Tag(name = "Teams", description = "Team endpoints")
+public class TeamController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final MatchService matchService;
+    private final AssetService assetService;
+
+    @GetMapping("/{id}/matches")
+    @Operation(summary = "Get team matches",
+               description = "Returns a team's matches newest first. Pass the nextCursor of a page to get the page after it")
+    public ResponseEntity<TeamMatchesResponse> getTeamMatches(
+            @Parameter(description = "Team ID") @PathVariable Long id,
+            @Parameter(description = "nextCursor of the previous page, omitted for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most 100") @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("Getting matches for team ID {} with cursor {}", id, cursor);
+
+        MatchHistoryCursor position;
+        try {
+            position = cursor != null ? MatchHistoryCursor.decode(cursor) : MatchHistoryCursor.START;
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cursor for team ID {}: {}", id, cursor);
+            return ResponseEntity.badRequest().build();
+        }
+
+        Optional<MatchHistoryPage> pageOpt = matchService.getTeamMatches(id, position, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        if (pageOpt.isEmpty()) {
+            log.warn("Team not found with ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+
+        MatchHistoryPage page = pageOpt.get();
+
+        Map<Long, TeamAsset> assets = assetService.getTeamAssets(page.matches().stream()
+                .flatMap(match -> Stream.of(match.getHomeTeam().getId(), match.getAwayTeam().getId()))
+                .toList());
+
+        List<MatchSummaryItem> items = page.matches().stream()
+                .map(match -> buildMatchSummaryItem(match, assets))
+                .toList();
+
+        return ResponseEntity.ok(TeamMatchesResponse.builder()
+                .matches(items)
+                .nextCursor(page.next() != null ? page.next().encode() : null)
+                .build());
+    }
+
+    private MatchSummaryItem buildMatchSummaryItem(Match match, Map<Long, TeamAsset> assets) {
+        return MatchSummaryItem.builder()
+                .matchId(match.getId())
+                .matchDate(match.getMatchDate())
+                .competition(match.getCompetition() != null ? match.getCompetition().getName() : null)
+                .homeTeam(buildTeamInfo(match.getHomeTeam(), assets.get(match.getHomeTeam().getId())))
+                .awayTeam(buildTeamInfo(match.getAwayTeam(), assets.get(match.getAwayTeam().getId())))
+                .homeScore(match.getHomeScore())
+                .awayScore(match.getAwayScore())
+                .status(match.getStatus() != null ? match.getStatus().name() : null)
+                .build();
+    }
+
+    private TeamInfo buildTeamInfo(Team team, TeamAsset asset) {
+        String logoUrl = asset != null && asset.getLogoUrl() != null ? asset.getLogoUrl() : team.getLogoUrl();
+        return TeamInfo.builder()
+                .id(team.getId())
+                .name(team.getName())
+                .logo(logoUrl)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.reddevil.reddevilanalytics_backend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Denormalized read model behind the match hero endpoints, one row per match.
+ * Kept current by the fixture, prediction and asset writers.
+ */
+@Data
+@Entity
+@Table(name = "match_hero_view")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchHeroView {
+
+    /**
+     * Statuses whose heroes show the teams' form going into the match.
+     */
+    public static final Set<MatchStatus> FORM_STATUSES = EnumSet.of(MatchStatus.SCHEDULED, MatchStatus.LIVE, MatchStatus.POSTPONED);
+
+    @Id
+    @Column(name = "match_id")
+    private Long matchId;
+
+    @Column(name = "match_date", nullable = false)
+    private LocalDateTime matchDate;
+
+    private String venue;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private MatchStatus status;
+
+    @Column(name = "home_score")
+    private Integer homeScore;
+
+    @Column(name = "away_score")
+    private Integer awayScore;
+
+    @Column(name = "competition_name")
+    private String competitionName;
+
+    @Column(name = "season_id")
+    private Long seasonId;
+
+    @Column(name = "home_team_id", nullable = false)
+    private Long homeTeamId;
+
+    @Column(name = "home_team_name")
+    private String homeTeamName;
+
+    @Column(name = "home_team_logo", length = 500)
+    private String homeTeamLogo;
+
+    @Column(name = "away_team_id", nullable = false)
+    private Long awayTeamId;
+
+    @Column(name = "away_team_name")
+    private String awayTeamName;
+
+    @Column(name = "away_team_logo", length = 500)
+    private String awayTeamLogo;
+
+    @Column(name = "home_win_probability", precision = 5, scale = 2)
+    private BigDecimal homeWinProbability;
+
+    @Column(name = "draw_probability", precision = 5, scale = 2)
+    private BigDecimal drawProbability;
+
+    @Column(name = "away_win_probability", precision = 5, scale = 2)
+    private BigDecimal awayWinProbability;
+
+    @Column(name = "confidence_score", precision = 5, scale = 2)
+    private BigDecimal confidenceScore;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+}
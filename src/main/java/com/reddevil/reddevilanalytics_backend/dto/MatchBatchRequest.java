@@ -0,0 +1,16 @@
+package com.reddevil.reddevilanalytics_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchBatchRequest {
+    private List<Long> ids;
+}
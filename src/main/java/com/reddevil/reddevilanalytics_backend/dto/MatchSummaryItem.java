@@ -0,0 +1,23 @@
+package com.reddevil.reddevilanalytics_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchSummaryItem {
+    private Long matchId;
+    private LocalDateTime matchDate;
+    private String competition;
+    private TeamInfo homeTeam;
+    private TeamInfo awayTeam;
+    private Integer homeScore;
+    private Integer awayScore;
+    private String status;
+}
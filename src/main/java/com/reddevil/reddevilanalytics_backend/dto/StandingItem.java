@@ -22,4 +22,6 @@ public class StandingItem {
     private Integer goalsAgainst;
     private Integer goalDifference;
     private String form;
+    private VenueSplit home;
+    private VenueSplit away;
 }
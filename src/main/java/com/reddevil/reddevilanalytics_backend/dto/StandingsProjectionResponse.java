@@ -0,0 +1,21 @@
+package com.reddevil.reddevilanalytics_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingsProjectionResponse {
+    private Long competitionId;
+    private Long seasonId;
+    private List<StandingItem> standings;
+    private List<Long> liveMatchIds;
+    private LocalDateTime updatedAt;
+}
@@ -13,4 +13,5 @@ public class TeamInfo {
     private Long id;
     private String name;
     private String logo;
+    private String form;
 }
@@ -0,0 +1,17 @@
+package com.reddevil.reddevilanalytics_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamMatchesResponse {
+    private List<MatchSummaryItem> matches;
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.reddevil.reddevilanalytics_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueSplit {
+    private Integer played;
+    private Integer won;
+    private Integer draw;
+    private Integer lost;
+    private Integer goalsFor;
+    private Integer goalsAgainst;
+}
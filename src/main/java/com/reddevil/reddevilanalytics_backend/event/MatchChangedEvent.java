@@ -0,0 +1,24 @@
+package com.reddevil.reddevilanalytics_backend.event;
+
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+
+/**
+ * Published when something readers see of a match changed: kickoff, status, score or prediction.
+ */
+public record MatchChangedEvent(
+    Long matchId,
+    Long homeTeamId,
+    Long awayTeamId,
+    Long competitionId,
+    Long seasonId
+) {
+
+    public static MatchChangedEvent of(Match match) {
+        return new MatchChangedEvent(
+                match.getId(),
+                match.getHomeTeam() != null ? match.getHomeTeam().getId() : null,
+                match.getAwayTeam() != null ? match.getAwayTeam().getId() : null,
+                match.getCompetition() != null ? match.getCompetition().getId() : null,
+                match.getSeason() != null ? match.getSeason().getId() : null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.reddevil.reddevilanalytics_backend.event;
+
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a match gets its final result, or a final result is corrected.
+ */
+public record MatchResultEvent(
+    Long matchId,
+    Long homeTeamId,
+    Long awayTeamId,
+    Long competitionId,
+    Long seasonId,
+    int homeScore,
+    int awayScore,
+    LocalDateTime matchDate
+) {
+
+    public static MatchResultEvent of(Match match) {
+        return new MatchResultEvent(
+                match.getId(),
+                match.getHomeTeam().getId(),
+                match.getAwayTeam().getId(),
+                match.getCompetition() != null ? match.getCompetition().getId() : null,
+                match.getSeason() != null ? match.getSeason().getId() : null,
+                match.getHomeScore(),
+                match.getAwayScore(),
+                match.getMatchDate());
+    }
+}
@@ -0,0 +1,5 @@
+package com.reddevil.reddevilanalytics_backend.event;
+
+public record PlayerAssetsChangedEvent(
+    Long playerId
+) {}
@@ -0,0 +1,6 @@
+package com.reddevil.reddevilanalytics_backend.event;
+
+/**
+ * Published once a run of fixture writes is done, so the upcoming schedule may have changed.
+ */
+public record ScheduleChangedEvent() {}
@@ -0,0 +1,9 @@
+package com.reddevil.reddevilanalytics_backend.event;
+
+/**
+ * Published when the persisted table of a competition and season changed.
+ */
+public record StandingsChangedEvent(
+    Long competitionId,
+    Long seasonId
+) {}
@@ -0,0 +1,10 @@
+package com.reddevil.reddevilanalytics_backend.event;
+
+/**
+ * Published when the live "as it stands" projection of a competition and season changed,
+ * including when it ended because no match is live any more.
+ */
+public record StandingsProjectionChangedEvent(
+    Long competitionId,
+    Long seasonId
+) {}
@@ -0,0 +1,8 @@
+package com.reddevil.reddevilanalytics_backend.event;
+
+/**
+ * Published when a team's logo or banner changed. Every response showing the team's logo depends on it.
+ */
+public record TeamAssetsChangedEvent(
+    Long teamId
+) {}
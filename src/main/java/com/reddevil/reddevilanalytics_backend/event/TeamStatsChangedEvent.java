@@ -0,0 +1,9 @@
+package com.reddevil.reddevilanalytics_backend.event;
+
+/**
+ * Published when a team's season statistics changed. Match heroes show its form and tables its venue splits.
+ */
+public record TeamStatsChangedEvent(
+    Long seasonId,
+    Long teamId
+) {}
@@ -58,7 +58,7 @@ public class DatabaseHealthIndicator implements HealthIndicator {
             "teams", "players", "matches", "competitions", 
             "seasons", "standings", "squad_members",
             "team_assets", "player_assets", "match_predictions",
-            "external_refs"
+            "external_refs", "match_hero_view"
         };
 
         for (String table : tables) {
@@ -0,0 +1,149 @@
+package com.reddevil.reddevilanalytics_backend.ingestion;
+
+import com.reddevil.reddevilanalytics_backend.domain.Competition;
+import com.reddevil.reddevilanalytics_backend.domain.Provider;
+import com.reddevil.reddevilanalytics_backend.domain.Season;
+import com.reddevil.reddevilanalytics_backend.domain.Team;
+import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
+import com.reddevil.reddevilanalytics_backend.repository.CompetitionRepository;
+import com.reddevil.reddevilanalytics_backend.repository.SeasonRepository;
+import com.reddevil.reddevilanalytics_backend.service.AssetService;
+import com.reddevil.reddevilanalytics_backend.service.ExternalRefService;
+import com.reddevil.reddevilanalytics_backend.service.MatchService;
+import com.reddevil.reddevilanalytics_backend.service.StandingsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes one batch of ingestion records, fixtures grouped by season so each group is one call
+ * into {@link MatchService}. Each group, table and team commits on its own, so one bad record
+ * costs only its own write.
+ */
+@Slf4j
+@Component
+public class IngestionBatchWriter {
+
+    private final MatchService matchService;
+    private final StandingsService standingsService;
+    private final AssetService assetService;
+    private final ExternalRefService externalRefService;
+    private final CompetitionRepository competitionRepository;
+    private final SeasonRepository seasonRepository;
+    private final TransactionTemplate recordTransaction;
+
+    private record SeasonKey(Long competitionId, Long seasonId) {}
+
+    public IngestionBatchWriter(
+            MatchService matchService,
+            StandingsService standingsService,
+            AssetService assetService,
+            ExternalRefService externalRefService,
+            CompetitionRepository competitionRepository,
+            SeasonRepository seasonRepository,
+            PlatformTransactionManager transactionManager) {
+        this.matchService = matchService;
+        this.standingsService = standingsService;
+        this.assetService = assetService;
+        this.externalRefService = externalRefService;
+        this.competitionRepository = competitionRepository;
+        this.seasonRepository = seasonRepository;
+        this.recordTransaction = new TransactionTemplate(transactionManager);
+        this.recordTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Fixtures are written before standings, since reconciling a table counts the finished
+     * matches it has stored, and assets last. A season whose fixtures fail together is retried
+     * one fixture at a time; a table or a team that fails is logged and skipped.
+     *
+     * @return number of records written
+     */
+    public int write(List<IngestionRecord> batch) {
+        Map<SeasonKey, List<FixtureDTO>> fixtures = new LinkedHashMap<>();
+        List<IngestionRecord.Standings> tables = new ArrayList<>();
+        List<IngestionRecord.TeamAssets> teamAssets = new ArrayList<>();
+        
+        for (IngestionRecord record : batch) {
+            switch (record) {
+                case IngestionRecord.Fixture fixture -> fixtures
+                        .computeIfAbsent(new SeasonKey(fixture.competitionId(), fixture.seasonId()), key -> new ArrayList<>())
+                        .add(fixture.fixture());
+                case IngestionRecord.Standings standings -> tables.add(standings);
+                case IngestionRecord.TeamAssets assets -> teamAssets.add(assets);
+            }
+        }
+        
+        int written = 0;
+        for (Map.Entry<SeasonKey, List<FixtureDTO>> entry : fixtures.entrySet()) {
+            written += writeFixtures(entry.getKey(), entry.getValue());
+        }
+        for (IngestionRecord.Standings standings : tables) {
+            written += writeRecord("standings of competition " + standings.competitionId(), () ->
+                    standingsService.applyStandings(standings.table(),
+                            competition(standings.competitionId()), season(standings.seasonId())));
+        }
+        for (IngestionRecord.TeamAssets assets : teamAssets) {
+            written += writeRecord("assets of team " + assets.team().getName(), () -> {
+                Team team = externalRefService.findOrCreateTeam(Provider.FOOTBALL_DATA,
+                        assets.team().getId().toString(), assets.team());
+                assetService.saveTeamAssets(team, assets.assets());
+            });
+        }
+        
+        if (written < batch.size()) {
+            log.warn("Wrote {} of {} ingestion records, the rest failed", written, batch.size());
+        } else {
+            log.debug("Wrote ingestion batch of {} records", batch.size());
+        }
+        return written;
+    }
+
+    private int writeFixtures(SeasonKey key, List<FixtureDTO> seasonFixtures) {
+        try {
+            recordTransaction.executeWithoutResult(status -> matchService.applyFixtures(seasonFixtures,
+                    competition(key.competitionId()), season(key.seasonId())));
+            return seasonFixtures.size();
+        } catch (RuntimeException e) {
+            log.warn("Error writing {} fixtures of competition {}, retrying one by one: {}",
+                    seasonFixtures.size(), key.competitionId(), e.getMessage());
+        }
+        
+        int written = 0;
+        for (FixtureDTO fixture : seasonFixtures) {
+            written += writeRecord("fixture " + fixture.getId() + " of competition " + key.competitionId(), () ->
+                    matchService.applyFixtures(List.of(fixture), competition(key.competitionId()), season(key.seasonId())));
+        }
+        return written;
+    }
+
+    /**
+     * @return 1 when the record was written, 0 when it failed and was rolled back
+     */
+    private int writeRecord(String description, Runnable write) {
+        try {
+            recordTransaction.executeWithoutResult(status -> write.run());
+            return 1;
+        } catch (RuntimeException e) {
+            log.error("Error writing {}: {}", description, e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private Competition competition(Long competitionId) {
+        return competitionRepository.findById(competitionId)
+                .orElseThrow(() -> new IllegalArgumentException("Competition not found: " + competitionId));
+    }
+
+    private Season season(Long seasonId) {
+        return seasonRepository.findById(seasonId)
+                .orElseThrow(() -> new IllegalArgumentException("Season not found: " + seasonId));
+    }
+}
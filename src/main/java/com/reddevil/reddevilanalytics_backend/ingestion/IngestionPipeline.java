@@ -0,0 +1,173 @@
+package com.reddevil.reddevilanalytics_backend.ingestion;
+
+import com.reddevil.reddevilanalytics_backend.domain.Competition;
+import com.reddevil.reddevilanalytics_backend.domain.EntityType;
+import com.reddevil.reddevilanalytics_backend.domain.Provider;
+import com.reddevil.reddevilanalytics_backend.domain.Season;
+import com.reddevil.reddevilanalytics_backend.event.ScheduleChangedEvent;
+import com.reddevil.reddevilanalytics_backend.provider.client.ReactiveAssetProviderClient;
+import com.reddevil.reddevilanalytics_backend.provider.client.ReactiveFixtureProviderClient;
+import com.reddevil.reddevilanalytics_backend.provider.client.ReactiveStandingsProviderClient;
+import com.reddevil.reddevilanalytics_backend.provider.dto.TeamDTO;
+import com.reddevil.reddevilanalytics_backend.repository.CompetitionRepository;
+import com.reddevil.reddevilanalytics_backend.repository.SeasonRepository;
+import com.reddevil.reddevilanalytics_backend.service.ExternalRefService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fetches fixtures, standings and team assets for every competition of the current season
+ * concurrently on the WebClient event loop, and feeds them into {@link IngestionBatchWriter}.
+ *
+ * <p>The writer pulls one batch at a time on a bounded-elastic thread; until it asks for the next,
+ * demand stops at the batching step and fetching slows down to the pace of the database.
+ */
+@Slf4j
+@Component
+public class IngestionPipeline {
+
+    private final ReactiveFixtureProviderClient fixtureClient;
+    private final ReactiveStandingsProviderClient standingsClient;
+    private final ReactiveAssetProviderClient assetClient;
+    private final IngestionBatchWriter batchWriter;
+    private final CompetitionRepository competitionRepository;
+    private final SeasonRepository seasonRepository;
+    private final ExternalRefService externalRefService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int competitionConcurrency;
+    private final int assetConcurrency;
+    private final int batchSize;
+    private final Duration batchWindow;
+
+    private record Target(Long competitionId, Long seasonId, String externalCompetitionId, String externalSeasonId) {}
+
+    public IngestionPipeline(
+            @Qualifier("footballDataClient") ReactiveFixtureProviderClient fixtureClient,
+            ReactiveStandingsProviderClient standingsClient,
+            ReactiveAssetProviderClient assetClient,
+            IngestionBatchWriter batchWriter,
+            CompetitionRepository competitionRepository,
+            SeasonRepository seasonRepository,
+            ExternalRefService externalRefService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.ingestion.competition-concurrency:4}") int competitionConcurrency,
+            @Value("${app.ingestion.asset-concurrency:8}") int assetConcurrency,
+            @Value("${app.ingestion.batch-size:100}") int batchSize,
+            @Value("${app.ingestion.batch-window:2000}") long batchWindowMillis) {
+        this.fixtureClient = fixtureClient;
+        this.standingsClient = standingsClient;
+        this.assetClient = assetClient;
+        this.batchWriter = batchWriter;
+        this.competitionRepository = competitionRepository;
+        this.seasonRepository = seasonRepository;
+        this.externalRefService = externalRefService;
+        this.eventPublisher = eventPublisher;
+        this.competitionConcurrency = competitionConcurrency;
+        this.assetConcurrency = assetConcurrency;
+        this.batchSize = batchSize;
+        this.batchWindow = Duration.ofMillis(batchWindowMillis);
+    }
+
+    /**
+     * @return number of records written
+     */
+    public Mono<Integer> run() {
+        return Mono.fromCallable(this::loadTargets)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::run);
+    }
+
+    private Mono<Integer> run(List<Target> targets) {
+        log.info("Ingesting {} competitions", targets.size());
+        Set<Long> seenTeams = ConcurrentHashMap.newKeySet();
+        
+        return Flux.fromIterable(targets)
+                .flatMap(target -> fetch(target, seenTeams), competitionConcurrency)
+                .bufferTimeout(batchSize, batchWindow, true)
+                .concatMap(batch -> Mono.fromCallable(() -> batchWriter.write(batch))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> {
+                            log.error("Error writing ingestion batch of {} records: {}", batch.size(), e.getMessage(), e);
+                            return Mono.just(0);
+                        }), 1)
+                .reduce(0, Integer::sum)
+                .flatMap(written -> Mono.fromCallable(() -> {
+                            eventPublisher.publishEvent(new ScheduleChangedEvent());
+                            return written;
+                        })
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .doOnNext(written -> log.info("Ingested {} records for {} competitions", written, targets.size()));
+    }
+
+    /**
+     * Fixtures are shared between the fixture records and the asset lookups for teams not seen
+     * yet in this run; standings come as one record per table, after the competition's fixtures.
+     */
+    private Flux<IngestionRecord> fetch(Target target, Set<Long> seenTeams) {
+        Flux<IngestionRecord> fixturesAndAssets = fixtureClient
+                .fetchFixtures(target.externalCompetitionId(), target.externalSeasonId())
+                .publish(fixtures -> Flux.<IngestionRecord>merge(
+                        fixtures.map(fixture -> new IngestionRecord.Fixture(target.competitionId(), target.seasonId(), fixture)),
+                        fixtures.flatMapIterable(fixture -> Arrays.asList(fixture.getHomeTeam(), fixture.getAwayTeam()))
+                                .filter(team -> team != null && team.getId() != null && seenTeams.add(team.getId()))
+                                .flatMap(this::fetchTeamAssets, assetConcurrency)))
+                .onErrorResume(e -> {
+                    log.error("Error ingesting fixtures for competition {}: {}", target.competitionId(), e.getMessage());
+                    return Flux.empty();
+                });
+        
+        Mono<IngestionRecord> standings = standingsClient
+                .fetchStandings(target.externalCompetitionId(), target.externalSeasonId())
+                .collectList()
+                .filter(table -> !table.isEmpty())
+                .<IngestionRecord>map(table -> new IngestionRecord.Standings(target.competitionId(), target.seasonId(), table))
+                .onErrorResume(e -> {
+                    log.error("Error ingesting standings for competition {}: {}", target.competitionId(), e.getMessage());
+                    return Mono.empty();
+                });
+        
+        // Both are fetched at once, but the table is only handed on after the fixtures, so the
+        // writer has stored the results it counts before reconciling against it
+        return Flux.mergeSequential(fixturesAndAssets, standings);
+    }
+
+    private Mono<IngestionRecord.TeamAssets> fetchTeamAssets(TeamDTO team) {
+        return assetClient.fetchTeamAssets(team.getName())
+                .map(assets -> new IngestionRecord.TeamAssets(team, assets));
+    }
+
+    private List<Target> loadTargets() {
+        Optional<Season> currentSeason = seasonRepository.findByIsCurrentTrue();
+        if (currentSeason.isEmpty()) {
+            log.warn("No current season found, nothing to ingest");
+            return List.of();
+        }
+        
+        Season season = currentSeason.get();
+        List<Target> targets = new ArrayList<>();
+        for (Competition competition : competitionRepository.findAll()) {
+            Optional<String> externalId = externalRefService.getExternalId(
+                    EntityType.COMPETITION, competition.getId(), Provider.FOOTBALL_DATA);
+            if (externalId.isEmpty()) {
+                log.warn("No external competition ID found for competition {}", competition.getName());
+                continue;
+            }
+            targets.add(new Target(competition.getId(), season.getId(), externalId.get(), season.getName()));
+        }
+        return targets;
+    }
+}
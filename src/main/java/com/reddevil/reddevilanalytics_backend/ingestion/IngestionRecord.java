@@ -0,0 +1,23 @@
+package com.reddevil.reddevilanalytics_backend.ingestion;
+
+import com.reddevil.reddevilanalytics_backend.provider.dto.AssetDTO;
+import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
+import com.reddevil.reddevilanalytics_backend.provider.dto.StandingDTO;
+import com.reddevil.reddevilanalytics_backend.provider.dto.TeamDTO;
+
+import java.util.List;
+
+/**
+ * One unit of provider data on its way from the ingestion pipeline to the batch writer.
+ */
+public sealed interface IngestionRecord {
+
+    record Fixture(Long competitionId, Long seasonId, FixtureDTO fixture) implements IngestionRecord {}
+
+    /**
+     * A whole table, since the engine can only be reconciled against a complete one.
+     */
+    record Standings(Long competitionId, Long seasonId, List<StandingDTO> table) implements IngestionRecord {}
+
+    record TeamAssets(TeamDTO team, AssetDTO assets) implements IngestionRecord {}
+}
@@ -0,0 +1,15 @@
+package com.reddevil.reddevilanalytics_backend.prediction;
+
+/**
+ * Local prediction of one match. Outcome probabilities are fractions summing to 1; the
+ * scoreline distribution behind the expected goals is kept for callers that need more.
+ */
+public record Forecast(
+    double homeWin,
+    double draw,
+    double awayWin,
+    double expectedHomeGoals,
+    double expectedAwayGoals,
+    double confidence,
+    ScorelineMatrix scorelines
+) {}
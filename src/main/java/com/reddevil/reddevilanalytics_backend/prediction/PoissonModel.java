@@ -0,0 +1,255 @@
+package com.reddevil.reddevilanalytics_backend.prediction;
+
+import java.util.Arrays;
+
+/**
+ * Dixon-Coles model of one competition: an attack and a defence strength per team, a home
+ * advantage and the low-score correction {@code rho}. A home side is expected to score
+ * {@code baseRate * homeAdvantage * attack[home] * defence[away]} goals, the away side
+ * {@code baseRate * attack[away] * defence[home]}.
+ *
+ * <p>Strengths are fitted by iterating the weighted Poisson maximum likelihood equations over
+ * primitive arrays, each shrunk towards 1 by {@link #PRIOR_GOALS} pseudo goals so a team with
+ * a handful of results is not rated on them alone. Teams without results play at strength 1.
+ */
+public final class PoissonModel {
+
+    static final double DEFAULT_BASE_RATE = 1.2;
+    static final double DEFAULT_HOME_ADVANTAGE = 1.25;
+    static final double PRIOR_GOALS = 2.0;
+    private static final int MAX_ITERATIONS = 100;
+    private static final double TOLERANCE = 1e-6;
+    private static final double MIN_RHO = -0.2;
+    private static final double MAX_RHO = 0.2;
+
+    /**
+     * Used where a competition has no results yet: league-typical scoring, every team equal.
+     */
+    public static final PoissonModel PRIOR = new PoissonModel(
+            new long[0], new double[0], new double[0], new int[0], DEFAULT_BASE_RATE, DEFAULT_HOME_ADVANTAGE, 0);
+
+    private final long[] teamIds;
+    private final double[] attack;
+    private final double[] defence;
+    private final int[] played;
+    private final double baseRate;
+    private final double homeAdvantage;
+    private final double rho;
+
+    private PoissonModel(long[] teamIds, double[] attack, double[] defence, int[] played,
+                         double baseRate, double homeAdvantage, double rho) {
+        this.teamIds = teamIds;
+        this.attack = attack;
+        this.defence = defence;
+        this.played = played;
+        this.baseRate = baseRate;
+        this.homeAdvantage = homeAdvantage;
+        this.rho = rho;
+    }
+
+    /**
+     * Fits a model to results given as parallel arrays, one entry per match.
+     *
+     * @param weights how much each result counts, typically decaying with its age
+     */
+    public static PoissonModel fit(long[] homeTeams, long[] awayTeams, int[] homeGoals, int[] awayGoals,
+                                   double[] weights) {
+        int matches = homeTeams.length;
+        long[] teamIds = distinct(homeTeams, awayTeams);
+        int teams = teamIds.length;
+
+        int[] home = new int[matches];
+        int[] away = new int[matches];
+        int[] played = new int[teams];
+        double[] scored = new double[teams];
+        double[] conceded = new double[teams];
+        double totalWeight = 0;
+        double totalHomeGoals = 0;
+        double totalAwayGoals = 0;
+        for (int m = 0; m < matches; m++) {
+            int h = Arrays.binarySearch(teamIds, homeTeams[m]);
+            int a = Arrays.binarySearch(teamIds, awayTeams[m]);
+            double w = weights[m];
+            home[m] = h;
+            away[m] = a;
+            played[h]++;
+            played[a]++;
+            scored[h] += w * homeGoals[m];
+            scored[a] += w * awayGoals[m];
+            conceded[h] += w * awayGoals[m];
+            conceded[a] += w * homeGoals[m];
+            totalWeight += w;
+            totalHomeGoals += w * homeGoals[m];
+            totalAwayGoals += w * awayGoals[m];
+        }
+
+        if (totalWeight == 0 || totalHomeGoals == 0 || totalAwayGoals == 0) {
+            return new PoissonModel(teamIds, filled(teams), filled(teams), played,
+                    DEFAULT_BASE_RATE, DEFAULT_HOME_ADVANTAGE, 0);
+        }
+
+        double baseRate = totalAwayGoals / totalWeight;
+        double homeAdvantage = totalHomeGoals / totalAwayGoals;
+        double[] attack = filled(teams);
+        double[] defence = filled(teams);
+        double[] exposure = new double[teams];
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double change = 0;
+
+            // Attack: goals scored over goals expected at attack 1
+            Arrays.fill(exposure, 0);
+            for (int m = 0; m < matches; m++) {
+                exposure[home[m]] += weights[m] * baseRate * homeAdvantage * defence[away[m]];
+                exposure[away[m]] += weights[m] * baseRate * defence[home[m]];
+            }
+            double attackSum = 0;
+            for (int t = 0; t < teams; t++) {
+                double updated = (scored[t] + PRIOR_GOALS) / (exposure[t] + PRIOR_GOALS);
+                change = Math.max(change, Math.abs(updated - attack[t]));
+                attack[t] = updated;
+                attackSum += updated;
+            }
+
+            // Mean attack is pinned to 1; defence takes the scale so every product is unchanged
+            double scale = attackSum / teams;
+            for (int t = 0; t < teams; t++) {
+                attack[t] /= scale;
+                defence[t] *= scale;
+            }
+
+            Arrays.fill(exposure, 0);
+            for (int m = 0; m < matches; m++) {
+                exposure[home[m]] += weights[m] * baseRate * attack[away[m]];
+                exposure[away[m]] += weights[m] * baseRate * homeAdvantage * attack[home[m]];
+            }
+            for (int t = 0; t < teams; t++) {
+                double updated = (conceded[t] + PRIOR_GOALS) / (exposure[t] + PRIOR_GOALS);
+                change = Math.max(change, Math.abs(updated - defence[t]));
+                defence[t] = updated;
+            }
+
+            double expectedHomeGoals = 0;
+            for (int m = 0; m < matches; m++) {
+                expectedHomeGoals += weights[m] * baseRate * attack[home[m]] * defence[away[m]];
+            }
+            double updatedHomeAdvantage = totalHomeGoals / expectedHomeGoals;
+            change = Math.max(change, Math.abs(updatedHomeAdvantage - homeAdvantage));
+            homeAdvantage = updatedHomeAdvantage;
+
+            if (change < TOLERANCE) {
+                break;
+            }
+        }
+
+        double rho = fitRho(home, away, homeGoals, awayGoals, weights, attack, defence, baseRate, homeAdvantage);
+        return new PoissonModel(teamIds, attack, defence, played, baseRate, homeAdvantage, rho);
+    }
+
+    /**
+     * Only the four low scorelines depend on {@code rho}, so its likelihood is maximized on its
+     * own once the strengths are fixed, by golden-section search.
+     */
+    private static double fitRho(int[] home, int[] away, int[] homeGoals, int[] awayGoals, double[] weights,
+                                 double[] attack, double[] defence, double baseRate, double homeAdvantage) {
+        int lowScores = 0;
+        for (int m = 0; m < home.length; m++) {
+            if (homeGoals[m] <= 1 && awayGoals[m] <= 1) {
+                lowScores++;
+            }
+        }
+        if (lowScores == 0) {
+            return 0;
+        }
+
+        int[] h = new int[lowScores];
+        int[] a = new int[lowScores];
+        double[] lambda = new double[lowScores];
+        double[] mu = new double[lowScores];
+        double[] w = new double[lowScores];
+        int i = 0;
+        for (int m = 0; m < home.length; m++) {
+            if (homeGoals[m] <= 1 && awayGoals[m] <= 1) {
+                h[i] = homeGoals[m];
+                a[i] = awayGoals[m];
+                lambda[i] = baseRate * homeAdvantage * attack[home[m]] * defence[away[m]];
+                mu[i] = baseRate * attack[away[m]] * defence[home[m]];
+                w[i] = weights[m];
+                i++;
+            }
+        }
+
+        double invPhi = (Math.sqrt(5) - 1) / 2;
+        double low = MIN_RHO;
+        double high = MAX_RHO;
+        for (int iteration = 0; iteration < 40; iteration++) {
+            double left = high - invPhi * (high - low);
+            double right = low + invPhi * (high - low);
+            if (rhoLikelihood(left, h, a, lambda, mu, w) < rhoLikelihood(right, h, a, lambda, mu, w)) {
+                low = left;
+            } else {
+                high = right;
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    private static double rhoLikelihood(double rho, int[] h, int[] a, double[] lambda, double[] mu, double[] w) {
+        double likelihood = 0;
+        for (int i = 0; i < h.length; i++) {
+            double tau = ScorelineMatrix.tau(h[i], a[i], lambda[i], mu[i], rho);
+            if (tau <= 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            likelihood += w[i] * Math.log(tau);
+        }
+        return likelihood;
+    }
+
+    public ScorelineMatrix predict(long homeTeamId, long awayTeamId) {
+        int h = Arrays.binarySearch(teamIds, homeTeamId);
+        int a = Arrays.binarySearch(teamIds, awayTeamId);
+        double homeAttack = h >= 0 ? attack[h] : 1;
+        double homeDefence = h >= 0 ? defence[h] : 1;
+        double awayAttack = a >= 0 ? attack[a] : 1;
+        double awayDefence = a >= 0 ? defence[a] : 1;
+
+        return new ScorelineMatrix(
+                baseRate * homeAdvantage * homeAttack * awayDefence,
+                baseRate * awayAttack * homeDefence,
+                rho);
+    }
+
+    /**
+     * Results the model saw for a team, before weighting.
+     */
+    public int played(long teamId) {
+        int t = Arrays.binarySearch(teamIds, teamId);
+        return t >= 0 ? played[t] : 0;
+    }
+
+    public int teams() {
+        return teamIds.length;
+    }
+
+    public double homeAdvantage() {
+        return homeAdvantage;
+    }
+
+    public double rho() {
+        return rho;
+    }
+
+    private static long[] distinct(long[] first, long[] second) {
+        long[] all = new long[first.length + second.length];
+        System.arraycopy(first, 0, all, 0, first.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return Arrays.stream(all).sorted().distinct().toArray();
+    }
+
+    private static double[] filled(int length) {
+        double[] values = new double[length];
+        Arrays.fill(values, 1);
+        return values;
+    }
+}
@@ -0,0 +1,141 @@
+package com.reddevil.reddevilanalytics_backend.prediction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.event.MatchResultEvent;
+import com.reddevil.reddevilanalytics_backend.rating.RatingService;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.repository.MatchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Local match predictor. Keeps one {@link PoissonModel} per competition, fitted from its stored
+ * results with older ones counting less, and refits it lazily after a new result comes in. Results
+ * only reach the node that stored them, so models also expire after {@code app.prediction.model-ttl}
+ * and every node picks up the others' results on its next fit. Team Elo ratings cover for the
+ * model where it has seen few of a team's results.
+ */
+@Slf4j
+@Component
+public class PredictionEngine {
+
+    /** Results per team at which the fitted model and the Elo expectation weigh the same. */
+    private static final double EVIDENCE_HALF_WEIGHT = 10;
+
+    private final MatchRepository matchRepository;
+    private final RatingService ratingService;
+    private final Duration lookback;
+    private final double decayPerDay;
+    private final Cache<Long, PoissonModel> models;
+
+    public PredictionEngine(
+            MatchRepository matchRepository,
+            RatingService ratingService,
+            @Value("${app.prediction.lookback-days:730}") long lookbackDays,
+            @Value("${app.prediction.half-life-days:180}") double halfLifeDays,
+            @Value("${app.prediction.model-ttl:600000}") long modelTtlMillis) {
+        this.matchRepository = matchRepository;
+        this.ratingService = ratingService;
+        this.lookback = Duration.ofDays(lookbackDays);
+        this.decayPerDay = Math.log(2) / halfLifeDays;
+        this.models = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(modelTtlMillis))
+                .build();
+        log.info("PredictionEngine initialized - lookback: {} days, half-life: {} days, model TTL: {}ms",
+                lookbackDays, halfLifeDays, modelTtlMillis);
+    }
+
+    /**
+     * Outcome probabilities come from the scoreline model, blended with the Elo expectation in
+     * proportion to how little data the model has on the two teams. Draw probability is the
+     * model's either way, since Elo does not separate draws from split points.
+     */
+    public Forecast forecast(Match match) {
+        Long competitionId = match.getCompetition() != null ? match.getCompetition().getId() : null;
+        Long homeTeamId = match.getHomeTeam().getId();
+        Long awayTeamId = match.getAwayTeam().getId();
+        PoissonModel model = competitionId != null ? model(competitionId) : PoissonModel.PRIOR;
+
+        ScorelineMatrix scorelines = model.predict(homeTeamId, awayTeamId);
+        int evidence = Math.min(model.played(homeTeamId), model.played(awayTeamId));
+        double modelWeight = evidence / (evidence + EVIDENCE_HALF_WEIGHT);
+
+        double homeWin = scorelines.homeWin();
+        double awayWin = scorelines.awayWin();
+        if (competitionId != null) {
+            double draw = scorelines.draw();
+            double expected = ratingService.expectedHomeScore(competitionId, homeTeamId, awayTeamId);
+            double eloHomeWin = Math.clamp(expected - draw / 2, 0, 1 - draw);
+            homeWin = modelWeight * homeWin + (1 - modelWeight) * eloHomeWin;
+            awayWin = 1 - draw - homeWin;
+        }
+
+        return new Forecast(homeWin, scorelines.draw(), awayWin,
+                scorelines.expectedHomeGoals(), scorelines.expectedAwayGoals(), modelWeight, scorelines);
+    }
+
+    /**
+     * Drops the competition's model once the result is committed, so the refit sees it.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMatchResult(MatchResultEvent event) {
+        if (event.competitionId() != null && models.asMap().remove(event.competitionId()) != null) {
+            log.debug("Prediction model for competition {} is stale after match {}", event.competitionId(), event.matchId());
+        }
+    }
+
+    /**
+     * Fitting queries the database, so it runs outside the map: two callers may both fit a stale
+     * model, and the first one stored wins.
+     */
+    private PoissonModel model(Long competitionId) {
+        PoissonModel model = models.getIfPresent(competitionId);
+        if (model != null) {
+            return model;
+        }
+        PoissonModel fitted = fit(competitionId);
+        PoissonModel existing = models.asMap().putIfAbsent(competitionId, fitted);
+        return existing != null ? existing : fitted;
+    }
+
+    private PoissonModel fit(Long competitionId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MatchResult> results = matchRepository.findResultsSince(competitionId, now.minus(lookback));
+        if (results.isEmpty()) {
+            log.info("No results for competition {}, predicting from the prior", competitionId);
+            return PoissonModel.PRIOR;
+        }
+
+        int size = results.size();
+        long[] homeTeams = new long[size];
+        long[] awayTeams = new long[size];
+        int[] homeGoals = new int[size];
+        int[] awayGoals = new int[size];
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            MatchResult result = results.get(i);
+            homeTeams[i] = result.homeTeamId();
+            awayTeams[i] = result.awayTeamId();
+            homeGoals[i] = result.homeScore();
+            awayGoals[i] = result.awayScore();
+            double ageDays = Math.max(0, Duration.between(result.matchDate(), now).toHours() / 24.0);
+            weights[i] = Math.exp(-decayPerDay * ageDays);
+        }
+
+        long start = System.nanoTime();
+        PoissonModel model = PoissonModel.fit(homeTeams, awayTeams, homeGoals, awayGoals, weights);
+        log.info("Fitted prediction model for competition {} from {} results of {} teams in {}us - home advantage: {}, rho: {}",
+                competitionId, size, model.teams(), (System.nanoTime() - start) / 1000,
+                String.format("%.3f", model.homeAdvantage()), String.format("%.3f", model.rho()));
+        return model;
+    }
+}
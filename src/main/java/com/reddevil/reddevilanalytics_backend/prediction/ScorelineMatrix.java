@@ -0,0 +1,114 @@
+package com.reddevil.reddevilanalytics_backend.prediction;
+
+/**
+ * Probability of every scoreline up to {@link #MAX_GOALS} goals a side, from independent Poisson
+ * goal counts with the Dixon-Coles correction on 0-0, 1-0, 0-1 and 1-1. Cells are normalized so
+ * the truncated tail does not leak out of the outcome probabilities.
+ */
+public final class ScorelineMatrix {
+
+    public static final int MAX_GOALS = 10;
+    private static final int SIZE = MAX_GOALS + 1;
+
+    private final double expectedHomeGoals;
+    private final double expectedAwayGoals;
+    private final double[] cells = new double[SIZE * SIZE];
+    private double homeWin;
+    private double draw;
+    private double awayWin;
+    private int likeliestCell;
+
+    ScorelineMatrix(double expectedHomeGoals, double expectedAwayGoals, double rho) {
+        this.expectedHomeGoals = expectedHomeGoals;
+        this.expectedAwayGoals = expectedAwayGoals;
+
+        double[] home = poisson(expectedHomeGoals);
+        double[] away = poisson(expectedAwayGoals);
+        double total = 0;
+        for (int h = 0; h < SIZE; h++) {
+            for (int a = 0; a < SIZE; a++) {
+                double p = home[h] * away[a] * tau(h, a, expectedHomeGoals, expectedAwayGoals, rho);
+                cells[h * SIZE + a] = p;
+                total += p;
+            }
+        }
+
+        for (int h = 0; h < SIZE; h++) {
+            for (int a = 0; a < SIZE; a++) {
+                int cell = h * SIZE + a;
+                double p = cells[cell] / total;
+                cells[cell] = p;
+                if (h > a) {
+                    homeWin += p;
+                } else if (h == a) {
+                    draw += p;
+                } else {
+                    awayWin += p;
+                }
+                if (p > cells[likeliestCell]) {
+                    likeliestCell = cell;
+                }
+            }
+        }
+    }
+
+    /**
+     * Dixon-Coles adjustment; 1 for every scoreline other than the four low ones.
+     */
+    static double tau(int homeGoals, int awayGoals, double lambda, double mu, double rho) {
+        if (homeGoals == 0 && awayGoals == 0) {
+            return 1 - lambda * mu * rho;
+        } else if (homeGoals == 0 && awayGoals == 1) {
+            return 1 + lambda * rho;
+        } else if (homeGoals == 1 && awayGoals == 0) {
+            return 1 + mu * rho;
+        } else if (homeGoals == 1 && awayGoals == 1) {
+            return 1 - rho;
+        }
+        return 1;
+    }
+
+    private static double[] poisson(double rate) {
+        double[] pmf = new double[SIZE];
+        pmf[0] = Math.exp(-rate);
+        for (int k = 1; k < SIZE; k++) {
+            pmf[k] = pmf[k - 1] * rate / k;
+        }
+        return pmf;
+    }
+
+    public double probability(int homeGoals, int awayGoals) {
+        if (homeGoals < 0 || awayGoals < 0 || homeGoals > MAX_GOALS || awayGoals > MAX_GOALS) {
+            return 0;
+        }
+        return cells[homeGoals * SIZE + awayGoals];
+    }
+
+    public double homeWin() {
+        return homeWin;
+    }
+
+    public double draw() {
+        return draw;
+    }
+
+    public double awayWin() {
+        return awayWin;
+    }
+
+    public double expectedHomeGoals() {
+        return expectedHomeGoals;
+    }
+
+    public double expectedAwayGoals() {
+        return expectedAwayGoals;
+    }
+
+    public int likeliestHomeGoals() {
+        return likeliestCell / SIZE;
+    }
+
+    public int likeliestAwayGoals() {
+        return likeliestCell % SIZE;
+    }
+}
@@ -1,7 +1,10 @@
 package com.reddevil.reddevilanalytics_backend.provider.apifootball;
 
+import com.reddevil.reddevilanalytics_backend.config.ProviderHttpClients;
 import com.reddevil.reddevilanalytics_backend.provider.client.FixtureProviderClient;
 import com.reddevil.reddevilanalytics_backend.provider.client.LiveMatchProviderClient;
+import com.reddevil.reddevilanalytics_backend.provider.client.ReactiveFixtureProviderClient;
+import com.reddevil.reddevilanalytics_backend.provider.client.ReactiveLiveMatchProviderClient;
 import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
 import com.reddevil.reddevilanalytics_backend.provider.dto.LiveMatchDTO;
 import com.reddevil.reddevilanalytics_backend.provider.dto.MatchEventDTO;
@@ -11,10 +14,17 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -25,22 +35,26 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @Qualifier("apiFootballClient")
-public class ApiFootballClient implements LiveMatchProviderClient, FixtureProviderClient {
+public class ApiFootballClient implements LiveMatchProviderClient, FixtureProviderClient,
+        ReactiveLiveMatchProviderClient, ReactiveFixtureProviderClient {
 
     private final WebClient webClient;
     private final RateLimitManager rateLimitManager;
     private final boolean enabled;
     private final int dailyQuota;
+    private final ApiFootballFixtureDecoder fixtureDecoder;
+    private final int maxPayloadBytes;
 
     public ApiFootballClient(
-            WebClient.Builder webClientBuilder,
+            ProviderHttpClients httpClients,
             RateLimitManager rateLimitManager,
+            JsonMapper jsonMapper,
             @Value("${providers.api-football.base-url}") String baseUrl,
             @Value("${providers.api-football.api-key}") String apiKey,
             @Value("${providers.api-football.daily-quota:100}") int dailyQuota,
             @Value("${providers.api-football.enabled:true}") boolean enabled) {
         
-        this.webClient = webClientBuilder
+        this.webClient = httpClients.webClientBuilder(ProviderHttpClients.API_FOOTBALL)
                 .baseUrl(baseUrl)
                 .defaultHeader("x-rapidapi-key", apiKey)
                 .defaultHeader("x-rapidapi-host", "api-football-v1.p.rapidapi.com")
@@ -49,6 +63,8 @@ public class ApiFootballClient implements LiveMatchProviderClient, FixtureProvid
         this.rateLimitManager = rateLimitManager;
         this.dailyQuota = dailyQuota;
         this.enabled = enabled;
+        this.fixtureDecoder = new ApiFootballFixtureDecoder(jsonMapper);
+        this.maxPayloadBytes = (int) httpClients.settings(ProviderHttpClients.API_FOOTBALL).maxPayloadSize().toBytes();
         
         log.info("ApiFootballClient initialized - enabled: {}, dailyQuota: {}", enabled, dailyQuota);
     }
@@ -64,34 +80,26 @@ public class ApiFootballClient implements LiveMatchProviderClient, FixtureProvid
         enforceQuota("getLiveMatches");
 
         try {
-            LiveMatchesResponse response = webClient
-                    .get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/fixtures")
-                            .queryParam("live", "all")
-                            .queryParam("league", competitionId)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(LiveMatchesResponse.class)
-                    .block();
-
-            logQuotaUsage("getLiveMatches");
-            
-            if (response == null || response.response() == null) {
-                log.warn("No response from API-Football for live matches");
-                return Collections.emptyList();
-            }
-
-            return response.response().stream()
-                    .map(this::mapToLiveMatchDTO)
-                    .collect(Collectors.toList());
-                    
+            return requestLiveMatches(competitionId).collectList().block();
         } catch (Exception e) {
             log.error("Error fetching live matches from API-Football: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch live matches", e);
         }
     }
 
+    @Override
+    @CircuitBreaker(name = "apiFootball")
+    public Flux<LiveMatchDTO> fetchLiveMatches(String competitionId) {
+        return Flux.defer(() -> {
+            if (!enabled) {
+                log.warn("ApiFootball provider is disabled");
+                return Flux.empty();
+            }
+            enforceQuota("getLiveMatches");
+            return requestLiveMatches(competitionId);
+        });
+    }
+
     @Override
     @CircuitBreaker(name = "apiFootball")
     public LiveMatchDTO getLiveMatchById(String matchId) {
@@ -103,32 +111,30 @@ public class ApiFootballClient implements LiveMatchProviderClient, FixtureProvid
         enforceQuota("getLiveMatchById");
 
         try {
-            LiveMatchesResponse response = webClient
-                    .get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/fixtures")
-                            .queryParam("id", matchId)
-                            .queryParam("live", "all")
-                            .build())
-                    .retrieve()
-                    .bodyToMono(LiveMatchesResponse.class)
-                    .block();
-
-            logQuotaUsage("getLiveMatchById");
-            
-            if (response == null || response.response() == null || response.response().isEmpty()) {
+            LiveMatchDTO liveMatch = requestLiveMatchById(matchId).block();
+            if (liveMatch == null) {
                 log.warn("No live match found with ID: {}", matchId);
-                return null;
             }
-
-            return mapToLiveMatchDTO(response.response().get(0));
-            
+            return liveMatch;
         } catch (Exception e) {
             log.error("Error fetching live match by ID from API-Football: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch live match", e);
         }
     }
 
+    @Override
+    @CircuitBreaker(name = "apiFootball")
+    public Mono<LiveMatchDTO> fetchLiveMatchById(String matchId) {
+        return Mono.defer(() -> {
+            if (!enabled) {
+                log.warn("ApiFootball provider is disabled");
+                return Mono.empty();
+            }
+            enforceQuota("getLiveMatchById");
+            return requestLiveMatchById(matchId);
+        });
+    }
+
     @Override
     @CircuitBreaker(name = "apiFootball")
     public List<FixtureDTO> getFixtures(String competitionId, String seasonId) {
@@ -140,34 +146,26 @@ public class ApiFootballClient implements LiveMatchProviderClient, FixtureProvid
         enforceQuota("getFixtures");
 
         try {
-            FixturesResponse response = webClient
-                    .get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/fixtures")
-                            .queryParam("league", competitionId)
-                            .queryParam("season", seasonId)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(FixturesResponse.class)
-                    .block();
-
-            logQuotaUsage("getFixtures");
-            
-            if (response == null || response.response() == null) {
-                log.warn("No response from API-Football for fixtures");
-                return Collections.emptyList();
-            }
-
-            return response.response().stream()
-                    .map(this::mapToFixtureDTO)
-                    .collect(Collectors.toList());
-                    
+            return requestFixtures(competitionId, seasonId).collectList().block();
         } catch (Exception e) {
             log.error("Error fetching fixtures from API-Football: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch fixtures", e);
         }
     }
 
+    @Override
+    @CircuitBreaker(name = "apiFootball")
+    public Flux<FixtureDTO> fetchFixtures(String competitionId, String seasonId) {
+        return Flux.defer(() -> {
+            if (!enabled) {
+                log.warn("ApiFootball provider is disabled");
+                return Flux.empty();
+            }
+            enforceQuota("getFixtures");
+            return requestFixtures(competitionId, seasonId);
+        });
+    }
+
     @Override
     @CircuitBreaker(name = "apiFootball")
     public FixtureDTO getFixtureById(String fixtureId) {
@@ -179,31 +177,30 @@ public class ApiFootballClient implements LiveMatchProviderClient, FixtureProvid
         enforceQuota("getFixtureById");
 
         try {
-            FixturesResponse response = webClient
-                    .get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/fixtures")
-                            .queryParam("id", fixtureId)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(FixturesResponse.class)
-                    .block();
-
-            logQuotaUsage("getFixtureById");
-            
-            if (response == null || response.response() == null || response.response().isEmpty()) {
+            FixtureDTO fixture = requestFixtureById(fixtureId).block();
+            if (fixture == null) {
                 log.warn("No fixture found with ID: {}", fixtureId);
-                return null;
             }
-
-            return mapToFixtureDTO(response.response().get(0));
-            
+            return fixture;
         } catch (Exception e) {
             log.error("Error fetching fixture by ID from API-Football: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch fixture", e);
         }
     }
 
+    @Override
+    @CircuitBreaker(name = "apiFootball")
+    public Mono<FixtureDTO> fetchFixtureById(String fixtureId) {
+        return Mono.defer(() -> {
+            if (!enabled) {
+                log.warn("ApiFootball provider is disabled");
+                return Mono.empty();
+            }
+            enforceQuota("getFixtureById");
+            return requestFixtureById(fixtureId);
+        });
+    }
+
     @Override
     @CircuitBreaker(name = "apiFootball")
     public FixtureDTO getNextFixture(String teamId, String seasonId) {
@@ -215,33 +212,108 @@ public class ApiFootballClient implements LiveMatchProviderClient, FixtureProvid
         enforceQuota("getNextFixture");
 
         try {
-            FixturesResponse response = webClient
-                    .get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/fixtures")
-                            .queryParam("team", teamId)
-                            .queryParam("season", seasonId)
-                            .queryParam("next", "1")
-                            .build())
-                    .retrieve()
-                    .bodyToMono(FixturesResponse.class)
-                    .block();
-
-            logQuotaUsage("getNextFixture");
-            
-            if (response == null || response.response() == null || response.response().isEmpty()) {
+            FixtureDTO fixture = requestNextFixture(teamId, seasonId).block();
+            if (fixture == null) {
                 log.warn("No next fixture found for team ID: {}", teamId);
-                return null;
             }
-
-            return mapToFixtureDTO(response.response().get(0));
-            
+            return fixture;
         } catch (Exception e) {
             log.error("Error fetching next fixture from API-Football: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch next fixture", e);
         }
     }
 
+    @Override
+    @CircuitBreaker(name = "apiFootball")
+    public Mono<FixtureDTO> fetchNextFixture(String teamId, String seasonId) {
+        return Mono.defer(() -> {
+            if (!enabled) {
+                log.warn("ApiFootball provider is disabled");
+                return Mono.empty();
+            }
+            enforceQuota("getNextFixture");
+            return requestNextFixture(teamId, seasonId);
+        });
+    }
+
+    private Flux<LiveMatchDTO> requestLiveMatches(String competitionId) {
+        return webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/fixtures")
+                        .queryParam("live", "all")
+                        .queryParam("league", competitionId)
+                        .build())
+                .retrieve()
+                .bodyToMono(LiveMatchesResponse.class)
+                .doOnNext(response -> logQuotaUsage("getLiveMatches"))
+                .flatMapIterable(response -> response.response() != null ? response.response() : List.of())
+                .map(this::mapToLiveMatchDTO);
+    }
+
+    private Mono<LiveMatchDTO> requestLiveMatchById(String matchId) {
+        return webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/fixtures")
+                        .queryParam("id", matchId)
+                        .queryParam("live", "all")
+                        .build())
+                .retrieve()
+                .bodyToMono(LiveMatchesResponse.class)
+                .doOnNext(response -> logQuotaUsage("getLiveMatchById"))
+                .flatMapIterable(response -> response.response() != null ? response.response() : List.of())
+                .next()
+                .map(this::mapToLiveMatchDTO);
+    }
+
+    private Flux<FixtureDTO> requestFixtures(String competitionId, String seasonId) {
+        return webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/fixtures")
+                        .queryParam("league", competitionId)
+                        .queryParam("season", seasonId)
+                        .build())
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(body -> DataBufferUtils.join(body, maxPayloadBytes))
+                .doOnNext(body -> logQuotaUsage("getFixtures"))
+                .flatMapIterable(this::decodeFixtures);
+    }
+
+    private Mono<FixtureDTO> requestFixtureById(String fixtureId) {
+        return webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/fixtures")
+                        .queryParam("id", fixtureId)
+                        .build())
+                .retrieve()
+                .bodyToMono(FixturesResponse.class)
+                .doOnNext(response -> logQuotaUsage("getFixtureById"))
+                .flatMapIterable(response -> response.response() != null ? response.response() : List.of())
+                .next()
+                .map(ApiFootballClient::mapToFixtureDTO);
+    }
+
+    private Mono<FixtureDTO> requestNextFixture(String teamId, String seasonId) {
+        return webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/fixtures")
+                        .queryParam("team", teamId)
+                        .queryParam("season", seasonId)
+                        .queryParam("next", "1")
+                        .build())
+                .retrieve()
+                .bodyToMono(FixturesResponse.class)
+                .doOnNext(response -> logQuotaUsage("getNextFixture"))
+                .flatMapIterable(response -> response.response() != null ? response.response() : List.of())
+                .next()
+                .map(ApiFootballClient::mapToFixtureDTO);
+    }
+
     private void enforceQuota(String operation) {
         int remainingQuota = rateLimitManager.getRemainingQuota(RateLimitManager.Provider.API_FOOTBALL);
         
@@ -267,6 +339,18 @@ public class ApiFootballClient implements LiveMatchProviderClient, FixtureProvid
         }
     }
 
+    /**
+     * Decodes a season's fixtures without binding them to {@link FixturesResponse}; the buffer is
+     * released once read.
+     */
+    private List<FixtureDTO> decodeFixtures(DataBuffer body) {
+        try (InputStream in = body.asInputStream(true)) {
+            return fixtureDecoder.decode(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private LiveMatchDTO mapToLiveMatchDTO(FixtureItem fixture) {
         List<MatchEventDTO> events = Collections.emptyList();
         if (fixture.events() != null) {
@@ -292,34 +376,38 @@ public class ApiFootballClient implements LiveMatchProviderClient, FixtureProvid
                 .build();
     }
 
-    private FixtureDTO mapToFixtureDTO(FixtureItem fixture) {
+    /**
+     * Record-bound counterpart of {@link ApiFootballFixtureDecoder}; the two must produce equal DTOs.
+     */
+    static FixtureDTO mapToFixtureDTO(FixtureItem fixture) {
+        FixtureDetails details = fixture.fixture();
         LocalDateTime matchDate = null;
-        if (fixture.fixture().timestamp() != null) {
+        if (details != null && details.timestamp() != null) {
             matchDate = LocalDateTime.ofInstant(
-                    java.time.Instant.ofEpochSecond(fixture.fixture().timestamp()),
+                    java.time.Instant.ofEpochSecond(details.timestamp()),
                     ZoneId.systemDefault()
             );
-        } else if (fixture.fixture().date() != null) {
+        } else if (details != null && details.date() != null) {
             matchDate = LocalDateTime.parse(
-                    fixture.fixture().date(),
+                    details.date(),
                     DateTimeFormatter.ISO_DATE_TIME
             );
         }
 
         return FixtureDTO.builder()
-                .id(fixture.fixture().id())
-                .homeTeam(mapToTeamDTO(fixture.teams().home()))
-                .awayTeam(mapToTeamDTO(fixture.teams().away()))
+                .id(details != null ? details.id() : null)
+                .homeTeam(fixture.teams() != null ? mapToTeamDTO(fixture.teams().home()) : null)
+                .awayTeam(fixture.teams() != null ? mapToTeamDTO(fixture.teams().away()) : null)
                 .matchDate(matchDate)
-                .status(fixture.fixture().status().shortStatus())
-                .homeScore(fixture.goals().home())
-                .awayScore(fixture.goals().away())
-                .venue(fixture.fixture().venue() != null ? fixture.fixture().venue().name() : null)
-                .referee(fixture.fixture().referee())
+                .status(details != null && details.status() != null ? details.status().shortStatus() : null)
+                .homeScore(fixture.goals() != null ? fixture.goals().home() : null)
+                .awayScore(fixture.goals() != null ? fixture.goals().away() : null)
+                .venue(details != null && details.venue() != null ? details.venue().name() : null)
+                .referee(details != null ? details.referee() : null)
                 .build();
     }
 
-    private TeamDTO mapToTeamDTO(TeamInfo teamInfo) {
+    private static TeamDTO mapToTeamDTO(TeamInfo teamInfo) {
         if (teamInfo == null) {
             return null;
         }
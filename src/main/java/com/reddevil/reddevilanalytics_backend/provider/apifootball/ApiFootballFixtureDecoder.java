@@ -0,0 +1,158 @@
+package com.reddevil.reddevilanalytics_backend.provider.apifootball;
+
+import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
+import com.reddevil.reddevilanalytics_backend.provider.dto.TeamDTO;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a {@code fixtures} payload token by token straight into {@link FixtureDTO}s, skipping
+ * league, score breakdown and event subtrees. Produces the same DTOs as binding to
+ * {@link FixturesResponse} and mapping, without building the record graph first.
+ */
+public class ApiFootballFixtureDecoder {
+
+    private final JsonMapper jsonMapper;
+
+    public ApiFootballFixtureDecoder(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    public List<FixtureDTO> decode(InputStream in) {
+        List<FixtureDTO> fixtures = new ArrayList<>();
+        try (JsonParser parser = jsonMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return fixtures;
+            }
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String name = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "response".equals(name)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        fixtures.add(readItem(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return fixtures;
+    }
+
+    private FixtureDTO readItem(JsonParser parser) {
+        FixtureDTO.FixtureDTOBuilder fixture = FixtureDTO.builder();
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "fixture" -> readFixture(parser, fixture);
+                case "teams" -> readTeams(parser, fixture);
+                case "goals" -> readGoals(parser, fixture);
+                default -> parser.skipChildren();
+            }
+        }
+        return fixture.build();
+    }
+
+    private void readFixture(JsonParser parser, FixtureDTO.FixtureDTOBuilder fixture) {
+        Long timestamp = null;
+        String date = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (name) {
+                case "id" -> fixture.id(parser.getValueAsLong());
+                case "referee" -> fixture.referee(parser.getValueAsString());
+                case "timestamp" -> timestamp = parser.getValueAsLong();
+                case "date" -> date = parser.getValueAsString();
+                case "status" -> fixture.status(readField(parser, "short"));
+                case "venue" -> fixture.venue(readField(parser, "name"));
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (timestamp != null) {
+            fixture.matchDate(LocalDateTime.ofInstant(Instant.ofEpochSecond(timestamp), ZoneId.systemDefault()));
+        } else if (date != null) {
+            fixture.matchDate(LocalDateTime.parse(date, DateTimeFormatter.ISO_DATE_TIME));
+        }
+    }
+
+    private void readTeams(JsonParser parser, FixtureDTO.FixtureDTOBuilder fixture) {
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "home" -> fixture.homeTeam(readTeam(parser));
+                case "away" -> fixture.awayTeam(readTeam(parser));
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private TeamDTO readTeam(JsonParser parser) {
+        TeamDTO.TeamDTOBuilder team = TeamDTO.builder();
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "id" -> team.id(parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsLong());
+                case "name" -> team.name(parser.getValueAsString());
+                case "logo" -> team.logoUrl(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return team.build();
+    }
+
+    private void readGoals(JsonParser parser, FixtureDTO.FixtureDTOBuilder fixture) {
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            Integer goals = parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+            switch (name) {
+                case "home" -> fixture.homeScore(goals);
+                case "away" -> fixture.awayScore(goals);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Returns one scalar property of the object the parser is on as text, skipping the rest.
+     */
+    private String readField(JsonParser parser, String field) {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String value = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (field.equals(name)) {
+                value = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+}
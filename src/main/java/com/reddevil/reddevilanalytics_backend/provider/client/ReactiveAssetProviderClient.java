@@ -0,0 +1,9 @@
+package com.reddevil.reddevilanalytics_backend.provider.client;
+
+import com.reddevil.reddevilanalytics_backend.provider.dto.AssetDTO;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAssetProviderClient {
+    Mono<AssetDTO> fetchTeamAssets(String teamName);
+    Mono<AssetDTO> fetchPlayerAssets(String playerName);
+}
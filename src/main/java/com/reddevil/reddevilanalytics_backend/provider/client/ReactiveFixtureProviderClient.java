@@ -0,0 +1,11 @@
+package com.reddevil.reddevilanalytics_backend.provider.client;
+
+import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveFixtureProviderClient {
+    Flux<FixtureDTO> fetchFixtures(String competitionId, String seasonId);
+    Mono<FixtureDTO> fetchFixtureById(String fixtureId);
+    Mono<FixtureDTO> fetchNextFixture(String teamId, String seasonId);
+}
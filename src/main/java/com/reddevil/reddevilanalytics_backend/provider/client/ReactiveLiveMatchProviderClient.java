@@ -0,0 +1,10 @@
+package com.reddevil.reddevilanalytics_backend.provider.client;
+
+import com.reddevil.reddevilanalytics_backend.provider.dto.LiveMatchDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveLiveMatchProviderClient {
+    Flux<LiveMatchDTO> fetchLiveMatches(String competitionId);
+    Mono<LiveMatchDTO> fetchLiveMatchById(String matchId);
+}
@@ -0,0 +1,8 @@
+package com.reddevil.reddevilanalytics_backend.provider.client;
+
+import com.reddevil.reddevilanalytics_backend.provider.dto.StandingDTO;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveStandingsProviderClient {
+    Flux<StandingDTO> fetchStandings(String competitionId, String seasonId);
+}
@@ -1,6 +1,9 @@
 package com.reddevil.reddevilanalytics_backend.provider.footballdata;
 
+import com.reddevil.reddevilanalytics_backend.config.ProviderHttpClients;
 import com.reddevil.reddevilanalytics_backend.provider.client.FixtureProviderClient;
+import com.reddevil.reddevilanalytics_backend.provider.client.ReactiveFixtureProviderClient;
+import com.reddevil.reddevilanalytics_backend.provider.client.ReactiveStandingsProviderClient;
 import com.reddevil.reddevilanalytics_backend.provider.client.StandingsProviderClient;
 import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
 import com.reddevil.reddevilanalytics_backend.provider.dto.StandingDTO;
@@ -10,35 +13,46 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @Slf4j
 @Service
 @Qualifier("footballDataClient")
-public class FootballDataClient implements FixtureProviderClient, StandingsProviderClient {
+public class FootballDataClient implements FixtureProviderClient, StandingsProviderClient,
+        ReactiveFixtureProviderClient, ReactiveStandingsProviderClient {
 
     private final WebClient webClient;
     private final RateLimitManager rateLimitManager;
+    private final FootballDataFixtureDecoder fixtureDecoder;
+    private final int maxPayloadBytes;
 
     public FootballDataClient(
-            WebClient.Builder webClientBuilder,
+            ProviderHttpClients httpClients,
             RateLimitManager rateLimitManager,
+            JsonMapper jsonMapper,
             @Value("${providers.football-data.base-url}") String baseUrl,
             @Value("${providers.football-data.api-key}") String apiKey) {
-        this.webClient = webClientBuilder
+        this.webClient = httpClients.webClientBuilder(ProviderHttpClients.FOOTBALL_DATA)
                 .baseUrl(baseUrl)
                 .defaultHeader("X-Auth-Token", apiKey)
                 .build();
         this.rateLimitManager = rateLimitManager;
+        this.fixtureDecoder = new FootballDataFixtureDecoder(jsonMapper);
+        this.maxPayloadBytes = (int) httpClients.settings(ProviderHttpClients.FOOTBALL_DATA).maxPayloadSize().toBytes();
         log.info("FootballDataClient initialized with base URL: {}", baseUrl);
     }
 
@@ -53,28 +67,31 @@ public class FootballDataClient implements FixtureProviderClient, StandingsProvi
         }
 
         try {
-            FootballDataModels.FixturesResponse response = webClient.get()
-                    .uri("/competitions/{competitionId}/matches", competitionId)
-                    .retrieve()
-                    .bodyToMono(FootballDataModels.FixturesResponse.class)
-                    .block();
-
-            rateLimitManager.recordRequest(RateLimitManager.Provider.FOOTBALL_DATA);
-
-            if (response == null || response.matches() == null) {
+            List<FixtureDTO> fixtures = requestFixtures(competitionId).collectList().block();
+            if (fixtures == null || fixtures.isEmpty()) {
                 log.warn("No fixtures found for competition: {}", competitionId);
                 return Collections.emptyList();
             }
-
-            return response.matches().stream()
-                    .map(this::mapToFixtureDTO)
-                    .collect(Collectors.toList());
+            return fixtures;
         } catch (Exception e) {
             log.error("Error fetching fixtures from Football-Data.org: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch fixtures", e);
         }
     }
 
+    @Override
+    @CircuitBreaker(name = "footballData")
+    public Flux<FixtureDTO> fetchFixtures(String competitionId, String seasonId) {
+        return Flux.defer(() -> {
+            log.debug("Fetching fixtures for competition: {}, season: {}", competitionId, seasonId);
+            if (!rateLimitManager.allowRequest(RateLimitManager.Provider.FOOTBALL_DATA)) {
+                log.warn("Rate limit exceeded for Football-Data.org");
+                return Flux.empty();
+            }
+            return requestFixtures(competitionId);
+        });
+    }
+
     @Override
     @CircuitBreaker(name = "footballData", fallbackMethod = "getFixtureByIdFallback")
     public FixtureDTO getFixtureById(String fixtureId) {
@@ -86,26 +103,30 @@ public class FootballDataClient implements FixtureProviderClient, StandingsProvi
         }
 
         try {
-            FootballDataModels.MatchResponse response = webClient.get()
-                    .uri("/matches/{matchId}", fixtureId)
-                    .retrieve()
-                    .bodyToMono(FootballDataModels.MatchResponse.class)
-                    .block();
-
-            rateLimitManager.recordRequest(RateLimitManager.Provider.FOOTBALL_DATA);
-
-            if (response == null) {
+            FixtureDTO fixture = requestFixtureById(fixtureId).block();
+            if (fixture == null) {
                 log.warn("No fixture found with ID: {}", fixtureId);
-                return null;
             }
-
-            return mapToFixtureDTO(response);
+            return fixture;
         } catch (Exception e) {
             log.error("Error fetching fixture by ID from Football-Data.org: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch fixture by ID", e);
         }
     }
 
+    @Override
+    @CircuitBreaker(name = "footballData")
+    public Mono<FixtureDTO> fetchFixtureById(String fixtureId) {
+        return Mono.defer(() -> {
+            log.debug("Fetching fixture by ID: {}", fixtureId);
+            if (!rateLimitManager.allowRequest(RateLimitManager.Provider.FOOTBALL_DATA)) {
+                log.warn("Rate limit exceeded for Football-Data.org");
+                return Mono.empty();
+            }
+            return requestFixtureById(fixtureId);
+        });
+    }
+
     @Override
     @CircuitBreaker(name = "footballData", fallbackMethod = "getNextFixtureFallback")
     public FixtureDTO getNextFixture(String teamId, String seasonId) {
@@ -117,33 +138,30 @@ public class FootballDataClient implements FixtureProviderClient, StandingsProvi
         }
 
         try {
-            FootballDataModels.FixturesResponse response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/teams/{teamId}/matches")
-                            .queryParam("status", "SCHEDULED")
-                            .build(teamId))
-                    .retrieve()
-                    .bodyToMono(FootballDataModels.FixturesResponse.class)
-                    .block();
-
-            rateLimitManager.recordRequest(RateLimitManager.Provider.FOOTBALL_DATA);
-
-            if (response == null || response.matches() == null || response.matches().isEmpty()) {
+            FixtureDTO fixture = requestNextFixture(teamId).block();
+            if (fixture == null) {
                 log.warn("No upcoming fixtures found for team: {}", teamId);
-                return null;
             }
-
-            return response.matches().stream()
-                    .map(this::mapToFixtureDTO)
-                    .filter(fixture -> fixture.getMatchDate() != null && fixture.getMatchDate().isAfter(LocalDateTime.now()))
-                    .min(Comparator.comparing(FixtureDTO::getMatchDate))
-                    .orElse(null);
+            return fixture;
         } catch (Exception e) {
             log.error("Error fetching next fixture from Football-Data.org: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch next fixture", e);
         }
     }
 
+    @Override
+    @CircuitBreaker(name = "footballData")
+    public Mono<FixtureDTO> fetchNextFixture(String teamId, String seasonId) {
+        return Mono.defer(() -> {
+            log.debug("Fetching next fixture for team: {}, season: {}", teamId, seasonId);
+            if (!rateLimitManager.allowRequest(RateLimitManager.Provider.FOOTBALL_DATA)) {
+                log.warn("Rate limit exceeded for Football-Data.org");
+                return Mono.empty();
+            }
+            return requestNextFixture(teamId);
+        });
+    }
+
     @Override
     @CircuitBreaker(name = "footballData", fallbackMethod = "getStandingsFallback")
     public List<StandingDTO> getStandings(String competitionId, String seasonId) {
@@ -155,31 +173,94 @@ public class FootballDataClient implements FixtureProviderClient, StandingsProvi
         }
 
         try {
-            FootballDataModels.StandingsResponse response = webClient.get()
-                    .uri("/competitions/{competitionId}/standings", competitionId)
-                    .retrieve()
-                    .bodyToMono(FootballDataModels.StandingsResponse.class)
-                    .block();
-
-            rateLimitManager.recordRequest(RateLimitManager.Provider.FOOTBALL_DATA);
-
-            if (response == null || response.standings() == null || response.standings().isEmpty()) {
+            List<StandingDTO> standings = requestStandings(competitionId).collectList().block();
+            if (standings == null || standings.isEmpty()) {
                 log.warn("No standings found for competition: {}", competitionId);
                 return Collections.emptyList();
             }
-
-            return response.standings().stream()
-                    .filter(standing -> "TOTAL".equals(standing.type()))
-                    .flatMap(standing -> standing.table().stream())
-                    .map(this::mapToStandingDTO)
-                    .collect(Collectors.toList());
+            return standings;
         } catch (Exception e) {
             log.error("Error fetching standings from Football-Data.org: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch standings", e);
         }
     }
 
-    private FixtureDTO mapToFixtureDTO(FootballDataModels.MatchResponse match) {
+    @Override
+    @CircuitBreaker(name = "footballData")
+    public Flux<StandingDTO> fetchStandings(String competitionId, String seasonId) {
+        return Flux.defer(() -> {
+            log.debug("Fetching standings for competition: {}, season: {}", competitionId, seasonId);
+            if (!rateLimitManager.allowRequest(RateLimitManager.Provider.FOOTBALL_DATA)) {
+                log.warn("Rate limit exceeded for Football-Data.org");
+                return Flux.empty();
+            }
+            return requestStandings(competitionId);
+        });
+    }
+
+    private Flux<FixtureDTO> requestFixtures(String competitionId) {
+        return webClient.get()
+                .uri("/competitions/{competitionId}/matches", competitionId)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(body -> DataBufferUtils.join(body, maxPayloadBytes))
+                .doOnNext(body -> rateLimitManager.recordRequest(RateLimitManager.Provider.FOOTBALL_DATA))
+                .flatMapIterable(this::decodeFixtures);
+    }
+
+    private Mono<FixtureDTO> requestFixtureById(String fixtureId) {
+        return webClient.get()
+                .uri("/matches/{matchId}", fixtureId)
+                .retrieve()
+                .bodyToMono(FootballDataModels.MatchResponse.class)
+                .doOnNext(response -> rateLimitManager.recordRequest(RateLimitManager.Provider.FOOTBALL_DATA))
+                .map(FootballDataClient::mapToFixtureDTO);
+    }
+
+    private Mono<FixtureDTO> requestNextFixture(String teamId) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/teams/{teamId}/matches")
+                        .queryParam("status", "SCHEDULED")
+                        .build(teamId))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(body -> DataBufferUtils.join(body, maxPayloadBytes))
+                .doOnNext(body -> rateLimitManager.recordRequest(RateLimitManager.Provider.FOOTBALL_DATA))
+                .flatMapIterable(this::decodeFixtures)
+                .filter(fixture -> fixture.getMatchDate() != null && fixture.getMatchDate().isAfter(LocalDateTime.now()))
+                .reduce((first, second) -> second.getMatchDate().isBefore(first.getMatchDate()) ? second : first);
+    }
+
+    private Flux<StandingDTO> requestStandings(String competitionId) {
+        return webClient.get()
+                .uri("/competitions/{competitionId}/standings", competitionId)
+                .retrieve()
+                .bodyToMono(FootballDataModels.StandingsResponse.class)
+                .doOnNext(response -> rateLimitManager.recordRequest(RateLimitManager.Provider.FOOTBALL_DATA))
+                .flatMapIterable(response -> response.standings() != null ? response.standings() : List.of())
+                .filter(standing -> "TOTAL".equals(standing.type()) && standing.table() != null)
+                .flatMapIterable(FootballDataModels.StandingTableResponse::table)
+                .filter(Objects::nonNull)
+                .map(this::mapToStandingDTO);
+    }
+
+    /**
+     * Decodes a matches payload without binding it to {@link FootballDataModels}; the buffer is
+     * released once read.
+     */
+    private List<FixtureDTO> decodeFixtures(DataBuffer body) {
+        try (InputStream in = body.asInputStream(true)) {
+            return fixtureDecoder.decode(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Record-bound counterpart of {@link FootballDataFixtureDecoder}; the two must produce equal DTOs.
+     */
+    static FixtureDTO mapToFixtureDTO(FootballDataModels.MatchResponse match) {
         if (match == null) {
             return null;
         }
@@ -195,7 +276,9 @@ public class FootballDataClient implements FixtureProviderClient, StandingsProvi
         }
 
         String competitionName = match.competition() != null ? match.competition().name() : null;
-        String seasonId = match.season() != null ? String.valueOf(match.season().id()) : null;
+        String seasonId = match.season() != null && match.season().id() != null
+                ? String.valueOf(match.season().id())
+                : null;
 
         return FixtureDTO.builder()
                 .id(match.id())
@@ -233,7 +316,7 @@ public class FootballDataClient implements FixtureProviderClient, StandingsProvi
                 .build();
     }
 
-    private TeamDTO mapToTeamDTO(FootballDataModels.TeamResponse team) {
+    private static TeamDTO mapToTeamDTO(FootballDataModels.TeamResponse team) {
         if (team == null) {
             return null;
         }
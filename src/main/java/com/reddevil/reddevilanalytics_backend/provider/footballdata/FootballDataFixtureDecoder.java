@@ -0,0 +1,156 @@
+package com.reddevil.reddevilanalytics_backend.provider.footballdata;
+
+import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
+import com.reddevil.reddevilanalytics_backend.provider.dto.TeamDTO;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a {@code matches} payload token by token straight into {@link FixtureDTO}s. Subtrees the
+ * sync never uses (area, odds, referees, half-time scores) are skipped without being materialized,
+ * which is where most of a season payload's bytes are.
+ */
+public class FootballDataFixtureDecoder {
+
+    private final JsonMapper jsonMapper;
+
+    public FootballDataFixtureDecoder(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    public List<FixtureDTO> decode(InputStream in) {
+        List<FixtureDTO> fixtures = new ArrayList<>();
+        try (JsonParser parser = jsonMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return fixtures;
+            }
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String name = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "matches".equals(name)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        fixtures.add(readMatch(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return fixtures;
+    }
+
+    private FixtureDTO readMatch(JsonParser parser) {
+        FixtureDTO.FixtureDTOBuilder fixture = FixtureDTO.builder();
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (name) {
+                case "id" -> fixture.id(parser.getValueAsLong());
+                case "utcDate" -> fixture.matchDate(parseUtcDate(parser.getValueAsString()));
+                case "status" -> fixture.status(parser.getValueAsString());
+                case "venue" -> fixture.venue(parser.getValueAsString());
+                case "homeTeam" -> fixture.homeTeam(readTeam(parser));
+                case "awayTeam" -> fixture.awayTeam(readTeam(parser));
+                case "competition" -> fixture.competition(readField(parser, "name"));
+                case "season" -> fixture.season(readField(parser, "id"));
+                case "score" -> readScore(parser, fixture);
+                default -> parser.skipChildren();
+            }
+        }
+        return fixture.build();
+    }
+
+    private TeamDTO readTeam(JsonParser parser) {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        TeamDTO.TeamDTOBuilder team = TeamDTO.builder();
+        String shortName = null;
+        String tla = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "id" -> team.id(nullableLong(parser));
+                case "name" -> team.name(parser.getValueAsString());
+                case "shortName" -> shortName = parser.getValueAsString();
+                case "tla" -> tla = parser.getValueAsString();
+                case "crest" -> team.logoUrl(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return team.shortName(shortName != null ? shortName : tla).build();
+    }
+
+    private void readScore(JsonParser parser, FixtureDTO.FixtureDTOBuilder fixture) {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT && "fullTime".equals(name)) {
+                while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                    String side = parser.currentName();
+                    parser.nextToken();
+                    switch (side) {
+                        case "home" -> fixture.homeScore(nullableInt(parser));
+                        case "away" -> fixture.awayScore(nullableInt(parser));
+                        default -> parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Returns one scalar property of the object the parser is on as text, skipping the rest.
+     */
+    private String readField(JsonParser parser, String field) {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String value = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (field.equals(name)) {
+                value = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    private static Integer nullableInt(JsonParser parser) {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+    }
+
+    private static Long nullableLong(JsonParser parser) {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+    }
+
+    private static LocalDateTime parseUtcDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.endsWith("Z")
+                ? LocalDateTime.ofInstant(Instant.parse(value), ZoneOffset.UTC)
+                : LocalDateTime.parse(value);
+    }
+}
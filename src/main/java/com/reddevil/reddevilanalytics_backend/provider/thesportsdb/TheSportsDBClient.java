@@ -1,6 +1,8 @@
 package com.reddevil.reddevilanalytics_backend.provider.thesportsdb;
 
+import com.reddevil.reddevilanalytics_backend.config.ProviderHttpClients;
 import com.reddevil.reddevilanalytics_backend.provider.client.AssetProviderClient;
+import com.reddevil.reddevilanalytics_backend.provider.client.ReactiveAssetProviderClient;
 import com.reddevil.reddevilanalytics_backend.provider.dto.AssetDTO;
 import com.reddevil.reddevilanalytics_backend.provider.ratelimit.RateLimitManager;
 import com.reddevil.reddevilanalytics_backend.provider.thesportsdb.TheSportsDBModels.*;
@@ -11,13 +13,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-
-import java.util.List;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
 @Qualifier("theSportsDBClient")
-public class TheSportsDBClient implements AssetProviderClient {
+public class TheSportsDBClient implements AssetProviderClient, ReactiveAssetProviderClient {
 
     private final WebClient webClient;
     private final RateLimitManager rateLimitManager;
@@ -25,13 +26,13 @@ public class TheSportsDBClient implements AssetProviderClient {
     private final String apiKey;
 
     public TheSportsDBClient(
-            WebClient.Builder webClientBuilder,
+            ProviderHttpClients httpClients,
             RateLimitManager rateLimitManager,
             @Value("${providers.thesportsdb.base-url}") String baseUrl,
             @Value("${providers.thesportsdb.api-key}") String apiKey,
             @Value("${providers.thesportsdb.enabled:true}") boolean enabled) {
         
-        this.webClient = webClientBuilder
+        this.webClient = httpClients.webClientBuilder(ProviderHttpClients.THESPORTSDB)
                 .baseUrl(baseUrl)
                 .build();
         
@@ -44,22 +45,28 @@ public class TheSportsDBClient implements AssetProviderClient {
 
     @Override
     @CircuitBreaker(name = "theSportsDB")
-    @Cacheable(value = "teamAssets", key = "#teamName")
+    @Cacheable(value = "teamAssets", key = "#teamName", sync = true)
     public AssetDTO getTeamAssets(String teamName) {
-        if (!enabled) {
-            log.warn("TheSportsDB provider is disabled");
-            return AssetDTO.builder().build();
-        }
+        return fetchTeamAssets(teamName).block();
+    }
+
+    @Override
+    @CircuitBreaker(name = "theSportsDB")
+    public Mono<AssetDTO> fetchTeamAssets(String teamName) {
+        return Mono.defer(() -> {
+            if (!enabled) {
+                log.warn("TheSportsDB provider is disabled");
+                return Mono.just(AssetDTO.builder().build());
+            }
 
-        if (!rateLimitManager.allowRequest(RateLimitManager.Provider.THESPORTSDB)) {
-            log.warn("Rate limit exceeded for TheSportsDB");
-            return AssetDTO.builder().build();
-        }
+            if (!rateLimitManager.allowRequest(RateLimitManager.Provider.THESPORTSDB)) {
+                log.warn("Rate limit exceeded for TheSportsDB");
+                return Mono.just(AssetDTO.builder().build());
+            }
 
-        try {
             log.debug("Fetching team assets for: {}", teamName);
             
-            TeamsResponse response = webClient
+            return webClient
                     .get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/{apiKey}/searchteams.php")
@@ -67,47 +74,51 @@ public class TheSportsDBClient implements AssetProviderClient {
                             .build(apiKey))
                     .retrieve()
                     .bodyToMono(TeamsResponse.class)
-                    .block();
-
-            rateLimitManager.recordRequest(RateLimitManager.Provider.THESPORTSDB);
-            
-            if (response == null || response.teams() == null || response.teams().isEmpty()) {
-                log.warn("No team assets found for: {}", teamName);
-                return AssetDTO.builder().build();
-            }
-
-            TeamAssetData teamData = response.teams().get(0);
-            log.debug("Successfully fetched team assets for: {}", teamName);
-            
-            return AssetDTO.builder()
-                    .logoUrl(teamData.strTeamBadge())
-                    .bannerUrl(teamData.strTeamBanner())
-                    .build();
-                    
-        } catch (Exception e) {
-            log.error("Error fetching team assets from TheSportsDB for team {}: {}", teamName, e.getMessage(), e);
-            return AssetDTO.builder().build();
-        }
+                    .doOnNext(response -> rateLimitManager.recordRequest(RateLimitManager.Provider.THESPORTSDB))
+                    .filter(response -> response.teams() != null && !response.teams().isEmpty())
+                    .map(response -> {
+                        TeamAssetData teamData = response.teams().get(0);
+                        log.debug("Successfully fetched team assets for: {}", teamName);
+                        return AssetDTO.builder()
+                                .logoUrl(teamData.strTeamBadge())
+                                .bannerUrl(teamData.strTeamBanner())
+                                .build();
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        log.warn("No team assets found for: {}", teamName);
+                        return AssetDTO.builder().build();
+                    }))
+                    .onErrorResume(e -> {
+                        log.error("Error fetching team assets from TheSportsDB for team {}: {}", teamName, e.getMessage(), e);
+                        return Mono.just(AssetDTO.builder().build());
+                    });
+        });
     }
 
     @Override
     @CircuitBreaker(name = "theSportsDB")
-    @Cacheable(value = "playerAssets", key = "#playerName")
+    @Cacheable(value = "playerAssets", key = "#playerName", sync = true)
     public AssetDTO getPlayerAssets(String playerName) {
-        if (!enabled) {
-            log.warn("TheSportsDB provider is disabled");
-            return AssetDTO.builder().build();
-        }
+        return fetchPlayerAssets(playerName).block();
+    }
+
+    @Override
+    @CircuitBreaker(name = "theSportsDB")
+    public Mono<AssetDTO> fetchPlayerAssets(String playerName) {
+        return Mono.defer(() -> {
+            if (!enabled) {
+                log.warn("TheSportsDB provider is disabled");
+                return Mono.just(AssetDTO.builder().build());
+            }
 
-        if (!rateLimitManager.allowRequest(RateLimitManager.Provider.THESPORTSDB)) {
-            log.warn("Rate limit exceeded for TheSportsDB");
-            return AssetDTO.builder().build();
-        }
+            if (!rateLimitManager.allowRequest(RateLimitManager.Provider.THESPORTSDB)) {
+                log.warn("Rate limit exceeded for TheSportsDB");
+                return Mono.just(AssetDTO.builder().build());
+            }
 
-        try {
             log.debug("Fetching player assets for: {}", playerName);
             
-            PlayersResponse response = webClient
+            return webClient
                     .get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/{apiKey}/searchplayers.php")
@@ -115,26 +126,24 @@ public class TheSportsDBClient implements AssetProviderClient {
                             .build(apiKey))
                     .retrieve()
                     .bodyToMono(PlayersResponse.class)
-                    .block();
-
-            rateLimitManager.recordRequest(RateLimitManager.Provider.THESPORTSDB);
-            
-            if (response == null || response.player() == null || response.player().isEmpty()) {
-                log.warn("No player assets found for: {}", playerName);
-                return AssetDTO.builder().build();
-            }
-
-            PlayerAssetData playerData = response.player().get(0);
-            log.debug("Successfully fetched player assets for: {}", playerName);
-            
-            return AssetDTO.builder()
-                    .cutoutUrl(playerData.strCutout())
-                    .photoUrl(playerData.strThumb())
-                    .build();
-                    
-        } catch (Exception e) {
-            log.error("Error fetching player assets from TheSportsDB for player {}: {}", playerName, e.getMessage(), e);
-            return AssetDTO.builder().build();
-        }
+                    .doOnNext(response -> rateLimitManager.recordRequest(RateLimitManager.Provider.THESPORTSDB))
+                    .filter(response -> response.player() != null && !response.player().isEmpty())
+                    .map(response -> {
+                        PlayerAssetData playerData = response.player().get(0);
+                        log.debug("Successfully fetched player assets for: {}", playerName);
+                        return AssetDTO.builder()
+                                .cutoutUrl(playerData.strCutout())
+                                .photoUrl(playerData.strThumb())
+                                .build();
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        log.warn("No player assets found for: {}", playerName);
+                        return AssetDTO.builder().build();
+                    }))
+                    .onErrorResume(e -> {
+                        log.error("Error fetching player assets from TheSportsDB for player {}: {}", playerName, e.getMessage(), e);
+                        return Mono.just(AssetDTO.builder().build());
+                    });
+        });
     }
 }
@@ -0,0 +1,34 @@
+package com.reddevil.reddevilanalytics_backend.rating;
+
+/**
+ * Football Elo as used by the World Football Elo Ratings: the home side plays with a fixed rating
+ * bonus, and wins by two or more goals move ratings further than narrow ones.
+ */
+public record EloFormula(double kFactor, double homeAdvantage) {
+
+    /**
+     * The home side's expected score, 1 for a certain win and 0 for a certain loss.
+     */
+    public double expectedHomeScore(double homeRating, double awayRating) {
+        return 1 / (1 + Math.pow(10, (awayRating - homeRating - homeAdvantage) / 400));
+    }
+
+    /**
+     * Points the home side gains from a result; the away side loses the same amount.
+     */
+    public double homeDelta(double homeRating, double awayRating, int homeGoals, int awayGoals) {
+        double actual = homeGoals > awayGoals ? 1 : homeGoals == awayGoals ? 0.5 : 0;
+        return kFactor * marginMultiplier(Math.abs(homeGoals - awayGoals))
+                * (actual - expectedHomeScore(homeRating, awayRating));
+    }
+
+    private static double marginMultiplier(int goalDifference) {
+        if (goalDifference <= 1) {
+            return 1;
+        }
+        if (goalDifference == 2) {
+            return 1.5;
+        }
+        return (11.0 + goalDifference) / 8;
+    }
+}
@@ -0,0 +1,258 @@
+package com.reddevil.reddevilanalytics_backend.rating;
+
+import com.reddevil.reddevilanalytics_backend.event.MatchResultEvent;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.repository.MatchResult;
+import com.reddevil.reddevilanalytics_backend.repository.RatingChange;
+import com.reddevil.reddevilanalytics_backend.repository.TeamRating;
+import com.reddevil.reddevilanalytics_backend.repository.TeamRatingStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Elo rating of every team per competition. {@code team_ratings} is the source of truth: a result
+ * is applied to both teams' rows under a row lock, so results handled on different nodes never
+ * overwrite each other. Each result moves two ratings, so keeping them current costs the same
+ * however long the history is; only {@link #replay()} reads the history.
+ *
+ * <p>Reads come from an in-memory copy. Changed ratings are announced on {@link #RATING_CHANNEL}
+ * so other nodes reload those rows, and the whole copy is reloaded periodically in case a
+ * message was missed.
+ *
+ * <p>A corrected score reverts the change the old score applied and applies the new one against
+ * today's ratings. That is close but not identical to replaying, which remains the exact rebuild.
+ */
+@Slf4j
+@Service
+public class RatingService {
+
+    public static final String RATING_CHANNEL = "ratings:changed";
+
+    private static final String ALL = "*";
+
+    private record Key(long competitionId, long teamId) {}
+
+    private final MatchRepository matchRepository;
+    private final TeamRatingStore ratingStore;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate resultTransaction;
+    private final TransactionTemplate replayTransaction;
+    private final EloFormula elo;
+    private final double initialRating;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Map<Key, TeamRating> ratings = new ConcurrentHashMap<>();
+
+    public RatingService(
+            MatchRepository matchRepository,
+            TeamRatingStore ratingStore,
+            StringRedisTemplate redisTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.ratings.initial-rating:1500}") double initialRating,
+            @Value("${app.ratings.k-factor:20}") double kFactor,
+            @Value("${app.ratings.home-advantage:65}") double homeAdvantage) {
+        this.matchRepository = matchRepository;
+        this.ratingStore = ratingStore;
+        this.redisTemplate = redisTemplate;
+        // Results also arrive from live merges, which run inside read-only transactions
+        this.resultTransaction = new TransactionTemplate(transactionManager);
+        this.resultTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.replayTransaction = new TransactionTemplate(transactionManager);
+        this.initialRating = initialRating;
+        this.elo = new EloFormula(kFactor, homeAdvantage);
+        log.info("RatingService initialized - initial: {}, k: {}, home advantage: {}", initialRating, kFactor, homeAdvantage);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.ratings.reload-interval:300000}", initialDelayString = "${app.ratings.reload-interval:300000}")
+    public void reload() {
+        try {
+            Map<Key, TeamRating> loaded = new ConcurrentHashMap<>();
+            for (TeamRating rating : ratingStore.findAll()) {
+                loaded.put(key(rating.competitionId(), rating.teamId()), rating);
+            }
+            ratings = loaded;
+            log.debug("Loaded {} team ratings", loaded.size());
+        } catch (Exception e) {
+            log.warn("Could not load team ratings: {}", e.getMessage());
+        }
+    }
+
+    public double rating(Long competitionId, Long teamId) {
+        return current(competitionId, teamId).rating();
+    }
+
+    /**
+     * The home side's expected score from the two ratings, 1 for a certain win.
+     */
+    public double expectedHomeScore(Long competitionId, Long homeTeamId, Long awayTeamId) {
+        return elo.expectedHomeScore(rating(competitionId, homeTeamId), rating(competitionId, awayTeamId));
+    }
+
+    /**
+     * Runs once the match write has committed, so a rolled-back write leaves no change behind.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchResult(MatchResultEvent event) {
+        if (event.competitionId() == null) {
+            return;
+        }
+
+        List<TeamRating> updated = resultTransaction.execute(status -> apply(event));
+        if (updated == null || updated.isEmpty()) {
+            return;
+        }
+        updated.forEach(rating -> ratings.put(key(rating.competitionId(), rating.teamId()), rating));
+        publish(event.competitionId() + "|" + event.homeTeamId() + "," + event.awayTeamId());
+    }
+
+    /**
+     * Runs with both teams' rows locked.
+     *
+     * @return the two new ratings, or none when the result was already applied as it is
+     */
+    private List<TeamRating> apply(MatchResultEvent event) {
+        Map<Long, TeamRating> locked = ratingStore.lockRatings(event.competitionId(), event.homeTeamId(),
+                event.awayTeamId(), initialRating);
+        Optional<RatingChange> previous = ratingStore.findChange(event.matchId());
+        if (previous.isPresent() && previous.get().homeScore() == event.homeScore()
+                && previous.get().awayScore() == event.awayScore()) {
+            return List.of();
+        }
+
+        TeamRating home = locked.getOrDefault(event.homeTeamId(), initial(event.competitionId(), event.homeTeamId()));
+        TeamRating away = locked.getOrDefault(event.awayTeamId(), initial(event.competitionId(), event.awayTeamId()));
+        double homeRating = home.rating();
+        double awayRating = away.rating();
+        int counted = 1;
+        if (previous.isPresent()) {
+            homeRating -= previous.get().homeDelta();
+            awayRating += previous.get().homeDelta();
+            counted = 0;
+        }
+
+        double delta = elo.homeDelta(homeRating, awayRating, event.homeScore(), event.awayScore());
+        TeamRating updatedHome = new TeamRating(event.competitionId(), event.homeTeamId(),
+                homeRating + delta, home.matchesPlayed() + counted);
+        TeamRating updatedAway = new TeamRating(event.competitionId(), event.awayTeamId(),
+                awayRating - delta, away.matchesPlayed() + counted);
+
+        ratingStore.saveResult(updatedHome, updatedAway, new RatingChange(event.matchId(), event.competitionId(),
+                event.homeScore(), event.awayScore(), delta));
+        log.debug("Rated match {}: home {} -> {}, away {} -> {}", event.matchId(),
+                Math.round(home.rating()), Math.round(updatedHome.rating()),
+                Math.round(away.rating()), Math.round(updatedAway.rating()));
+        return List.of(updatedHome, updatedAway);
+    }
+
+    /**
+     * Rebuilds every rating from the stored results in one pass in kickoff order, replacing the
+     * table and the in-memory ratings. Other rating writes wait until it commits, and other nodes
+     * reload once it has.
+     *
+     * @return number of results replayed
+     */
+    public int replay() {
+        Integer replayed = replayTransaction.execute(status -> replayAll());
+        publish(ALL);
+        return replayed != null ? replayed : 0;
+    }
+
+    private int replayAll() {
+        ratingStore.lockAll();
+        Map<Key, TeamRating> replayed = new HashMap<>();
+        List<RatingChange> changes = new ArrayList<>();
+
+        try (Stream<MatchResult> results = matchRepository.streamAllResults()) {
+            results.forEach(result -> {
+                Key homeKey = key(result.competitionId(), result.homeTeamId());
+                Key awayKey = key(result.competitionId(), result.awayTeamId());
+                TeamRating home = replayed.getOrDefault(homeKey, initial(result.competitionId(), result.homeTeamId()));
+                TeamRating away = replayed.getOrDefault(awayKey, initial(result.competitionId(), result.awayTeamId()));
+
+                double delta = elo.homeDelta(home.rating(), away.rating(), result.homeScore(), result.awayScore());
+                replayed.put(homeKey, new TeamRating(home.competitionId(), home.teamId(),
+                        home.rating() + delta, home.matchesPlayed() + 1));
+                replayed.put(awayKey, new TeamRating(away.competitionId(), away.teamId(),
+                        away.rating() - delta, away.matchesPlayed() + 1));
+                changes.add(new RatingChange(result.matchId(), result.competitionId(),
+                        result.homeScore(), result.awayScore(), delta));
+            });
+        }
+
+        ratingStore.replaceAll(replayed.values(), changes);
+        ratings = new ConcurrentHashMap<>(replayed);
+        log.info("Replayed {} results into {} team ratings", changes.size(), replayed.size());
+        return changes.size();
+    }
+
+    /**
+     * Handles a message from {@link #RATING_CHANNEL}, ignoring the ones this node sent.
+     */
+    public void onRatingMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        if (ALL.equals(parts[1])) {
+            reload();
+            return;
+        }
+        try {
+            String[] teams = parts.length == 3 ? parts[2].split(",", 2) : new String[0];
+            if (teams.length != 2) {
+                throw new NumberFormatException("expected two teams");
+            }
+            Long competitionId = Long.parseLong(parts[1]);
+            ratingStore.findAll(competitionId, Long.parseLong(teams[0]), Long.parseLong(teams[1]))
+                    .forEach(rating -> ratings.put(key(rating.competitionId(), rating.teamId()), rating));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed rating message: {}", message);
+        } catch (Exception e) {
+            log.warn("Could not reload ratings for message {}: {}", message, e.getMessage());
+        }
+    }
+
+    private void publish(String change) {
+        try {
+            redisTemplate.convertAndSend(RATING_CHANNEL, nodeId + "|" + change);
+        } catch (Exception e) {
+            log.warn("Could not publish rating change {}: {}", change, e.getMessage());
+        }
+    }
+
+    private TeamRating current(Long competitionId, Long teamId) {
+        TeamRating rating = ratings.get(key(competitionId, teamId));
+        return rating != null ? rating : initial(competitionId, teamId);
+    }
+
+    private TeamRating initial(Long competitionId, Long teamId) {
+        return new TeamRating(competitionId, teamId, initialRating, 0);
+    }
+
+    private static Key key(Long competitionId, Long teamId) {
+        return new Key(competitionId, teamId);
+    }
+}
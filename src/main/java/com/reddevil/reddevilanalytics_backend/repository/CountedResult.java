@@ -0,0 +1,8 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+public record CountedResult(
+    Long matchId,
+    Long seasonId,
+    int homeScore,
+    int awayScore
+) {}
@@ -0,0 +1,41 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+import com.reddevil.reddevilanalytics_backend.domain.MatchHeroView;
+import com.reddevil.reddevilanalytics_backend.domain.MatchStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MatchHeroViewRepository extends JpaRepository<MatchHeroView, Long> {
+
+    @Query("select v.matchId from MatchHeroView v where v.homeTeamId = :teamId or v.awayTeamId = :teamId")
+    List<Long> findMatchIdsByTeamId(@Param("teamId") Long teamId);
+
+    @Query("select v.matchId from MatchHeroView v where v.status = :status")
+    List<Long> findMatchIdsByStatus(@Param("status") MatchStatus status);
+
+    @Query("select v.matchId from MatchHeroView v where v.seasonId = :seasonId and v.status in :statuses "
+            + "and (v.homeTeamId = :teamId or v.awayTeamId = :teamId)")
+    List<Long> findMatchIdsByTeamIdAndSeasonIdAndStatusIn(@Param("teamId") Long teamId, @Param("seasonId") Long seasonId,
+                                                          @Param("statuses") Collection<MatchStatus> statuses);
+
+    @Modifying
+    @Query("update MatchHeroView v set v.homeTeamLogo = :logoUrl where v.homeTeamId = :teamId")
+    int updateHomeTeamLogo(@Param("teamId") Long teamId, @Param("logoUrl") String logoUrl);
+
+    @Modifying
+    @Query("update MatchHeroView v set v.awayTeamLogo = :logoUrl where v.awayTeamId = :teamId")
+    int updateAwayTeamLogo(@Param("teamId") Long teamId, @Param("logoUrl") String logoUrl);
+
+    @Modifying
+    @Query("update MatchHeroView v set v.status = :status, v.homeScore = :homeScore, v.awayScore = :awayScore "
+            + "where v.matchId = :matchId")
+    int updateScore(@Param("matchId") Long matchId, @Param("status") MatchStatus status,
+                    @Param("homeScore") Integer homeScore, @Param("awayScore") Integer awayScore);
+}
@@ -0,0 +1,68 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+import com.reddevil.reddevilanalytics_backend.domain.MatchHeroView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+
+/**
+ * Creates {@code match_hero_view} rows that several requests or nodes may build at once. A JPA
+ * save would look each row up first and fail on the primary key when two inserts race; here a
+ * row that already exists is left as it is and the caller reads back whichever row won.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchHeroViewStore {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO match_hero_view (match_id, match_date, venue, status, home_score, away_score,
+                                         competition_name, season_id,
+                                         home_team_id, home_team_name, home_team_logo,
+                                         away_team_id, away_team_name, away_team_logo,
+                                         home_win_probability, draw_probability, away_win_probability, confidence_score,
+                                         updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (match_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return whether the row was created here rather than already there
+     */
+    public boolean insertIfAbsent(MatchHeroView view) {
+        return jdbcTemplate.update(INSERT_SQL, statement -> setView(statement, view)) > 0;
+    }
+
+    public void insertIfAbsent(Collection<MatchHeroView> views) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, views, BATCH_SIZE, MatchHeroViewStore::setView);
+    }
+
+    private static void setView(PreparedStatement statement, MatchHeroView view) throws SQLException {
+        statement.setLong(1, view.getMatchId());
+        statement.setObject(2, view.getMatchDate());
+        statement.setString(3, view.getVenue());
+        statement.setString(4, view.getStatus() != null ? view.getStatus().name() : null);
+        statement.setObject(5, view.getHomeScore(), Types.INTEGER);
+        statement.setObject(6, view.getAwayScore(), Types.INTEGER);
+        statement.setString(7, view.getCompetitionName());
+        statement.setObject(8, view.getSeasonId(), Types.BIGINT);
+        statement.setLong(9, view.getHomeTeamId());
+        statement.setString(10, view.getHomeTeamName());
+        statement.setString(11, view.getHomeTeamLogo());
+        statement.setLong(12, view.getAwayTeamId());
+        statement.setString(13, view.getAwayTeamName());
+        statement.setString(14, view.getAwayTeamLogo());
+        statement.setBigDecimal(15, view.getHomeWinProbability());
+        statement.setBigDecimal(16, view.getDrawProbability());
+        statement.setBigDecimal(17, view.getAwayWinProbability());
+        statement.setBigDecimal(18, view.getConfidenceScore());
+    }
+}
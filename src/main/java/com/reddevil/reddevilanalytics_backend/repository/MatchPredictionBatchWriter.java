@@ -0,0 +1,42 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+import com.reddevil.reddevilanalytics_backend.domain.MatchPrediction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Stores many predictions with one JDBC batch instead of an insert per entity. Matches that
+ * already have a prediction keep it, as with the single-prediction path.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchPredictionBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO match_predictions (match_id, home_win_probability, draw_probability, away_win_probability,
+                                           predicted_home_score, predicted_away_score, confidence_score, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (match_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<MatchPrediction> predictions) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, predictions, predictions.size(), (statement, prediction) -> {
+            statement.setLong(1, prediction.getMatch().getId());
+            statement.setBigDecimal(2, prediction.getHomeWinProbability());
+            statement.setBigDecimal(3, prediction.getDrawProbability());
+            statement.setBigDecimal(4, prediction.getAwayWinProbability());
+            statement.setBigDecimal(5, prediction.getPredictedHomeScore());
+            statement.setBigDecimal(6, prediction.getPredictedAwayScore());
+            statement.setBigDecimal(7, prediction.getConfidenceScore());
+            statement.setTimestamp(8, createdAt);
+        });
+    }
+}
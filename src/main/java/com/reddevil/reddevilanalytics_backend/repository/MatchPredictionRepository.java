@@ -5,9 +5,12 @@ import com.reddevil.reddevilanalytics_backend.domain.Match;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MatchPredictionRepository extends JpaRepository<MatchPrediction, Long> {
     Optional<MatchPrediction> findByMatch(Match match);
+    List<MatchPrediction> findByMatchIdIn(Collection<Long> matchIds);
 }
@@ -5,19 +5,91 @@ import com.reddevil.reddevilanalytics_backend.domain.MatchStatus;
 import com.reddevil.reddevilanalytics_backend.domain.Competition;
 import com.reddevil.reddevilanalytics_backend.domain.Season;
 import com.reddevil.reddevilanalytics_backend.domain.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
     List<Match> findByHomeTeamOrAwayTeamOrderByMatchDateDesc(Team homeTeam, Team awayTeam, Pageable pageable);
     List<Match> findByCompetitionAndSeasonOrderByMatchDateAsc(Competition competition, Season season);
+    List<Match> findByCompetitionAndSeasonAndStatus(Competition competition, Season season, MatchStatus status);
     List<Match> findByStatusOrderByMatchDateAsc(MatchStatus status);
     Optional<Match> findFirstByHomeTeamAndAwayTeamAndMatchDateAfterOrderByMatchDateAsc(Team homeTeam, Team awayTeam, LocalDateTime matchDate);
     List<Match> findByMatchDateBetween(LocalDateTime start, LocalDateTime end);
+
+    // Served by idx_matches_home_team_date_id / idx_matches_away_team_date_id
+    Optional<Match> findFirstByHomeTeamIdAndMatchDateAfterOrderByMatchDateAsc(Long teamId, LocalDateTime matchDate);
+    Optional<Match> findFirstByAwayTeamIdAndMatchDateAfterOrderByMatchDateAsc(Long teamId, LocalDateTime matchDate);
+    Optional<Match> findFirstByHomeTeamIdAndSeasonIdAndMatchDateAfterOrderByMatchDateAsc(Long teamId, Long seasonId, LocalDateTime matchDate);
+    Optional<Match> findFirstByAwayTeamIdAndSeasonIdAndMatchDateAfterOrderByMatchDateAsc(Long teamId, Long seasonId, LocalDateTime matchDate);
+
+    // Keyset pages of a team's history, newest first, one index range scan per side
+    @Query("select m from Match m join fetch m.homeTeam join fetch m.awayTeam left join fetch m.competition "
+            + "where m.homeTeam.id = :teamId "
+            + "and (m.matchDate < :matchDate or (m.matchDate = :matchDate and m.id < :matchId)) "
+            + "order by m.matchDate desc, m.id desc")
+    List<Match> findHomeMatchesBefore(@Param("teamId") Long teamId, @Param("matchDate") LocalDateTime matchDate,
+                                      @Param("matchId") Long matchId, Limit limit);
+
+    @Query("select m from Match m join fetch m.homeTeam join fetch m.awayTeam left join fetch m.competition "
+            + "where m.awayTeam.id = :teamId "
+            + "and (m.matchDate < :matchDate or (m.matchDate = :matchDate and m.id < :matchId)) "
+            + "order by m.matchDate desc, m.id desc")
+    List<Match> findAwayMatchesBefore(@Param("teamId") Long teamId, @Param("matchDate") LocalDateTime matchDate,
+                                      @Param("matchId") Long matchId, Limit limit);
+
+    @Query("select m from Match m join fetch m.homeTeam join fetch m.awayTeam left join fetch m.competition "
+            + "where m.id in :ids")
+    List<Match> findAllWithTeamsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Same rows and order as findByCompetitionAndSeasonOrderByMatchDateAsc, read through a cursor
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select m from Match m join fetch m.homeTeam join fetch m.awayTeam "
+            + "left join fetch m.competition left join fetch m.season "
+            + "where m.competition.id = :competitionId and m.season.id = :seasonId "
+            + "order by m.matchDate asc, m.id asc")
+    Stream<Match> streamByCompetitionAndSeason(@Param("competitionId") Long competitionId,
+                                               @Param("seasonId") Long seasonId);
+
+    @Query("select new com.reddevil.reddevilanalytics_backend.repository.ScheduledFixture("
+            + "m.id, m.homeTeam.id, m.awayTeam.id, s.id, m.matchDate) "
+            + "from Match m left join m.season s where m.matchDate > :from")
+    List<ScheduledFixture> findScheduleAfter(@Param("from") LocalDateTime from);
+
+    @Query("select new com.reddevil.reddevilanalytics_backend.repository.MatchResult("
+            + "m.id, m.competition.id, m.season.id, m.homeTeam.id, m.awayTeam.id, m.homeScore, m.awayScore, m.matchDate) "
+            + "from Match m where m.competition.id = :competitionId "
+            + "and m.status = com.reddevil.reddevilanalytics_backend.domain.MatchStatus.FINISHED "
+            + "and m.homeScore is not null and m.awayScore is not null and m.matchDate >= :since")
+    List<MatchResult> findResultsSince(@Param("competitionId") Long competitionId,
+                                       @Param("since") LocalDateTime since);
+
+    // Every result of every competition in the order it was played, read through a cursor
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.reddevil.reddevilanalytics_backend.repository.MatchResult("
+            + "m.id, c.id, m.season.id, m.homeTeam.id, m.awayTeam.id, m.homeScore, m.awayScore, m.matchDate) "
+            + "from Match m join m.competition c "
+            + "where m.status = com.reddevil.reddevilanalytics_backend.domain.MatchStatus.FINISHED "
+            + "and m.homeScore is not null and m.awayScore is not null "
+            + "order by m.matchDate asc, m.id asc")
+    Stream<MatchResult> streamAllResults();
 }
@@ -0,0 +1,14 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+import java.time.LocalDateTime;
+
+public record MatchResult(
+    Long matchId,
+    Long competitionId,
+    Long seasonId,
+    Long homeTeamId,
+    Long awayTeamId,
+    Integer homeScore,
+    Integer awayScore,
+    LocalDateTime matchDate
+) {}
@@ -0,0 +1,9 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+public record RatingChange(
+    Long matchId,
+    Long competitionId,
+    int homeScore,
+    int awayScore,
+    double homeDelta
+) {}
@@ -0,0 +1,11 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+import java.time.LocalDateTime;
+
+public record ScheduledFixture(
+    Long matchId,
+    Long homeTeamId,
+    Long awayTeamId,
+    Long seasonId,
+    LocalDateTime matchDate
+) {}
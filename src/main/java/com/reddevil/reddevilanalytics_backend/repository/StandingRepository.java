@@ -4,7 +4,11 @@ import com.reddevil.reddevilanalytics_backend.domain.Standing;
 import com.reddevil.reddevilanalytics_backend.domain.Competition;
 import com.reddevil.reddevilanalytics_backend.domain.Season;
 import com.reddevil.reddevilanalytics_backend.domain.Team;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +18,22 @@ import java.util.Optional;
 public interface StandingRepository extends JpaRepository<Standing, Long> {
     List<Standing> findByCompetitionAndSeasonOrderByPositionAsc(Competition competition, Season season);
     Optional<Standing> findByCompetitionAndSeasonAndTeam(Competition competition, Season season, Team team);
+
+    // Every row of one table, locked until the current transaction ends, so table writes from
+    // different nodes go one after another
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Standing s where s.competition = :competition and s.season = :season order by s.id")
+    List<Standing> lockTable(@Param("competition") Competition competition, @Param("season") Season season);
+
+    @Query("select distinct new com.reddevil.reddevilanalytics_backend.repository.StandingScope("
+            + "s.competition.id, s.season.id) from Standing s where s.team.id = :teamId")
+    List<StandingScope> findScopesByTeamId(@Param("teamId") Long teamId);
+
+    @Query("select distinct new com.reddevil.reddevilanalytics_backend.repository.StandingScope("
+            + "s.competition.id, s.season.id) from Standing s where s.competition.id = :competitionId")
+    List<StandingScope> findScopesByCompetitionId(@Param("competitionId") Long competitionId);
+
+    @Query("select distinct new com.reddevil.reddevilanalytics_backend.repository.StandingScope("
+            + "s.competition.id, s.season.id) from Standing s where s.season.id = :seasonId")
+    List<StandingScope> findScopesBySeasonId(@Param("seasonId") Long seasonId);
 }
@@ -0,0 +1,6 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+public record StandingScope(
+    Long competitionId,
+    Long seasonId
+) {}
@@ -6,10 +6,13 @@ import com.reddevil.reddevilanalytics_backend.domain.Provider;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TeamAssetRepository extends JpaRepository<TeamAsset, Long> {
     Optional<TeamAsset> findByTeamAndProvider(Team team, Provider provider);
     Optional<TeamAsset> findByTeam(Team team);
+    List<TeamAsset> findByTeamIdIn(Collection<Long> teamIds);
 }
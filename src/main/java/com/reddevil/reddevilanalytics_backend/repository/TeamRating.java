@@ -0,0 +1,8 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+public record TeamRating(
+    Long competitionId,
+    Long teamId,
+    double rating,
+    int matchesPlayed
+) {}
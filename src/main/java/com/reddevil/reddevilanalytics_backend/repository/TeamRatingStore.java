@@ -0,0 +1,139 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Rows of {@code team_ratings} and {@code match_rating_changes}. Single rows are upserted so
+ * applying a result is a fixed number of statements however much history there is.
+ *
+ * <p>Every node writes here, so a result is applied to the rows as read under
+ * {@link #lockRatings}, never to a node's in-memory copy of them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamRatingStore {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_RATING_SQL =
+            "SELECT competition_id, team_id, rating, matches_played FROM team_ratings";
+
+    private static final String INSERT_INITIAL_SQL = """
+            INSERT INTO team_ratings (competition_id, team_id, rating, matches_played, updated_at)
+            VALUES (?, ?, ?, 0, CURRENT_TIMESTAMP)
+            ON CONFLICT (competition_id, team_id) DO NOTHING
+            """;
+
+    private static final String UPSERT_RATING_SQL = """
+            INSERT INTO team_ratings (competition_id, team_id, rating, matches_played, updated_at)
+            VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (competition_id, team_id)
+            DO UPDATE SET rating = EXCLUDED.rating, matches_played = EXCLUDED.matches_played, updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String UPSERT_CHANGE_SQL = """
+            INSERT INTO match_rating_changes (match_id, competition_id, home_score, away_score, home_delta)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (match_id)
+            DO UPDATE SET home_score = EXCLUDED.home_score, away_score = EXCLUDED.away_score, home_delta = EXCLUDED.home_delta
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<TeamRating> findAll() {
+        return jdbcTemplate.query(SELECT_RATING_SQL, TeamRatingStore::mapRating);
+    }
+
+    public List<TeamRating> findAll(Long competitionId, Long homeTeamId, Long awayTeamId) {
+        return jdbcTemplate.query(SELECT_RATING_SQL + " WHERE competition_id = ? AND team_id IN (?, ?)",
+                TeamRatingStore::mapRating, competitionId, homeTeamId, awayTeamId);
+    }
+
+    /**
+     * Locks the ratings of two teams until the current transaction ends, creating them at
+     * {@code initialRating} first when missing, so concurrent results of either team are applied
+     * one after the other on whichever node. Rows are taken in team id order so two results
+     * cannot deadlock.
+     *
+     * @return the locked ratings by team id
+     */
+    public Map<Long, TeamRating> lockRatings(Long competitionId, Long homeTeamId, Long awayTeamId, double initialRating) {
+        List<Long> teamIds = Stream.of(homeTeamId, awayTeamId).sorted().toList();
+        jdbcTemplate.batchUpdate(INSERT_INITIAL_SQL, teamIds, 2, (statement, teamId) -> {
+            statement.setLong(1, competitionId);
+            statement.setLong(2, teamId);
+            statement.setDouble(3, initialRating);
+        });
+        return jdbcTemplate.query(SELECT_RATING_SQL + " WHERE competition_id = ? AND team_id IN (?, ?) ORDER BY team_id FOR UPDATE",
+                        TeamRatingStore::mapRating, competitionId, teamIds.get(0), teamIds.get(1))
+                .stream()
+                .collect(Collectors.toMap(TeamRating::teamId, Function.identity()));
+    }
+
+    public Optional<RatingChange> findChange(Long matchId) {
+        return jdbcTemplate.query(
+                "SELECT match_id, competition_id, home_score, away_score, home_delta FROM match_rating_changes WHERE match_id = ?",
+                (rs, rowNum) -> new RatingChange(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getInt(4), rs.getDouble(5)),
+                matchId).stream().findFirst();
+    }
+
+    /**
+     * Stores both teams' new ratings and the change that produced them, in the transaction that
+     * holds their {@link #lockRatings locks}.
+     */
+    public void saveResult(TeamRating home, TeamRating away, RatingChange change) {
+        jdbcTemplate.batchUpdate(UPSERT_RATING_SQL, List.of(home, away), 2, TeamRatingStore::setRating);
+        jdbcTemplate.update(UPSERT_CHANGE_SQL, statement -> setChange(statement, change));
+    }
+
+    /**
+     * Holds off every other rating write until the current transaction ends.
+     */
+    public void lockAll() {
+        jdbcTemplate.execute("LOCK TABLE team_ratings, match_rating_changes IN EXCLUSIVE MODE");
+    }
+
+    /**
+     * Swaps every stored rating and change for the given ones in one transaction.
+     */
+    @Transactional
+    public void replaceAll(Collection<TeamRating> ratings, Collection<RatingChange> changes) {
+        jdbcTemplate.update("DELETE FROM match_rating_changes");
+        jdbcTemplate.update("DELETE FROM team_ratings");
+        jdbcTemplate.batchUpdate(UPSERT_RATING_SQL, ratings, BATCH_SIZE, TeamRatingStore::setRating);
+        jdbcTemplate.batchUpdate(UPSERT_CHANGE_SQL, changes, BATCH_SIZE, TeamRatingStore::setChange);
+    }
+
+    private static TeamRating mapRating(ResultSet rs, int rowNum) throws SQLException {
+        return new TeamRating(rs.getLong(1), rs.getLong(2), rs.getDouble(3), rs.getInt(4));
+    }
+
+    private static void setRating(PreparedStatement statement, TeamRating rating) throws SQLException {
+        statement.setLong(1, rating.competitionId());
+        statement.setLong(2, rating.teamId());
+        statement.setDouble(3, rating.rating());
+        statement.setInt(4, rating.matchesPlayed());
+    }
+
+    private static void setChange(PreparedStatement statement, RatingChange change) throws SQLException {
+        statement.setLong(1, change.matchId());
+        statement.setLong(2, change.competitionId());
+        statement.setInt(3, change.homeScore());
+        statement.setInt(4, change.awayScore());
+        statement.setDouble(5, change.homeDelta());
+    }
+}
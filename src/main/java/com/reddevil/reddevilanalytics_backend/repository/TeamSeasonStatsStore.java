@@ -0,0 +1,180 @@
+package com.reddevil.reddevilanalytics_backend.repository;
+
+import com.reddevil.reddevilanalytics_backend.stats.RecentForm;
+import com.reddevil.reddevilanalytics_backend.stats.TeamSeasonStats;
+import com.reddevil.reddevilanalytics_backend.stats.VenueRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Rows of {@code team_season_stats} and {@code match_stat_results}. As with the ratings, applying
+ * a result upserts two team rows and one result row whatever the length of the season, and does
+ * so to the rows as read under {@link #lockStats}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamSeasonStatsStore {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_STATS_SQL = """
+            SELECT season_id, team_id,
+                   home_won, home_drawn, home_lost, home_goals_for, home_goals_against,
+                   away_won, away_drawn, away_lost, away_goals_for, away_goals_against,
+                   recent_results
+            FROM team_season_stats
+            """;
+
+    private static final String INSERT_EMPTY_SQL = """
+            INSERT INTO team_season_stats (season_id, team_id,
+                                           home_won, home_drawn, home_lost, home_goals_for, home_goals_against,
+                                           away_won, away_drawn, away_lost, away_goals_for, away_goals_against,
+                                           updated_at)
+            VALUES (?, ?, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP)
+            ON CONFLICT (season_id, team_id) DO NOTHING
+            """;
+
+    private static final String UPSERT_STATS_SQL = """
+            INSERT INTO team_season_stats (season_id, team_id,
+                                           home_won, home_drawn, home_lost, home_goals_for, home_goals_against,
+                                           away_won, away_drawn, away_lost, away_goals_for, away_goals_against,
+                                           recent_results, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (season_id, team_id)
+            DO UPDATE SET home_won = EXCLUDED.home_won, home_drawn = EXCLUDED.home_drawn, home_lost = EXCLUDED.home_lost,
+                          home_goals_for = EXCLUDED.home_goals_for, home_goals_against = EXCLUDED.home_goals_against,
+                          away_won = EXCLUDED.away_won, away_drawn = EXCLUDED.away_drawn, away_lost = EXCLUDED.away_lost,
+                          away_goals_for = EXCLUDED.away_goals_for, away_goals_against = EXCLUDED.away_goals_against,
+                          recent_results = EXCLUDED.recent_results, updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String UPSERT_RESULT_SQL = """
+            INSERT INTO match_stat_results (match_id, season_id, home_score, away_score)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (match_id)
+            DO UPDATE SET season_id = EXCLUDED.season_id, home_score = EXCLUDED.home_score, away_score = EXCLUDED.away_score
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param formLength results kept per team; stored form longer than this keeps its newest
+     */
+    public List<TeamSeasonStats> findAll(int formLength) {
+        return jdbcTemplate.query(SELECT_STATS_SQL, (rs, rowNum) -> mapStats(rs, formLength));
+    }
+
+    public List<TeamSeasonStats> findAll(Long seasonId, Collection<Long> teamIds, int formLength) {
+        if (teamIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object> args = new ArrayList<>(teamIds.size() + 1);
+        args.add(seasonId);
+        args.addAll(teamIds);
+        return jdbcTemplate.query(SELECT_STATS_SQL + " WHERE season_id = ? AND team_id IN (" + placeholders(teamIds.size()) + ")",
+                (rs, rowNum) -> mapStats(rs, formLength), args.toArray());
+    }
+
+    /**
+     * Locks two teams' rows in each of the given seasons until the current transaction ends,
+     * creating empty ones first, so concurrent results of either team are counted one after the
+     * other on whichever node. Rows are taken in (season, team) order so two results cannot
+     * deadlock.
+     */
+    public List<TeamSeasonStats> lockStats(Collection<Long> seasonIds, Long homeTeamId, Long awayTeamId, int formLength) {
+        List<Long> seasons = seasonIds.stream().distinct().sorted().toList();
+        List<Long> teams = Stream.of(homeTeamId, awayTeamId).sorted().toList();
+        List<Long[]> keys = new ArrayList<>();
+        seasons.forEach(seasonId -> teams.forEach(teamId -> keys.add(new Long[] {seasonId, teamId})));
+        jdbcTemplate.batchUpdate(INSERT_EMPTY_SQL, keys, keys.size(), (statement, key) -> {
+            statement.setLong(1, key[0]);
+            statement.setLong(2, key[1]);
+        });
+
+        List<Object> args = new ArrayList<>(seasons);
+        args.addAll(teams);
+        return jdbcTemplate.query(SELECT_STATS_SQL + " WHERE season_id IN (" + placeholders(seasons.size())
+                        + ") AND team_id IN (?, ?) ORDER BY season_id, team_id FOR UPDATE",
+                (rs, rowNum) -> mapStats(rs, formLength), args.toArray());
+    }
+
+    public Optional<CountedResult> findResult(Long matchId) {
+        return jdbcTemplate.query(
+                "SELECT match_id, season_id, home_score, away_score FROM match_stat_results WHERE match_id = ?",
+                (rs, rowNum) -> new CountedResult(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getInt(4)),
+                matchId).stream().findFirst();
+    }
+
+    /**
+     * Stores the teams' new totals and the result that produced them, in the transaction that
+     * holds their {@link #lockStats locks}.
+     */
+    public void saveResult(Collection<TeamSeasonStats> stats, CountedResult result) {
+        jdbcTemplate.batchUpdate(UPSERT_STATS_SQL, stats, stats.size(), TeamSeasonStatsStore::setStats);
+        jdbcTemplate.update(UPSERT_RESULT_SQL, statement -> setResult(statement, result));
+    }
+
+    /**
+     * Holds off every other statistics write until the current transaction ends.
+     */
+    public void lockAll() {
+        jdbcTemplate.execute("LOCK TABLE team_season_stats, match_stat_results IN EXCLUSIVE MODE");
+    }
+
+    /**
+     * Swaps every stored total and counted result for the given ones in one transaction.
+     */
+    @Transactional
+    public void replaceAll(Collection<TeamSeasonStats> stats, Collection<CountedResult> results) {
+        jdbcTemplate.update("DELETE FROM match_stat_results");
+        jdbcTemplate.update("DELETE FROM team_season_stats");
+        jdbcTemplate.batchUpdate(UPSERT_STATS_SQL, stats, BATCH_SIZE, TeamSeasonStatsStore::setStats);
+        jdbcTemplate.batchUpdate(UPSERT_RESULT_SQL, results, BATCH_SIZE, TeamSeasonStatsStore::setResult);
+    }
+
+    private static TeamSeasonStats mapStats(ResultSet rs, int formLength) throws SQLException {
+        return new TeamSeasonStats(rs.getLong(1), rs.getLong(2),
+                new VenueRecord(rs.getInt(3), rs.getInt(4), rs.getInt(5), rs.getInt(6), rs.getInt(7)),
+                new VenueRecord(rs.getInt(8), rs.getInt(9), rs.getInt(10), rs.getInt(11), rs.getInt(12)),
+                RecentForm.decode(rs.getString(13), formLength));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void setStats(PreparedStatement statement, TeamSeasonStats stats) throws SQLException {
+        statement.setLong(1, stats.seasonId());
+        statement.setLong(2, stats.teamId());
+        setVenue(statement, 3, stats.home());
+        setVenue(statement, 8, stats.away());
+        statement.setString(13, stats.form().encode());
+    }
+
+    private static void setVenue(PreparedStatement statement, int first, VenueRecord record) throws SQLException {
+        statement.setInt(first, record.won());
+        statement.setInt(first + 1, record.drawn());
+        statement.setInt(first + 2, record.lost());
+        statement.setInt(first + 3, record.goalsFor());
+        statement.setInt(first + 4, record.goalsAgainst());
+    }
+
+    private static void setResult(PreparedStatement statement, CountedResult result) throws SQLException {
+        statement.setLong(1, result.matchId());
+        statement.setLong(2, result.seasonId());
+        statement.setInt(3, result.homeScore());
+        statement.setInt(4, result.awayScore());
+    }
+}
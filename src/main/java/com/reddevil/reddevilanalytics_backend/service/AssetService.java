@@ -1,6 +1,10 @@
 package com.reddevil.reddevilanalytics_backend.service;
 
+import com.reddevil.reddevilanalytics_backend.cache.TwoTierCache;
+import com.reddevil.reddevilanalytics_backend.cache.codec.BinaryCacheSerializer;
 import com.reddevil.reddevilanalytics_backend.domain.*;
+import com.reddevil.reddevilanalytics_backend.event.PlayerAssetsChangedEvent;
+import com.reddevil.reddevilanalytics_backend.event.TeamAssetsChangedEvent;
 import com.reddevil.reddevilanalytics_backend.provider.client.AssetProviderClient;
 import com.reddevil.reddevilanalytics_backend.provider.dto.AssetDTO;
 import com.reddevil.reddevilanalytics_backend.repository.PlayerAssetRepository;
@@ -9,10 +13,23 @@ import com.reddevil.reddevilanalytics_backend.repository.TeamAssetRepository;
 import com.reddevil.reddevilanalytics_backend.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -25,8 +42,15 @@ public class AssetService {
     private final TeamRepository teamRepository;
     private final PlayerRepository playerRepository;
     private final AssetProviderClient assetProviderClient;
+    private final MatchHeroViewService matchHeroViewService;
+    private final StringRedisTemplate redisTemplate;
+    private final BinaryCacheSerializer cacheValueSerializer;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Cacheable(value = "teamAssets", key = "#teamId")
+    private static final String TEAM_ASSETS_CACHE = "teamAssets";
+
+    @Cacheable(value = "teamAssets", key = "#teamId", sync = true)
     @Transactional(readOnly = true)
     public Optional<TeamAsset> getTeamAssets(Long teamId) {
         log.debug("Getting team assets for team ID: {}", teamId);
@@ -40,7 +64,71 @@ public class AssetService {
         return teamAssetRepository.findByTeam(teamOpt.get());
     }
 
-    @Cacheable(value = "playerAssets", key = "#playerId")
+    /**
+     * Bulk variant of {@link #getTeamAssets(Long)} sharing the same cache entries: the node-local
+     * tier first, one Redis multi-get for the rest, then a single query for the misses, which are written back.
+     *
+     * @return assets by team ID, teams without assets are absent
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, TeamAsset> getTeamAssets(Collection<Long> teamIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(teamIds));
+        Map<Long, TeamAsset> assets = new HashMap<>();
+        if (ids.isEmpty()) {
+            return assets;
+        }
+        
+        Cache cache = cacheManager.getCache(TEAM_ASSETS_CACHE);
+        TwoTierCache twoTierCache = cache instanceof TwoTierCache tiered ? tiered : null;
+        
+        List<Long> remoteIds = new ArrayList<>();
+        for (Long teamId : ids) {
+            Cache.ValueWrapper local = twoTierCache != null ? twoTierCache.getLocal(teamId) : null;
+            if (local == null) {
+                remoteIds.add(teamId);
+            } else if (local.get() instanceof TeamAsset asset) {
+                assets.put(teamId, asset);
+            }
+        }
+        
+        List<Long> misses = new ArrayList<>();
+        List<Object> cached = remoteIds.isEmpty() ? List.of() : multiGetCachedTeamAssets(remoteIds);
+        for (int i = 0; i < remoteIds.size(); i++) {
+            Long teamId = remoteIds.get(i);
+            Object value = cached != null ? cached.get(i) : null;
+            if (value instanceof TeamAsset asset) {
+                assets.put(teamId, asset);
+            } else if (!(value instanceof NullValue)) {
+                misses.add(teamId);
+                continue;
+            }
+            if (twoTierCache != null) {
+                twoTierCache.putLocal(teamId, value instanceof TeamAsset ? value : null);
+            }
+        }
+        
+        if (misses.isEmpty()) {
+            return assets;
+        }
+        
+        log.debug("Loading team assets for {} of {} teams from database", misses.size(), ids.size());
+        Map<Long, TeamAsset> loaded = new HashMap<>();
+        for (TeamAsset asset : teamAssetRepository.findByTeamIdIn(misses)) {
+            loaded.putIfAbsent(asset.getTeam().getId(), asset);
+        }
+        
+        assets.putAll(loaded);
+        
+        if (cache != null) {
+            try {
+                misses.forEach(teamId -> cache.put(teamId, loaded.get(teamId)));
+            } catch (Exception e) {
+                log.warn("Could not cache team assets: {}", e.getMessage());
+            }
+        }
+        return assets;
+    }
+
     @Transactional(readOnly = true)
     public Optional<PlayerAsset> getPlayerAssets(Long playerId) {
         log.debug("Getting player assets for player ID: {}", playerId);
@@ -70,25 +158,7 @@ public class AssetService {
             AssetDTO assetDto = assetProviderClient.getTeamAssets(team.getName());
             log.info("Fetched team assets for team: {}", team.getName());
             
-            Optional<TeamAsset> existingAsset = teamAssetRepository.findByTeamAndProvider(
-                    team, Provider.THESPORTSDB);
-            
-            TeamAsset teamAsset;
-            if (existingAsset.isPresent()) {
-                teamAsset = existingAsset.get();
-                log.debug("Updating existing team asset for team: {}", team.getName());
-            } else {
-                teamAsset = TeamAsset.builder()
-                        .team(team)
-                        .provider(Provider.THESPORTSDB)
-                        .build();
-                log.debug("Creating new team asset for team: {}", team.getName());
-            }
-            
-            teamAsset.setLogoUrl(assetDto.getLogoUrl());
-            teamAsset.setBannerUrl(assetDto.getBannerUrl());
-            
-            teamAssetRepository.save(teamAsset);
+            saveTeamAssets(team, assetDto);
             log.info("Successfully saved team assets for team: {}", team.getName());
         } catch (Exception e) {
             log.error("Error refreshing team assets for team {}: {}", team.getName(), e.getMessage(), e);
@@ -96,6 +166,32 @@ public class AssetService {
         }
     }
 
+    @Transactional
+    public void saveTeamAssets(Team team, AssetDTO assetDto) {
+        Optional<TeamAsset> existingAsset = teamAssetRepository.findByTeamAndProvider(
+                team, Provider.THESPORTSDB);
+        
+        TeamAsset teamAsset;
+        if (existingAsset.isPresent()) {
+            teamAsset = existingAsset.get();
+            log.debug("Updating existing team asset for team: {}", team.getName());
+        } else {
+            teamAsset = TeamAsset.builder()
+                    .team(team)
+                    .provider(Provider.THESPORTSDB)
+                    .build();
+            log.debug("Creating new team asset for team: {}", team.getName());
+        }
+        
+        teamAsset.setLogoUrl(assetDto.getLogoUrl());
+        teamAsset.setBannerUrl(assetDto.getBannerUrl());
+        
+        teamAssetRepository.save(teamAsset);
+        matchHeroViewService.onTeamLogoChanged(team.getId(),
+                teamAsset.getLogoUrl() != null ? teamAsset.getLogoUrl() : team.getLogoUrl());
+        eventPublisher.publishEvent(new TeamAssetsChangedEvent(team.getId()));
+    }
+
     @Transactional
     public void refreshPlayerAssets(Long playerId) {
         log.info("Refreshing player assets for player ID: {}", playerId);
@@ -131,10 +227,27 @@ public class AssetService {
             playerAsset.setCutoutUrl(assetDto.getCutoutUrl());
             
             playerAssetRepository.save(playerAsset);
+            eventPublisher.publishEvent(new PlayerAssetsChangedEvent(playerId));
             log.info("Successfully saved player assets for player: {}", player.getName());
         } catch (Exception e) {
             log.error("Error refreshing player assets for player {}: {}", player.getName(), e.getMessage(), e);
             throw new RuntimeException("Failed to refresh player assets", e);
         }
     }
+
+    private List<Object> multiGetCachedTeamAssets(List<Long> teamIds) {
+        byte[][] keys = teamIds.stream()
+                .map(teamId -> (TEAM_ASSETS_CACHE + "::" + teamId).getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        try {
+            List<byte[]> values = redisTemplate.execute(
+                    (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(keys));
+            return values == null ? null : values.stream()
+                    .map(cacheValueSerializer::deserialize)
+                    .toList();
+        } catch (Exception e) {
+            log.warn("Team asset multi-get failed, falling back to database: {}", e.getMessage());
+            return null;
+        }
+    }
 }
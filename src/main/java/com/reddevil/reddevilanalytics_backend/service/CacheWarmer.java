@@ -0,0 +1,69 @@
+package com.reddevil.reddevilanalytics_backend.service;
+
+import com.reddevil.reddevilanalytics_backend.ai.AIService;
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.domain.Team;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fills caches ahead of traffic through the regular read paths, so warmed entries are exactly
+ * what a request would have cached.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmer {
+
+    public static final Set<String> WARMABLE = Set.of("teamAssets", "predictions");
+
+    private final AssetService assetService;
+    private final AIService aiService;
+    private final TeamRepository teamRepository;
+    private final MatchRepository matchRepository;
+
+    /**
+     * @return number of entries loaded or refreshed
+     */
+    public int warm(String cacheName) {
+        return switch (cacheName) {
+            case "teamAssets" -> warmTeamAssets();
+            case "predictions" -> warmPredictions();
+            default -> throw new IllegalArgumentException("Cache " + cacheName + " cannot be warmed");
+        };
+    }
+
+    private int warmTeamAssets() {
+        List<Long> teamIds = teamRepository.findAll().stream()
+                .map(Team::getId)
+                .toList();
+        assetService.getTeamAssets(teamIds);
+        log.info("Warmed team assets for {} teams", teamIds.size());
+        return teamIds.size();
+    }
+
+    private int warmPredictions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Match> upcoming = matchRepository.findByMatchDateBetween(now, now.plusDays(7));
+        // Generates the missing ones in batches, so the loop below only reads them into the cache
+        aiService.getPredictions(upcoming);
+        int warmed = 0;
+        for (Match match : upcoming) {
+            try {
+                aiService.getPrediction(match.getId());
+                warmed++;
+            } catch (Exception e) {
+                log.warn("Could not warm prediction for match {}: {}", match.getId(), e.getMessage());
+            }
+        }
+        log.info("Warmed predictions for {} of {} upcoming matches", warmed, upcoming.size());
+        return warmed;
+    }
+}
@@ -0,0 +1,90 @@
+package com.reddevil.reddevilanalytics_backend.service;
+
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.domain.Team;
+import com.reddevil.reddevilanalytics_backend.dto.MatchSummaryItem;
+import com.reddevil.reddevilanalytics_backend.dto.TeamInfo;
+import com.reddevil.reddevilanalytics_backend.repository.CompetitionRepository;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.repository.SeasonRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a season's fixtures as newline-delimited JSON straight from a database cursor. Each
+ * match is detached once written, so memory stays flat however long the season is.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FixtureExportService {
+
+    private final MatchRepository matchRepository;
+    private final CompetitionRepository competitionRepository;
+    private final SeasonRepository seasonRepository;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+
+    @Transactional(readOnly = true)
+    public boolean exists(Long competitionId, Long seasonId) {
+        return competitionRepository.existsById(competitionId) && seasonRepository.existsById(seasonId);
+    }
+
+    /**
+     * Must be called where the response can be written as rows arrive, since the cursor stays open
+     * for as long as the export runs.
+     *
+     * @return number of matches written
+     */
+    @Transactional(readOnly = true)
+    public long exportSeasonFixtures(Long competitionId, Long seasonId, OutputStream out) throws IOException {
+        ObjectWriter writer = jsonMapper.writerFor(MatchSummaryItem.class);
+        long written = 0;
+        
+        try (Stream<Match> matches = matchRepository.streamByCompetitionAndSeason(competitionId, seasonId)) {
+            Iterator<Match> iterator = matches.iterator();
+            while (iterator.hasNext()) {
+                Match match = iterator.next();
+                out.write(writer.writeValueAsBytes(toItem(match)));
+                out.write('\n');
+                entityManager.detach(match);
+                written++;
+            }
+        }
+        
+        out.flush();
+        log.debug("Exported {} fixtures of competition {} season {}", written, competitionId, seasonId);
+        return written;
+    }
+
+    private MatchSummaryItem toItem(Match match) {
+        return MatchSummaryItem.builder()
+                .matchId(match.getId())
+                .matchDate(match.getMatchDate())
+                .competition(match.getCompetition() != null ? match.getCompetition().getName() : null)
+                .homeTeam(toTeamInfo(match.getHomeTeam()))
+                .awayTeam(toTeamInfo(match.getAwayTeam()))
+                .homeScore(match.getHomeScore())
+                .awayScore(match.getAwayScore())
+                .status(match.getStatus() != null ? match.getStatus().name() : null)
+                .build();
+    }
+
+    private TeamInfo toTeamInfo(Team team) {
+        return TeamInfo.builder()
+                .id(team.getId())
+                .name(team.getName())
+                .logo(team.getLogoUrl())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.reddevil.reddevilanalytics_backend.service;
 
 import com.reddevil.reddevilanalytics_backend.domain.Competition;
 import com.reddevil.reddevilanalytics_backend.domain.Season;
+import com.reddevil.reddevilanalytics_backend.ingestion.IngestionPipeline;
 import com.reddevil.reddevilanalytics_backend.repository.CompetitionRepository;
 import com.reddevil.reddevilanalytics_backend.repository.SeasonRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,32 +19,22 @@ import java.util.Optional;
 public class IngestionService {
 
     private final MatchService matchService;
+    private final IngestionPipeline ingestionPipeline;
     private final StandingsService standingsService;
     private final CompetitionRepository competitionRepository;
     private final SeasonRepository seasonRepository;
 
+    /**
+     * Fixtures, standings and team assets of all competitions, fetched concurrently by the
+     * ingestion pipeline.
+     */
     @Scheduled(cron = "0 0 2 * * *")
     public void syncAll() {
         log.info("Starting scheduled sync of all data");
         
         try {
-            Optional<Season> currentSeason = seasonRepository.findByIsCurrentTrue();
-            if (currentSeason.isEmpty()) {
-                log.warn("No current season found, skipping sync");
-                return;
-            }
-            
-            List<Competition> competitions = competitionRepository.findAll();
-            for (Competition competition : competitions) {
-                try {
-                    syncCompetitionFixtures(competition.getId());
-                    syncCompetitionStandings(competition.getId());
-                } catch (Exception e) {
-                    log.error("Error syncing competition {}: {}", competition.getName(), e.getMessage(), e);
-                }
-            }
-            
-            log.info("Completed scheduled sync of all data");
+            Integer written = ingestionPipeline.run().block();
+            log.info("Completed scheduled sync of all data, {} records written", written);
         } catch (Exception e) {
             log.error("Error during scheduled sync: {}", e.getMessage(), e);
         }
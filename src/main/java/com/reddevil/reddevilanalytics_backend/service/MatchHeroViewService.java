@@ -0,0 +1,354 @@
+package com.reddevil.reddevilanalytics_backend.service;
+
+import com.reddevil.reddevilanalytics_backend.domain.*;
+import com.reddevil.reddevilanalytics_backend.dto.MatchHeroResponse;
+import com.reddevil.reddevilanalytics_backend.dto.PredictionInfo;
+import com.reddevil.reddevilanalytics_backend.dto.TeamInfo;
+import com.reddevil.reddevilanalytics_backend.event.MatchChangedEvent;
+import com.reddevil.reddevilanalytics_backend.repository.MatchHeroViewRepository;
+import com.reddevil.reddevilanalytics_backend.repository.MatchHeroViewStore;
+import com.reddevil.reddevilanalytics_backend.repository.MatchPredictionRepository;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.repository.TeamAssetRepository;
+import com.reddevil.reddevilanalytics_backend.stats.TeamSeasonStats;
+import com.reddevil.reddevilanalytics_backend.stats.TeamStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains the {@link MatchHeroView} rows so a hero response is a single primary-key read.
+ * Writers call in here; reads only fall back to creating the row when it does not exist yet,
+ * leaving it alone if another request got there first.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchHeroViewService {
+
+    private final MatchHeroViewRepository matchHeroViewRepository;
+    private final MatchHeroViewStore matchHeroViewStore;
+    private final MatchRepository matchRepository;
+    private final MatchPredictionRepository matchPredictionRepository;
+    private final TeamAssetRepository teamAssetRepository;
+    private final TeamStatsService teamStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Set<Long> liveMatchIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Live heroes carry a minute that moves without a write, so their ETag needs to as well.
+     */
+    public boolean isLive(Long matchId) {
+        return liveMatchIds.contains(matchId);
+    }
+
+    /**
+     * Live matches are read back from the hero rows, so a node that just started, or whose
+     * matches went live through another node, knows them too. Its own writes are tracked as
+     * they happen.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reloadLiveMatches();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.match.live-ttl:15000}", initialDelayString = "${app.cache.match.live-ttl:15000}")
+    public void reloadLiveMatches() {
+        try {
+            Set<Long> loaded = ConcurrentHashMap.newKeySet();
+            loaded.addAll(matchHeroViewRepository.findMatchIdsByStatus(MatchStatus.LIVE));
+            liveMatchIds = loaded;
+        } catch (Exception e) {
+            log.warn("Could not load live matches: {}", e.getMessage());
+        }
+    }
+
+    @Transactional
+    public Optional<MatchHeroResponse> getMatchHero(Long matchId) {
+        Optional<MatchHeroView> viewOpt = matchHeroViewRepository.findById(matchId);
+        if (viewOpt.isPresent()) {
+            return Optional.of(toResponses(List.of(viewOpt.get())).get(0));
+        }
+
+        log.debug("No hero view for match {}, building it", matchId);
+        return matchRepository.findById(matchId)
+                .map(this::materialize)
+                .map(view -> toResponses(List.of(view)).get(0));
+    }
+
+    /**
+     * Heroes of several matches in the order asked for, skipping unknown IDs. Existing rows are
+     * read in one query; missing ones are built from one query each for matches, predictions and
+     * team assets, and inserted in one batch.
+     */
+    @Transactional
+    public List<MatchHeroResponse> getMatchHeroes(List<Long> matchIds) {
+        Map<Long, MatchHeroView> views = new HashMap<>();
+        matchHeroViewRepository.findAllById(matchIds).forEach(view -> views.put(view.getMatchId(), view));
+
+        List<Long> missing = matchIds.stream()
+                .filter(matchId -> !views.containsKey(matchId))
+                .toList();
+        if (!missing.isEmpty()) {
+            log.debug("No hero view for {} of {} matches, building them", missing.size(), matchIds.size());
+            buildViews(missing).forEach(view -> views.put(view.getMatchId(), view));
+        }
+
+        return toResponses(matchIds.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    /**
+     * Rebuilds the row from the match; an unchanged row is left alone so its data version holds.
+     */
+    @Transactional
+    public MatchHeroView refresh(Match match) {
+        Optional<MatchHeroView> existing = matchHeroViewRepository.findById(match.getId());
+        trackLive(match);
+        
+        MatchHeroView view = buildView(match, resolveLogo(match.getHomeTeam()), resolveLogo(match.getAwayTeam()));
+        matchPredictionRepository.findByMatch(match).ifPresent(prediction -> applyPrediction(view, prediction));
+        
+        if (existing.isEmpty()) {
+            if (matchHeroViewStore.insertIfAbsent(view)) {
+                eventPublisher.publishEvent(MatchChangedEvent.of(match));
+                return view;
+            }
+            // A reader created the row meanwhile, possibly from the match as it was before this write
+            existing = matchHeroViewRepository.findById(match.getId());
+        }
+        
+        if (existing.isPresent()) {
+            view.setUpdatedAt(existing.get().getUpdatedAt());
+            if (existing.get().equals(view)) {
+                return existing.get();
+            }
+        }
+        
+        MatchHeroView saved = matchHeroViewRepository.save(view);
+        eventPublisher.publishEvent(MatchChangedEvent.of(match));
+        return saved;
+    }
+
+    /**
+     * Creates the missing row of a match being read. Nothing about the match changed, so unlike
+     * {@link #refresh} no change event goes out, and a row another request created first wins.
+     */
+    private MatchHeroView materialize(Match match) {
+        trackLive(match);
+        MatchHeroView view = buildView(match, resolveLogo(match.getHomeTeam()), resolveLogo(match.getAwayTeam()));
+        matchPredictionRepository.findByMatch(match).ifPresent(prediction -> applyPrediction(view, prediction));
+        
+        if (matchHeroViewStore.insertIfAbsent(view)) {
+            return view;
+        }
+        return matchHeroViewRepository.findById(match.getId()).orElse(view);
+    }
+
+    @Transactional
+    public void onPredictionSaved(MatchPrediction prediction) {
+        Long matchId = prediction.getMatch().getId();
+        Optional<MatchHeroView> viewOpt = matchHeroViewRepository.findById(matchId);
+        if (viewOpt.isEmpty()) {
+            matchRepository.findById(matchId).ifPresent(this::refresh);
+            return;
+        }
+
+        MatchHeroView view = viewOpt.get();
+        applyPrediction(view, prediction);
+        matchHeroViewRepository.save(view);
+        eventPublisher.publishEvent(MatchChangedEvent.of(prediction.getMatch()));
+    }
+
+    @Transactional
+    public void onTeamLogoChanged(Long teamId, String logoUrl) {
+        int updated = matchHeroViewRepository.updateHomeTeamLogo(teamId, logoUrl)
+                + matchHeroViewRepository.updateAwayTeamLogo(teamId, logoUrl);
+        log.debug("Updated team logo on {} match hero views for team {}", updated, teamId);
+    }
+
+    /**
+     * Live merges run inside read-only transactions, so the score update gets its own.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onLiveScore(Match match) {
+        trackLive(match);
+        matchHeroViewRepository.updateScore(match.getId(), match.getStatus(), match.getHomeScore(), match.getAwayScore());
+        eventPublisher.publishEvent(MatchChangedEvent.of(match));
+    }
+
+    private List<MatchHeroView> buildViews(List<Long> matchIds) {
+        List<Match> matches = matchRepository.findAllWithTeamsByIdIn(matchIds);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, MatchPrediction> predictions = new HashMap<>();
+        for (MatchPrediction prediction : matchPredictionRepository.findByMatchIdIn(matchIds)) {
+            predictions.put(prediction.getMatch().getId(), prediction);
+        }
+
+        Set<Long> teamIds = new HashSet<>();
+        matches.forEach(match -> {
+            teamIds.add(match.getHomeTeam().getId());
+            teamIds.add(match.getAwayTeam().getId());
+        });
+        Map<Long, TeamAsset> assets = new HashMap<>();
+        for (TeamAsset asset : teamAssetRepository.findByTeamIdIn(teamIds)) {
+            assets.putIfAbsent(asset.getTeam().getId(), asset);
+        }
+
+        List<MatchHeroView> views = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            trackLive(match);
+            MatchHeroView view = buildView(match,
+                    resolveLogo(match.getHomeTeam(), assets.get(match.getHomeTeam().getId())),
+                    resolveLogo(match.getAwayTeam(), assets.get(match.getAwayTeam().getId())));
+            MatchPrediction prediction = predictions.get(match.getId());
+            if (prediction != null) {
+                applyPrediction(view, prediction);
+            }
+            views.add(view);
+        }
+
+        // Nothing about these matches changed, so no change events; rows created meanwhile win
+        matchHeroViewStore.insertIfAbsent(views);
+        return matchHeroViewRepository.findAllById(matchIds);
+    }
+
+    private MatchHeroView buildView(Match match, String homeTeamLogo, String awayTeamLogo) {
+        return MatchHeroView.builder()
+                .matchId(match.getId())
+                .matchDate(match.getMatchDate())
+                .venue(match.getVenue())
+                .status(match.getStatus())
+                .homeScore(match.getHomeScore())
+                .awayScore(match.getAwayScore())
+                .competitionName(match.getCompetition() != null ? match.getCompetition().getName() : null)
+                .seasonId(match.getSeason() != null ? match.getSeason().getId() : null)
+                .homeTeamId(match.getHomeTeam().getId())
+                .homeTeamName(match.getHomeTeam().getName())
+                .homeTeamLogo(homeTeamLogo)
+                .awayTeamId(match.getAwayTeam().getId())
+                .awayTeamName(match.getAwayTeam().getName())
+                .awayTeamLogo(awayTeamLogo)
+                .build();
+    }
+
+    private void trackLive(Match match) {
+        if (match.getStatus() == MatchStatus.LIVE) {
+            liveMatchIds.add(match.getId());
+        } else {
+            liveMatchIds.remove(match.getId());
+        }
+    }
+
+    private void applyPrediction(MatchHeroView view, MatchPrediction prediction) {
+        view.setHomeWinProbability(prediction.getHomeWinProbability());
+        view.setDrawProbability(prediction.getDrawProbability());
+        view.setAwayWinProbability(prediction.getAwayWinProbability());
+        view.setConfidenceScore(prediction.getConfidenceScore());
+    }
+
+    private String resolveLogo(Team team) {
+        return resolveLogo(team, teamAssetRepository.findByTeam(team).orElse(null));
+    }
+
+    private String resolveLogo(Team team, TeamAsset asset) {
+        if (asset != null && asset.getLogoUrl() != null) {
+            return asset.getLogoUrl();
+        }
+        return team.getLogoUrl();
+    }
+
+    /**
+     * Form is shown until a match is played, read as stored since heroes are cached for every node.
+     */
+    private List<MatchHeroResponse> toResponses(List<MatchHeroView> views) {
+        Map<Long, Set<Long>> formTeams = new HashMap<>();
+        views.stream()
+                .filter(MatchHeroViewService::showsForm)
+                .forEach(view -> formTeams.computeIfAbsent(view.getSeasonId(), seasonId -> new HashSet<>())
+                        .addAll(List.of(view.getHomeTeamId(), view.getAwayTeamId())));
+        Map<Long, Map<Long, TeamSeasonStats>> statsBySeason = new HashMap<>();
+        formTeams.forEach((seasonId, teamIds) -> statsBySeason.put(seasonId, teamStatsService.load(seasonId, teamIds)));
+
+        return views.stream()
+                .map(view -> toResponse(view, showsForm(view)
+                        ? statsBySeason.getOrDefault(view.getSeasonId(), Map.of())
+                        : Map.of()))
+                .toList();
+    }
+
+    private static boolean showsForm(MatchHeroView view) {
+        return view.getSeasonId() != null && MatchHeroView.FORM_STATUSES.contains(view.getStatus());
+    }
+
+    private static String form(Map<Long, TeamSeasonStats> stats, Long teamId) {
+        TeamSeasonStats teamStats = stats.get(teamId);
+        return teamStats != null ? teamStats.form().form() : null;
+    }
+
+    private MatchHeroResponse toResponse(MatchHeroView view, Map<Long, TeamSeasonStats> stats) {
+        PredictionInfo prediction = null;
+        if (view.getHomeWinProbability() != null) {
+            prediction = PredictionInfo.builder()
+                    .homeWinProb(view.getHomeWinProbability())
+                    .drawProb(view.getDrawProbability())
+                    .awayWinProb(view.getAwayWinProbability())
+                    .confidence(view.getConfidenceScore())
+                    .build();
+        }
+
+        Integer currentMinute = null;
+        if (view.getStatus() == MatchStatus.LIVE) {
+            long minutesElapsed = ChronoUnit.MINUTES.between(view.getMatchDate(), LocalDateTime.now());
+            currentMinute = (int) Math.min(minutesElapsed, 90);
+        }
+
+        return MatchHeroResponse.builder()
+                .matchId(view.getMatchId())
+                .matchDate(view.getMatchDate())
+                .venue(view.getVenue())
+                .homeTeam(TeamInfo.builder()
+                        .id(view.getHomeTeamId())
+                        .name(view.getHomeTeamName())
+                        .logo(view.getHomeTeamLogo())
+                        .form(form(stats, view.getHomeTeamId()))
+                        .build())
+                .awayTeam(TeamInfo.builder()
+                        .id(view.getAwayTeamId())
+                        .name(view.getAwayTeamName())
+                        .logo(view.getAwayTeamLogo())
+                        .form(form(stats, view.getAwayTeamId()))
+                        .build())
+                .status(view.getStatus() != null ? view.getStatus().name() : null)
+                .homeScore(view.getHomeScore())
+                .awayScore(view.getAwayScore())
+                .competition(view.getCompetitionName())
+                .prediction(prediction)
+                .currentMinute(currentMinute)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.reddevil.reddevilanalytics_backend.service;
+
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+
+import java.util.List;
+
+/**
+ * @param next position after the last match, or null on the last page
+ */
+public record MatchHistoryPage(
+    List<Match> matches,
+    MatchHistoryCursor next
+) {}
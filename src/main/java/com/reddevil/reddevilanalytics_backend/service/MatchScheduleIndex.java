@@ -0,0 +1,143 @@
+package com.reddevil.reddevilanalytics_backend.service;
+
+import com.reddevil.reddevilanalytics_backend.event.ScheduleChangedEvent;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.repository.ScheduledFixture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Per-team kickoff index of upcoming matches, swapped in atomically. Next-match lookups are a
+ * {@link NavigableMap} ceiling search and never touch the database.
+ *
+ * <p>The index is rebuilt once fixture writes have committed, so it never reads the schedule
+ * before them, and other nodes are told on {@link #SCHEDULE_CHANNEL} to rebuild theirs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchScheduleIndex {
+
+    public static final String SCHEDULE_CHANNEL = "schedule:changed";
+
+    private final MatchRepository matchRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Matches of a team sharing a kickoff each keep their entry.
+     */
+    private record Slot(LocalDateTime kickoff, long matchId) implements Comparable<Slot> {
+
+        private static final Comparator<Slot> ORDER =
+                Comparator.comparing(Slot::kickoff).thenComparingLong(Slot::matchId);
+
+        @Override
+        public int compareTo(Slot other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record Snapshot(Map<Long, NavigableMap<Slot, Long>> byTeam, Map<Long, Long> seasonByMatch) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Could not build match schedule index on startup: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Could not rebuild match schedule index: {}", e.getMessage(), e);
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(SCHEDULE_CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.warn("Could not announce schedule change: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Handles a message from {@link #SCHEDULE_CHANNEL}, ignoring the ones this node sent.
+     */
+    public void onScheduleMessage(String message) {
+        if (nodeId.equals(message)) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Could not rebuild match schedule index for another node's change: {}", e.getMessage());
+        }
+    }
+
+    public void rebuild() {
+        List<ScheduledFixture> fixtures = matchRepository.findScheduleAfter(LocalDateTime.now());
+
+        Map<Long, NavigableMap<Slot, Long>> byTeam = new HashMap<>();
+        Map<Long, Long> seasonByMatch = new HashMap<>();
+        for (ScheduledFixture fixture : fixtures) {
+            Slot slot = new Slot(fixture.matchDate(), fixture.matchId());
+            byTeam.computeIfAbsent(fixture.homeTeamId(), id -> new TreeMap<>()).put(slot, fixture.matchId());
+            byTeam.computeIfAbsent(fixture.awayTeamId(), id -> new TreeMap<>()).put(slot, fixture.matchId());
+            if (fixture.seasonId() != null) {
+                seasonByMatch.put(fixture.matchId(), fixture.seasonId());
+            }
+        }
+
+        snapshot = new Snapshot(byTeam, seasonByMatch);
+        log.info("Rebuilt match schedule index with {} upcoming matches for {} teams", fixtures.size(), byTeam.size());
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * @return the first match of the team kicking off after {@code after}, optionally restricted to a season
+     */
+    public Optional<Long> findNextMatchId(Long teamId, Long seasonId, LocalDateTime after) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        NavigableMap<Slot, Long> schedule = current.byTeam().get(teamId);
+        if (schedule == null) {
+            return Optional.empty();
+        }
+
+        for (Long matchId : schedule.tailMap(new Slot(after, Long.MAX_VALUE), false).values()) {
+            if (seasonId == null || Objects.equals(seasonId, current.seasonByMatch().get(matchId))) {
+                return Optional.of(matchId);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -1,6 +1,8 @@
 package com.reddevil.reddevilanalytics_backend.service;
 
 import com.reddevil.reddevilanalytics_backend.domain.*;
+import com.reddevil.reddevilanalytics_backend.event.MatchResultEvent;
+import com.reddevil.reddevilanalytics_backend.event.ScheduleChangedEvent;
 import com.reddevil.reddevilanalytics_backend.provider.client.FixtureProviderClient;
 import com.reddevil.reddevilanalytics_backend.provider.client.LiveMatchProviderClient;
 import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
@@ -8,16 +10,21 @@ import com.reddevil.reddevilanalytics_backend.provider.dto.LiveMatchDTO;
 import com.reddevil.reddevilanalytics_backend.repository.CompetitionRepository;
 import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
 import com.reddevil.reddevilanalytics_backend.repository.SeasonRepository;
+import com.reddevil.reddevilanalytics_backend.repository.TeamRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -26,44 +33,81 @@ public class MatchService {
     private final MatchRepository matchRepository;
     private final CompetitionRepository competitionRepository;
     private final SeasonRepository seasonRepository;
+    private final TeamRepository teamRepository;
     private final ExternalRefService externalRefService;
     private final FixtureProviderClient fixtureProviderClient;
     private final LiveMatchProviderClient liveMatchProviderClient;
+    private final StandingsService standingsService;
+    private final MatchScheduleIndex matchScheduleIndex;
+    private final MatchHeroViewService matchHeroViewService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MatchService(
             MatchRepository matchRepository,
             CompetitionRepository competitionRepository,
             SeasonRepository seasonRepository,
+            TeamRepository teamRepository,
             ExternalRefService externalRefService,
             @Qualifier("footballDataClient") FixtureProviderClient fixtureProviderClient,
-            @Qualifier("apiFootballClient") LiveMatchProviderClient liveMatchProviderClient) {
+            @Qualifier("apiFootballClient") LiveMatchProviderClient liveMatchProviderClient,
+            StandingsService standingsService,
+            MatchScheduleIndex matchScheduleIndex,
+            MatchHeroViewService matchHeroViewService,
+            ApplicationEventPublisher eventPublisher) {
         this.matchRepository = matchRepository;
         this.competitionRepository = competitionRepository;
         this.seasonRepository = seasonRepository;
+        this.teamRepository = teamRepository;
         this.externalRefService = externalRefService;
         this.fixtureProviderClient = fixtureProviderClient;
         this.liveMatchProviderClient = liveMatchProviderClient;
+        this.standingsService = standingsService;
+        this.matchScheduleIndex = matchScheduleIndex;
+        this.matchHeroViewService = matchHeroViewService;
+        this.eventPublisher = eventPublisher;
     }
 
-    @Cacheable(value = "nextMatch", key = "#teamId + '_' + #seasonId")
     @Transactional(readOnly = true)
-    public Optional<Match> getNextMatch(Long teamId, Long seasonId) {
+    public Optional<Long> findNextMatchId(Long teamId, Long seasonId) {
         log.debug("Getting next match for team ID {} and season ID {}", teamId, seasonId);
         
         LocalDateTime now = LocalDateTime.now();
-        List<Match> matches = matchRepository.findByMatchDateBetween(now, now.plusMonths(1));
+        if (matchScheduleIndex.isReady()) {
+            return matchScheduleIndex.findNextMatchId(teamId, seasonId, now);
+        }
         
-        return matches.stream()
-                .filter(m -> (m.getHomeTeam().getId().equals(teamId) || m.getAwayTeam().getId().equals(teamId))
-                        && (seasonId == null || m.getSeason().getId().equals(seasonId)))
-                .filter(m -> m.getMatchDate().isAfter(now))
-                .min((m1, m2) -> m1.getMatchDate().compareTo(m2.getMatchDate()));
+        return findNextMatchFromDatabase(teamId, seasonId, now).map(Match::getId);
     }
 
+    /**
+     * One page of a team's matches, newest first. Home and away matches come from one keyset
+     * query each and are merged, so a deep page costs the same two index range scans as the first.
+     *
+     * @return the page, or empty if the team does not exist
+     */
     @Transactional(readOnly = true)
-    public Optional<Match> getMatchById(Long matchId) {
-        log.debug("Getting match by ID: {}", matchId);
-        return matchRepository.findById(matchId);
+    public Optional<MatchHistoryPage> getTeamMatches(Long teamId, MatchHistoryCursor cursor, int limit) {
+        log.debug("Getting {} matches of team ID {} before {}", limit, teamId, cursor);
+        
+        Limit fetch = Limit.of(limit + 1);
+        List<Match> matches = new ArrayList<>(matchRepository.findHomeMatchesBefore(
+                teamId, cursor.matchDate(), cursor.matchId(), fetch));
+        matches.addAll(matchRepository.findAwayMatchesBefore(
+                teamId, cursor.matchDate(), cursor.matchId(), fetch));
+        matches.sort(Comparator.comparing(Match::getMatchDate).thenComparing(Match::getId).reversed());
+        
+        // Only an empty page can belong to an unknown team
+        if (matches.isEmpty() && !teamRepository.existsById(teamId)) {
+            return Optional.empty();
+        }
+        
+        if (matches.size() <= limit) {
+            return Optional.of(new MatchHistoryPage(matches, null));
+        }
+        
+        List<Match> page = List.copyOf(matches.subList(0, limit));
+        Match last = page.get(page.size() - 1);
+        return Optional.of(new MatchHistoryPage(page, new MatchHistoryCursor(last.getMatchDate(), last.getId())));
     }
 
     @Transactional
@@ -96,10 +140,9 @@ public class MatchService {
             List<FixtureDTO> fixtures = fixtureProviderClient.getFixtures(externalCompId, externalSeasonId);
             log.info("Fetched {} fixtures from provider", fixtures.size());
             
-            for (FixtureDTO fixtureDto : fixtures) {
-                saveOrUpdateFixture(fixtureDto, competition, season);
-            }
+            applyFixtures(fixtures, competition, season);
             
+            eventPublisher.publishEvent(new ScheduleChangedEvent());
             log.info("Successfully synced {} fixtures", fixtures.size());
         } catch (Exception e) {
             log.error("Error syncing fixtures: {}", e.getMessage(), e);
@@ -107,6 +150,17 @@ public class MatchService {
         }
     }
 
+    /**
+     * Saves fixtures fetched from Football-Data.org. The caller publishes a
+     * {@link ScheduleChangedEvent} once it has applied everything it fetched.
+     */
+    @Transactional
+    public void applyFixtures(List<FixtureDTO> fixtures, Competition competition, Season season) {
+        for (FixtureDTO fixtureDto : fixtures) {
+            saveOrUpdateFixture(fixtureDto, competition, season);
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<Match> getLiveMatches(Long competitionId) {
         log.debug("Getting live matches for competition ID: {}", competitionId);
@@ -141,6 +195,19 @@ public class MatchService {
         }
     }
 
+    private Optional<Match> findNextMatchFromDatabase(Long teamId, Long seasonId, LocalDateTime now) {
+        Optional<Match> nextHome = seasonId == null
+                ? matchRepository.findFirstByHomeTeamIdAndMatchDateAfterOrderByMatchDateAsc(teamId, now)
+                : matchRepository.findFirstByHomeTeamIdAndSeasonIdAndMatchDateAfterOrderByMatchDateAsc(teamId, seasonId, now);
+        Optional<Match> nextAway = seasonId == null
+                ? matchRepository.findFirstByAwayTeamIdAndMatchDateAfterOrderByMatchDateAsc(teamId, now)
+                : matchRepository.findFirstByAwayTeamIdAndSeasonIdAndMatchDateAfterOrderByMatchDateAsc(teamId, seasonId, now);
+        
+        return Stream.of(nextHome, nextAway)
+                .flatMap(Optional::stream)
+                .min(Comparator.comparing(Match::getMatchDate));
+    }
+
     private void saveOrUpdateFixture(FixtureDTO fixtureDto, Competition competition, Season season) {
         Team homeTeam = externalRefService.findOrCreateTeam(
                 Provider.FOOTBALL_DATA, 
@@ -169,6 +236,9 @@ public class MatchService {
             log.debug("Creating new match: {} vs {}", homeTeam.getName(), awayTeam.getName());
         }
         
+        boolean resultChanged = isResultChange(match, mapStatus(fixtureDto.getStatus()),
+                fixtureDto.getHomeScore(), fixtureDto.getAwayScore());
+        
         match.setMatchDate(fixtureDto.getMatchDate());
         match.setStatus(mapStatus(fixtureDto.getStatus()));
         match.setHomeScore(fixtureDto.getHomeScore());
@@ -176,7 +246,12 @@ public class MatchService {
         match.setVenue(fixtureDto.getVenue());
         match.setReferee(fixtureDto.getReferee());
         
-        matchRepository.save(match);
+        match = matchRepository.save(match);
+        matchHeroViewService.refresh(match);
+        
+        if (resultChanged) {
+            eventPublisher.publishEvent(MatchResultEvent.of(match));
+        }
     }
 
     private Optional<Match> mergeLiveDataWithFixture(LiveMatchDTO liveDto) {
@@ -200,13 +275,37 @@ public class MatchService {
         }
         
         Match match = matchOpt.get();
+        boolean resultChanged = isResultChange(match, mapStatus(liveDto.getStatus()),
+                liveDto.getHomeScore(), liveDto.getAwayScore());
+        boolean scoreChanged = match.getStatus() != mapStatus(liveDto.getStatus())
+                || !Objects.equals(match.getHomeScore(), liveDto.getHomeScore())
+                || !Objects.equals(match.getAwayScore(), liveDto.getAwayScore());
+        
         match.setHomeScore(liveDto.getHomeScore());
         match.setAwayScore(liveDto.getAwayScore());
         match.setStatus(mapStatus(liveDto.getStatus()));
         
+        if (resultChanged) {
+            eventPublisher.publishEvent(MatchResultEvent.of(match));
+        } else {
+            standingsService.applyLiveScore(match);
+        }
+        if (scoreChanged) {
+            matchHeroViewService.onLiveScore(match);
+        }
+        
         return Optional.of(match);
     }
 
+    private boolean isResultChange(Match match, MatchStatus newStatus, Integer newHomeScore, Integer newAwayScore) {
+        if (newStatus != MatchStatus.FINISHED || newHomeScore == null || newAwayScore == null) {
+            return false;
+        }
+        return match.getStatus() != MatchStatus.FINISHED
+                || !Objects.equals(match.getHomeScore(), newHomeScore)
+                || !Objects.equals(match.getAwayScore(), newAwayScore);
+    }
+
     private MatchStatus mapStatus(String status) {
         if (status == null) {
             return MatchStatus.SCHEDULED;
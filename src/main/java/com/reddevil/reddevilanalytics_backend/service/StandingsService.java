@@ -1,21 +1,32 @@
 package com.reddevil.reddevilanalytics_backend.service;
 
 import com.reddevil.reddevilanalytics_backend.domain.*;
+import com.reddevil.reddevilanalytics_backend.event.MatchResultEvent;
+import com.reddevil.reddevilanalytics_backend.event.StandingsChangedEvent;
 import com.reddevil.reddevilanalytics_backend.provider.client.StandingsProviderClient;
 import com.reddevil.reddevilanalytics_backend.provider.dto.StandingDTO;
 import com.reddevil.reddevilanalytics_backend.repository.CompetitionRepository;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
 import com.reddevil.reddevilanalytics_backend.repository.SeasonRepository;
 import com.reddevil.reddevilanalytics_backend.repository.StandingRepository;
+import com.reddevil.reddevilanalytics_backend.repository.TeamRepository;
+import com.reddevil.reddevilanalytics_backend.standings.StandingsEngine;
+import com.reddevil.reddevilanalytics_backend.standings.StandingsProjectionService;
+import com.reddevil.reddevilanalytics_backend.standings.StandingsTable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,8 +38,12 @@ public class StandingsService {
     private final SeasonRepository seasonRepository;
     private final ExternalRefService externalRefService;
     private final StandingsProviderClient standingsProviderClient;
+    private final MatchRepository matchRepository;
+    private final TeamRepository teamRepository;
+    private final StandingsEngine standingsEngine;
+    private final StandingsProjectionService standingsProjectionService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Cacheable(value = "standings", key = "#competitionId + '_' + #seasonId")
     @Transactional(readOnly = true)
     public List<Standing> getStandings(Long competitionId, Long seasonId) {
         log.debug("Getting standings for competition ID {} and season ID {}", competitionId, seasonId);
@@ -45,7 +60,6 @@ public class StandingsService {
                 competitionOpt.get(), seasonOpt.get());
     }
 
-    @CacheEvict(value = "standings", key = "#competitionId + '_' + #seasonId")
     @Transactional
     public void syncStandings(Long competitionId, Long seasonId) {
         log.info("Syncing standings for competition ID {} and season ID {}", competitionId, seasonId);
@@ -76,9 +90,7 @@ public class StandingsService {
             List<StandingDTO> standingsDto = standingsProviderClient.getStandings(externalCompId, externalSeasonId);
             log.info("Fetched {} standings from provider", standingsDto.size());
             
-            for (StandingDTO standingDto : standingsDto) {
-                saveOrUpdateStanding(standingDto, competition, season);
-            }
+            applyStandings(standingsDto, competition, season);
             
             log.info("Successfully synced {} standings", standingsDto.size());
         } catch (Exception e) {
@@ -87,6 +99,143 @@ public class StandingsService {
         }
     }
 
+    /**
+     * Saves a complete provider table and reconciles the local engine and live projection with it.
+     */
+    @Transactional
+    public void applyStandings(List<StandingDTO> standingsDto, Competition competition, Season season) {
+        for (StandingDTO standingDto : standingsDto) {
+            saveOrUpdateStanding(standingDto, competition, season);
+        }
+        
+        reconcileEngine(competition, season);
+        standingsProjectionService.rebase(competition.getId(), season.getId());
+        eventPublisher.publishEvent(new StandingsChangedEvent(competition.getId(), season.getId()));
+    }
+
+    /**
+     * Applies a finished match to the local standings engine and writes the re-ranked table,
+     * so the table reflects a result without waiting for the next provider sync. Runs once the
+     * result is committed, in its own transaction, so a rolled-back result never reaches the table.
+     * The stored rows are locked first, and an engine that no longer matches them is reloaded
+     * from them, so a node that missed another node's write never overwrites it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onMatchResult(MatchResultEvent event) {
+        if (event.competitionId() == null || event.seasonId() == null) {
+            log.debug("Match {} has no competition or season, skipping standings update", event.matchId());
+            return;
+        }
+        
+        // Live results are not saved by their read-only caller, so the event carries the score
+        Optional<Competition> competitionOpt = competitionRepository.findById(event.competitionId());
+        Optional<Season> seasonOpt = seasonRepository.findById(event.seasonId());
+        if (competitionOpt.isEmpty() || seasonOpt.isEmpty()) {
+            return;
+        }
+        
+        Competition competition = competitionOpt.get();
+        Season season = seasonOpt.get();
+        
+        List<Standing> stored = standingRepository.lockTable(competition, season);
+        boolean changed = false;
+        if (!standingsEngine.isCurrent(competition.getId(), season.getId(), stored)) {
+            // Never loaded, or another node has written the table since; a stored result is
+            // counted by the reload and applying it below is then a no-op
+            changed = standingsEngine.load(competition.getId(), season.getId(), stored,
+                    matchRepository.findByCompetitionAndSeasonAndStatus(competition, season, MatchStatus.FINISHED)) > 0;
+        }
+        
+        if (standingsEngine.apply(event) || changed) {
+            persistEngineTable(competition, season, stored);
+            standingsProjectionService.rebase(competition.getId(), season.getId());
+            eventPublisher.publishEvent(new StandingsChangedEvent(competition.getId(), season.getId()));
+            log.info("Updated standings for competition {} from result of match {}", 
+                    competition.getName(), event.matchId());
+        }
+    }
+
+    /**
+     * Feeds the score of a live match into the provisional standings projection.
+     */
+    @Transactional(readOnly = true)
+    public void applyLiveScore(Match match) {
+        if (match.getCompetition() == null || match.getSeason() == null) {
+            return;
+        }
+        
+        if (match.getStatus() == MatchStatus.LIVE 
+                && !standingsEngine.isLoaded(match.getCompetition().getId(), match.getSeason().getId())) {
+            loadEngine(match.getCompetition(), match.getSeason());
+        }
+        
+        standingsProjectionService.onLiveScore(match);
+    }
+
+    private void reconcileEngine(Competition competition, Season season) {
+        List<Standing> providerStandings = standingRepository.lockTable(competition, season);
+        
+        if (standingsEngine.isLoaded(competition.getId(), season.getId())) {
+            int drifted = standingsEngine.drift(competition.getId(), season.getId(), providerStandings);
+            if (drifted > 0) {
+                log.warn("Local standings for competition {} drifted from provider on {} rows, reseeding", 
+                        competition.getName(), drifted);
+            }
+        }
+        
+        int pending = standingsEngine.load(competition.getId(), season.getId(), providerStandings,
+                matchRepository.findByCompetitionAndSeasonAndStatus(competition, season, MatchStatus.FINISHED));
+        if (pending > 0) {
+            log.info("Provider standings for competition {} lag {} stored results, applying them locally",
+                    competition.getName(), pending);
+            persistEngineTable(competition, season, providerStandings);
+        }
+    }
+
+    private void loadEngine(Competition competition, Season season) {
+        standingsEngine.load(
+                competition.getId(),
+                season.getId(),
+                standingRepository.findByCompetitionAndSeasonOrderByPositionAsc(competition, season),
+                matchRepository.findByCompetitionAndSeasonAndStatus(competition, season, MatchStatus.FINISHED));
+    }
+
+    /**
+     * Writes the engine's table over the given rows, which must be locked and match what the
+     * engine was loaded or last written from.
+     */
+    private void persistEngineTable(Competition competition, Season season, List<Standing> locked) {
+        Map<Long, Standing> existing = locked.stream()
+                .collect(Collectors.toMap(standing -> standing.getTeam().getId(), Function.identity()));
+        
+        List<Standing> updated = new ArrayList<>();
+        for (StandingsTable.Row row : standingsEngine.rows(competition.getId(), season.getId())) {
+            Standing standing = existing.get(row.teamId());
+            if (standing == null) {
+                standing = Standing.builder()
+                        .competition(competition)
+                        .season(season)
+                        .team(teamRepository.getReferenceById(row.teamId()))
+                        .build();
+            }
+            
+            standing.setPosition(row.position());
+            standing.setPlayedGames(row.played());
+            standing.setWon(row.won());
+            standing.setDraw(row.draw());
+            standing.setLost(row.lost());
+            standing.setPoints(row.points());
+            standing.setGoalsFor(row.goalsFor());
+            standing.setGoalsAgainst(row.goalsAgainst());
+            standing.setGoalDifference(row.goalDifference());
+            standing.setForm(row.form());
+            updated.add(standing);
+        }
+        
+        standingRepository.saveAll(updated);
+    }
+
     private void saveOrUpdateStanding(StandingDTO standingDto, Competition competition, Season season) {
         Team team = externalRefService.findOrCreateTeam(
                 Provider.FOOTBALL_DATA,
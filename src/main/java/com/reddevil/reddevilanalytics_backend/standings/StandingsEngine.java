@@ -0,0 +1,206 @@
+package com.reddevil.reddevilanalytics_backend.standings;
+
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.domain.Standing;
+import com.reddevil.reddevilanalytics_backend.event.MatchResultEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process league tables, seeded from the provider-synced {@link Standing} rows and advanced
+ * locally as results land. The provider stays the source of truth: every standings sync reseeds
+ * the table, which is where drift between the two is reported.
+ */
+@Slf4j
+@Component
+public class StandingsEngine {
+
+    private final List<TiebreakRule> tiebreakers;
+    private final Map<String, StandingsTable> tables = new ConcurrentHashMap<>();
+
+    public StandingsEngine(
+            @Value("${app.standings.tiebreakers:POINTS,GOAL_DIFFERENCE,GOALS_FOR}") String tiebreakers) {
+        this.tiebreakers = Arrays.stream(tiebreakers.split(","))
+                .map(String::trim)
+                .filter(rule -> !rule.isEmpty())
+                .map(TiebreakRule::valueOf)
+                .toList();
+        log.info("StandingsEngine initialized with tiebreakers: {}", this.tiebreakers);
+    }
+
+    public boolean isLoaded(Long competitionId, Long seasonId) {
+        return tables.containsKey(key(competitionId, seasonId));
+    }
+
+    /**
+     * Replaces the table with the given baseline. The provider's table may lag behind the stored
+     * results, so each team's earliest finished matches up to its provider {@code played} count
+     * are recorded as already counted for that team, and the rest are added to it on top. A match
+     * can be counted for one side and not yet for the other.
+     *
+     * @return the number of finished matches the provider table had not counted for both sides
+     */
+    public int load(Long competitionId, Long seasonId, List<Standing> standings, List<Match> finishedMatches) {
+        StandingsTable table = new StandingsTable(tiebreakers);
+        Map<Long, Integer> counted = new HashMap<>();
+        for (Standing standing : standings) {
+            table.seedRow(
+                    standing.getTeam().getId(),
+                    valueOf(standing.getPlayedGames()),
+                    valueOf(standing.getWon()),
+                    valueOf(standing.getDraw()),
+                    valueOf(standing.getLost()),
+                    valueOf(standing.getGoalsFor()),
+                    valueOf(standing.getGoalsAgainst()),
+                    valueOf(standing.getPoints()),
+                    standing.getForm());
+            counted.put(standing.getTeam().getId(), valueOf(standing.getPlayedGames()));
+        }
+
+        // Oldest first, so each team's counted matches come before its uncounted ones
+        List<Match> results = finishedMatches.stream()
+                .filter(this::hasResult)
+                .sorted(Comparator.comparing(Match::getMatchDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Match::getId))
+                .toList();
+        Map<Long, Integer> seen = new HashMap<>();
+        int pending = 0;
+        for (Match match : results) {
+            long homeTeamId = match.getHomeTeam().getId();
+            long awayTeamId = match.getAwayTeam().getId();
+            boolean homeCounted = seen.merge(homeTeamId, 1, Integer::sum) <= counted.getOrDefault(homeTeamId, 0);
+            boolean awayCounted = seen.merge(awayTeamId, 1, Integer::sum) <= counted.getOrDefault(awayTeamId, 0);
+            table.seedResult(match.getId(), homeTeamId, awayTeamId, match.getHomeScore(), match.getAwayScore(),
+                    homeCounted, awayCounted);
+            if (!homeCounted || !awayCounted) {
+                pending++;
+            }
+        }
+        table.rank();
+
+        tables.put(key(competitionId, seasonId), table);
+        log.info("Loaded standings table for competition {} season {} with {} teams, {} counted and {} pending results",
+                competitionId, seasonId, table.size(), results.size() - pending, pending);
+        return pending;
+    }
+
+    /**
+     * Applies a final result to its table.
+     *
+     * @return true when the table changed
+     */
+    public boolean apply(MatchResultEvent result) {
+        if (result.matchId() == null || result.competitionId() == null || result.seasonId() == null) {
+            return false;
+        }
+
+        StandingsTable table = tables.get(key(result.competitionId(), result.seasonId()));
+        if (table == null) {
+            log.warn("Standings table not loaded for competition {} season {}",
+                    result.competitionId(), result.seasonId());
+            return false;
+        }
+
+        synchronized (table) {
+            boolean changed = table.applyResult(result.matchId(), result.homeTeamId(), result.awayTeamId(),
+                    result.homeScore(), result.awayScore(), true);
+            if (changed) {
+                log.debug("Applied result of match {} ({}-{}) to standings",
+                        result.matchId(), result.homeScore(), result.awayScore());
+            }
+            return changed;
+        }
+    }
+
+    public List<StandingsTable.Row> rows(Long competitionId, Long seasonId) {
+        StandingsTable table = tables.get(key(competitionId, seasonId));
+        if (table == null) {
+            return List.of();
+        }
+        synchronized (table) {
+            return table.rows();
+        }
+    }
+
+    public Optional<StandingsTable> copyOf(Long competitionId, Long seasonId) {
+        StandingsTable table = tables.get(key(competitionId, seasonId));
+        if (table == null) {
+            return Optional.empty();
+        }
+        synchronized (table) {
+            return Optional.of(table.copy());
+        }
+    }
+
+    /**
+     * Whether the table is loaded and still counts what the stored rows count, so a result can be
+     * applied on top of it. Positions are left out, since the provider may order ties differently.
+     */
+    public boolean isCurrent(Long competitionId, Long seasonId, List<Standing> stored) {
+        StandingsTable table = tables.get(key(competitionId, seasonId));
+        if (table == null) {
+            return false;
+        }
+
+        synchronized (table) {
+            for (Standing standing : stored) {
+                StandingsTable.Row row = table.rowForTeam(standing.getTeam().getId());
+                if (row == null
+                        || row.played() != valueOf(standing.getPlayedGames())
+                        || row.points() != valueOf(standing.getPoints())
+                        || row.goalsFor() != valueOf(standing.getGoalsFor())
+                        || row.goalsAgainst() != valueOf(standing.getGoalsAgainst())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the provider rows that disagree with the locally maintained table.
+     */
+    public int drift(Long competitionId, Long seasonId, List<Standing> providerStandings) {
+        StandingsTable table = tables.get(key(competitionId, seasonId));
+        if (table == null) {
+            return 0;
+        }
+
+        int drifted = 0;
+        synchronized (table) {
+            for (Standing standing : providerStandings) {
+                StandingsTable.Row row = table.rowForTeam(standing.getTeam().getId());
+                if (row == null
+                        || row.points() != valueOf(standing.getPoints())
+                        || row.played() != valueOf(standing.getPlayedGames())
+                        || row.goalDifference() != valueOf(standing.getGoalDifference())
+                        || !Objects.equals(row.position(), standing.getPosition())) {
+                    drifted++;
+                }
+            }
+        }
+        return drifted;
+    }
+
+    private boolean hasResult(Match match) {
+        return match.getId() != null && match.getHomeScore() != null && match.getAwayScore() != null;
+    }
+
+    private int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private String key(Long competitionId, Long seasonId) {
+        return competitionId + "_" + seasonId;
+    }
+}
@@ -0,0 +1,228 @@
+package com.reddevil.reddevilanalytics_backend.standings;
+
+import com.reddevil.reddevilanalytics_backend.cache.CachedResponse;
+import com.reddevil.reddevilanalytics_backend.cache.ResponseCache;
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.domain.MatchStatus;
+import com.reddevil.reddevilanalytics_backend.domain.Team;
+import com.reddevil.reddevilanalytics_backend.domain.TeamAsset;
+import com.reddevil.reddevilanalytics_backend.dto.StandingItem;
+import com.reddevil.reddevilanalytics_backend.dto.StandingsProjectionResponse;
+import com.reddevil.reddevilanalytics_backend.event.StandingsProjectionChangedEvent;
+import com.reddevil.reddevilanalytics_backend.repository.TeamRepository;
+import com.reddevil.reddevilanalytics_backend.service.AssetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Provisional "as it stands" tables: a copy of the engine table with the current scores of
+ * live matches applied on top. Each score change touches only the two teams involved and the
+ * rendered table is kept until the next change, so reads never recompute it.
+ *
+ * <p>The node polling live scores keeps the table; the rendered snapshot goes into the shared
+ * {@link ResponseCache}, so every node serves the same one under the same data version, and
+ * each change is announced on {@link #PROJECTION_CHANNEL} for the SSE clients of every node.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StandingsProjectionService {
+
+    public static final String PROJECTION_CHANNEL = "standings-projection:changed";
+
+    private final StandingsEngine standingsEngine;
+    private final TeamRepository teamRepository;
+    private final AssetService assetService;
+    private final ResponseCache responseCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, Projection> projections = new ConcurrentHashMap<>();
+
+    private static final class Projection {
+        private final Long competitionId;
+        private final Long seasonId;
+        // Not a monitor: publishing reads the database and Redis, which would pin a virtual thread
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, LiveScore> liveScores = new HashMap<>();
+        private StandingsTable table;
+
+        private Projection(Long competitionId, Long seasonId, StandingsTable table) {
+            this.competitionId = competitionId;
+            this.seasonId = seasonId;
+            this.table = table;
+        }
+    }
+
+    private record LiveScore(long homeTeamId, long awayTeamId, int homeGoals, int awayGoals) {}
+
+    /**
+     * The rendered snapshot, whichever node keeps the projection, or empty when no match is live.
+     */
+    public Optional<CachedResponse> getProjection(Long competitionId, Long seasonId) {
+        return responseCache.getIfPresent(ResponseCache.STANDINGS_PROJECTION, key(competitionId, seasonId));
+    }
+
+    /**
+     * Applies the current score of a live match, or drops its provisional result once the match
+     * is no longer live. The engine table for the match must already be loaded.
+     */
+    public void onLiveScore(Match match) {
+        if (match.getId() == null || match.getCompetition() == null || match.getSeason() == null) {
+            return;
+        }
+
+        Long competitionId = match.getCompetition().getId();
+        Long seasonId = match.getSeason().getId();
+        String key = key(competitionId, seasonId);
+
+        if (match.getStatus() != MatchStatus.LIVE || match.getHomeScore() == null || match.getAwayScore() == null) {
+            Projection projection = projections.get(key);
+            if (projection != null) {
+                projection.lock.lock();
+                try {
+                    if (projection.liveScores.remove(match.getId()) != null) {
+                        projection.table.revertResult(match.getId());
+                        publish(projection, key);
+                    }
+                } finally {
+                    projection.lock.unlock();
+                }
+            }
+            return;
+        }
+
+        Projection projection = projections.get(key);
+        if (projection == null) {
+            Optional<StandingsTable> base = standingsEngine.copyOf(competitionId, seasonId);
+            if (base.isEmpty()) {
+                log.warn("No standings table loaded for competition {} season {}, skipping projection",
+                        competitionId, seasonId);
+                return;
+            }
+            projection = projections.computeIfAbsent(key, k -> new Projection(competitionId, seasonId, base.get()));
+        }
+
+        LiveScore score = new LiveScore(match.getHomeTeam().getId(), match.getAwayTeam().getId(),
+                match.getHomeScore(), match.getAwayScore());
+
+        projection.lock.lock();
+        try {
+            if (score.equals(projection.liveScores.get(match.getId()))) {
+                return;
+            }
+            projection.liveScores.put(match.getId(), score);
+            projection.table.applyResult(match.getId(), score.homeTeamId(), score.awayTeamId(),
+                    score.homeGoals(), score.awayGoals(), false);
+            log.debug("Projected live score {}-{} for match {}", score.homeGoals(), score.awayGoals(), match.getId());
+            publish(projection, key);
+        } finally {
+            projection.lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the projection on top of the current engine table after a result was applied to it.
+     * Matches the engine has already counted stop being provisional.
+     */
+    public void rebase(Long competitionId, Long seasonId) {
+        String key = key(competitionId, seasonId);
+        Projection projection = projections.get(key);
+        if (projection == null) {
+            return;
+        }
+
+        Optional<StandingsTable> base = standingsEngine.copyOf(competitionId, seasonId);
+        if (base.isEmpty()) {
+            return;
+        }
+
+        projection.lock.lock();
+        try {
+            StandingsTable table = base.get();
+            projection.liveScores.keySet().removeIf(table::isApplied);
+            projection.liveScores.forEach((matchId, score) -> table.applyResult(matchId,
+                    score.homeTeamId(), score.awayTeamId(), score.homeGoals(), score.awayGoals(), false));
+            projection.table = table;
+            publish(projection, key);
+        } finally {
+            projection.lock.unlock();
+        }
+    }
+
+    private void publish(Projection projection, String key) {
+        List<StandingsTable.Row> rows = projection.table.rows();
+        Map<Long, Team> teams = teamRepository.findAllById(rows.stream().map(StandingsTable.Row::teamId).toList())
+                .stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+
+        Map<Long, TeamAsset> assets = assetService.getTeamAssets(teams.keySet());
+        
+        List<StandingItem> items = new ArrayList<>(rows.size());
+        for (StandingsTable.Row row : rows) {
+            items.add(buildStandingItem(row, teams.get(row.teamId()), assets.get(row.teamId())));
+        }
+
+        StandingsProjectionResponse snapshot = StandingsProjectionResponse.builder()
+                .competitionId(projection.competitionId)
+                .seasonId(projection.seasonId)
+                .standings(items)
+                .liveMatchIds(List.copyOf(projection.liveScores.keySet()))
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        if (projection.liveScores.isEmpty()) {
+            projections.remove(key);
+            responseCache.evict(ResponseCache.STANDINGS_PROJECTION, key);
+        } else {
+            responseCache.put(ResponseCache.STANDINGS_PROJECTION, key, snapshot);
+        }
+        eventPublisher.publishEvent(new StandingsProjectionChangedEvent(projection.competitionId, projection.seasonId));
+        try {
+            redisTemplate.convertAndSend(PROJECTION_CHANNEL, projection.competitionId + "|" + projection.seasonId);
+        } catch (Exception e) {
+            log.warn("Could not announce standings projection {}: {}", key, e.getMessage());
+        }
+    }
+
+    private StandingItem buildStandingItem(StandingsTable.Row row, Team team, TeamAsset asset) {
+        String teamName = team != null ? team.getName() : null;
+        String logoUrl = team != null ? team.getLogoUrl() : null;
+        if (asset != null && asset.getLogoUrl() != null) {
+            logoUrl = asset.getLogoUrl();
+        }
+
+        return StandingItem.builder()
+                .position(row.position())
+                .teamName(teamName)
+                .logo(logoUrl)
+                .played(row.played())
+                .won(row.won())
+                .draw(row.draw())
+                .lost(row.lost())
+                .points(row.points())
+                .goalsFor(row.goalsFor())
+                .goalsAgainst(row.goalsAgainst())
+                .goalDifference(row.goalDifference())
+                .form(row.form())
+                .build();
+    }
+
+    private String key(Long competitionId, Long seasonId) {
+        return competitionId + "_" + seasonId;
+    }
+}
@@ -0,0 +1,406 @@
+package com.reddevil.reddevilanalytics_backend.standings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * League table for one competition/season kept in parallel primitive arrays indexed by slot.
+ * Results are applied as O(1) deltas and the rank order is repaired with an adaptive insertion
+ * pass, which is linear while the table is nearly sorted. Not thread-safe; callers synchronise.
+ */
+public class StandingsTable {
+
+    static final int WIN_POINTS = 3;
+    static final int DRAW_POINTS = 1;
+    static final int FORM_LENGTH = 5;
+
+    private static final int FORM_WIN = 1;
+    private static final int FORM_DRAW = 2;
+    private static final int FORM_LOSS = 3;
+    private static final int FORM_MASK = (1 << (2 * FORM_LENGTH)) - 1;
+    private static final int INITIAL_CAPACITY = 24;
+
+    private final List<TiebreakRule> tiebreakers;
+    private final Map<Long, Integer> slotByTeam = new HashMap<>();
+    private final Map<Long, int[]> appliedResults = new HashMap<>();
+
+    private int size;
+    private long[] teamIds;
+    private int[] played;
+    private int[] won;
+    private int[] drawn;
+    private int[] lost;
+    private int[] goalsFor;
+    private int[] goalsAgainst;
+    private int[] points;
+    private int[] form;
+    private int[] formLength;
+    // FORM_LENGTH match IDs per slot, newest first, lined up with form; 0 where not known
+    private long[] formMatchIds;
+    private int[] order;
+
+    public StandingsTable(List<TiebreakRule> tiebreakers) {
+        this(tiebreakers, INITIAL_CAPACITY);
+    }
+
+    private StandingsTable(List<TiebreakRule> tiebreakers, int capacity) {
+        this.tiebreakers = List.copyOf(tiebreakers);
+        allocate(capacity);
+    }
+
+    public record Row(
+            int position,
+            long teamId,
+            int played,
+            int won,
+            int draw,
+            int lost,
+            int goalsFor,
+            int goalsAgainst,
+            int goalDifference,
+            int points,
+            String form
+    ) {}
+
+    public void seedRow(long teamId, int played, int won, int draw, int lost,
+                        int goalsFor, int goalsAgainst, int points, String form) {
+        int slot = slotFor(teamId);
+        this.played[slot] = played;
+        this.won[slot] = won;
+        this.drawn[slot] = draw;
+        this.lost[slot] = lost;
+        this.goalsFor[slot] = goalsFor;
+        this.goalsAgainst[slot] = goalsAgainst;
+        this.points[slot] = points;
+        this.form[slot] = 0;
+        this.formLength[slot] = 0;
+        Arrays.fill(formMatchIds, slot * FORM_LENGTH, (slot + 1) * FORM_LENGTH, 0);
+        if (form != null) {
+            // Provider form lists the newest result first; push oldest first
+            String[] results = form.split(",");
+            for (int i = results.length - 1; i >= 0; i--) {
+                switch (results[i].trim()) {
+                    case "W" -> pushForm(slot, FORM_WIN, 0);
+                    case "D" -> pushForm(slot, FORM_DRAW, 0);
+                    case "L" -> pushForm(slot, FORM_LOSS, 0);
+                    default -> { }
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a result that is already reflected in the seeded rows so that later corrections
+     * to it can be applied as a delta.
+     */
+    public void markApplied(long matchId, long homeTeamId, long awayTeamId, int homeGoals, int awayGoals) {
+        seedResult(matchId, homeTeamId, awayTeamId, homeGoals, awayGoals, true, true);
+    }
+
+    /**
+     * Records a result the seeded rows may count for one side only, adding it to the side that
+     * has not counted it yet. Either way later corrections apply to both sides as a delta. Results
+     * go in oldest first, so a counted side's newest ones line up with its seeded form. Call
+     * {@link #rank()} once every result is seeded.
+     */
+    public void seedResult(long matchId, long homeTeamId, long awayTeamId, int homeGoals, int awayGoals,
+                           boolean homeCounted, boolean awayCounted) {
+        int home = slotFor(homeTeamId);
+        int away = slotFor(awayTeamId);
+        if (homeCounted) {
+            tagForm(home, matchId);
+        } else {
+            accumulateSide(home, homeGoals, awayGoals, 1);
+            pushForm(home, outcome(homeGoals, awayGoals), matchId);
+        }
+        if (awayCounted) {
+            tagForm(away, matchId);
+        } else {
+            accumulateSide(away, awayGoals, homeGoals, 1);
+            pushForm(away, outcome(awayGoals, homeGoals), matchId);
+        }
+        appliedResults.put(matchId, new int[]{home, away, homeGoals, awayGoals});
+    }
+
+    public boolean isApplied(long matchId) {
+        return appliedResults.containsKey(matchId);
+    }
+
+    /**
+     * Applies a result, replacing any previously applied score for the same match. A corrected
+     * score also replaces the match's entry in each side's form while it is still in it.
+     *
+     * @return false when the exact score was already applied
+     */
+    public boolean applyResult(long matchId, long homeTeamId, long awayTeamId,
+                               int homeGoals, int awayGoals, boolean updateForm) {
+        int[] previous = appliedResults.get(matchId);
+        if (previous != null && previous[2] == homeGoals && previous[3] == awayGoals) {
+            return false;
+        }
+
+        int home = slotFor(homeTeamId);
+        int away = slotFor(awayTeamId);
+        if (previous != null) {
+            accumulate(previous[0], previous[1], previous[2], previous[3], -1);
+        }
+        accumulate(home, away, homeGoals, awayGoals, 1);
+        if (updateForm && previous == null) {
+            pushForm(home, outcome(homeGoals, awayGoals), matchId);
+            pushForm(away, outcome(awayGoals, homeGoals), matchId);
+        } else if (updateForm) {
+            replaceForm(home, matchId, outcome(homeGoals, awayGoals));
+            replaceForm(away, matchId, outcome(awayGoals, homeGoals));
+        }
+
+        appliedResults.put(matchId, new int[]{home, away, homeGoals, awayGoals});
+        rerank();
+        return true;
+    }
+
+    /**
+     * Removes a previously applied result. Form is left untouched.
+     */
+    public boolean revertResult(long matchId) {
+        int[] previous = appliedResults.remove(matchId);
+        if (previous == null) {
+            return false;
+        }
+        accumulate(previous[0], previous[1], previous[2], previous[3], -1);
+        rerank();
+        return true;
+    }
+
+    public List<Row> rows() {
+        List<Row> rows = new ArrayList<>(size);
+        for (int rank = 0; rank < size; rank++) {
+            rows.add(row(order[rank], rank + 1));
+        }
+        return rows;
+    }
+
+    public Row rowForTeam(long teamId) {
+        Integer slot = slotByTeam.get(teamId);
+        if (slot == null) {
+            return null;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            if (order[rank] == slot) {
+                return row(slot, rank + 1);
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public StandingsTable copy() {
+        StandingsTable copy = new StandingsTable(tiebreakers, teamIds.length);
+        copy.size = size;
+        System.arraycopy(teamIds, 0, copy.teamIds, 0, size);
+        System.arraycopy(played, 0, copy.played, 0, size);
+        System.arraycopy(won, 0, copy.won, 0, size);
+        System.arraycopy(drawn, 0, copy.drawn, 0, size);
+        System.arraycopy(lost, 0, copy.lost, 0, size);
+        System.arraycopy(goalsFor, 0, copy.goalsFor, 0, size);
+        System.arraycopy(goalsAgainst, 0, copy.goalsAgainst, 0, size);
+        System.arraycopy(points, 0, copy.points, 0, size);
+        System.arraycopy(form, 0, copy.form, 0, size);
+        System.arraycopy(formLength, 0, copy.formLength, 0, size);
+        System.arraycopy(formMatchIds, 0, copy.formMatchIds, 0, size * FORM_LENGTH);
+        System.arraycopy(order, 0, copy.order, 0, size);
+        copy.slotByTeam.putAll(slotByTeam);
+        appliedResults.forEach((matchId, result) -> copy.appliedResults.put(matchId, result.clone()));
+        return copy;
+    }
+
+    /**
+     * Full re-rank, used after seeding. Incremental updates go through {@link #rerank()}.
+     */
+    public void rank() {
+        Integer[] boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = order[i];
+        }
+        Arrays.sort(boxed, this::compareSlots);
+        for (int i = 0; i < size; i++) {
+            order[i] = boxed[i];
+        }
+    }
+
+    int points(int slot) {
+        return points[slot];
+    }
+
+    int won(int slot) {
+        return won[slot];
+    }
+
+    int goalsFor(int slot) {
+        return goalsFor[slot];
+    }
+
+    int goalsAgainst(int slot) {
+        return goalsAgainst[slot];
+    }
+
+    int goalDifference(int slot) {
+        return goalsFor[slot] - goalsAgainst[slot];
+    }
+
+    private Row row(int slot, int position) {
+        return new Row(
+                position,
+                teamIds[slot],
+                played[slot],
+                won[slot],
+                drawn[slot],
+                lost[slot],
+                goalsFor[slot],
+                goalsAgainst[slot],
+                goalDifference(slot),
+                points[slot],
+                formString(slot)
+        );
+    }
+
+    private void accumulate(int home, int away, int homeGoals, int awayGoals, int sign) {
+        accumulateSide(home, homeGoals, awayGoals, sign);
+        accumulateSide(away, awayGoals, homeGoals, sign);
+    }
+
+    private void accumulateSide(int slot, int scored, int conceded, int sign) {
+        played[slot] += sign;
+        goalsFor[slot] += sign * scored;
+        goalsAgainst[slot] += sign * conceded;
+
+        if (scored > conceded) {
+            won[slot] += sign;
+            points[slot] += sign * WIN_POINTS;
+        } else if (scored < conceded) {
+            lost[slot] += sign;
+        } else {
+            drawn[slot] += sign;
+            points[slot] += sign * DRAW_POINTS;
+        }
+    }
+
+    private void rerank() {
+        for (int i = 1; i < size; i++) {
+            int slot = order[i];
+            int j = i - 1;
+            while (j >= 0 && compareSlots(order[j], slot) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = slot;
+        }
+    }
+
+    private int compareSlots(int a, int b) {
+        for (TiebreakRule rule : tiebreakers) {
+            int result = rule.compare(this, a, b);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(teamIds[a], teamIds[b]);
+    }
+
+    private int slotFor(long teamId) {
+        Integer existing = slotByTeam.get(teamId);
+        if (existing != null) {
+            return existing;
+        }
+        if (size == teamIds.length) {
+            grow(teamIds.length * 2);
+        }
+        int slot = size++;
+        teamIds[slot] = teamId;
+        order[slot] = slot;
+        slotByTeam.put(teamId, slot);
+        return slot;
+    }
+
+    private void pushForm(int slot, int result, long matchId) {
+        form[slot] = ((form[slot] << 2) | result) & FORM_MASK;
+        formLength[slot] = Math.min(formLength[slot] + 1, FORM_LENGTH);
+        tagForm(slot, matchId);
+    }
+
+    // Shifts the match IDs one place older and puts this one at the newest
+    private void tagForm(int slot, long matchId) {
+        int base = slot * FORM_LENGTH;
+        System.arraycopy(formMatchIds, base, formMatchIds, base + 1, FORM_LENGTH - 1);
+        formMatchIds[base] = matchId;
+    }
+
+    private void replaceForm(int slot, long matchId, int result) {
+        int base = slot * FORM_LENGTH;
+        for (int i = 0; i < formLength[slot]; i++) {
+            if (formMatchIds[base + i] == matchId) {
+                form[slot] = (form[slot] & ~(0b11 << (2 * i))) | (result << (2 * i));
+                return;
+            }
+        }
+    }
+
+    // Newest result first, as the provider writes it, e.g. "W,D,L"
+    private String formString(int slot) {
+        int length = formLength[slot];
+        if (length == 0) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(length * 2);
+        for (int i = 0; i < length; i++) {
+            int result = (form[slot] >> (2 * i)) & 0b11;
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(result == FORM_WIN ? 'W' : result == FORM_DRAW ? 'D' : 'L');
+        }
+        return builder.toString();
+    }
+
+    private static int outcome(int goalsFor, int goalsAgainst) {
+        if (goalsFor > goalsAgainst) {
+            return FORM_WIN;
+        }
+        return goalsFor == goalsAgainst ? FORM_DRAW : FORM_LOSS;
+    }
+
+    private void allocate(int capacity) {
+        teamIds = new long[capacity];
+        played = new int[capacity];
+        won = new int[capacity];
+        drawn = new int[capacity];
+        lost = new int[capacity];
+        goalsFor = new int[capacity];
+        goalsAgainst = new int[capacity];
+        points = new int[capacity];
+        form = new int[capacity];
+        formLength = new int[capacity];
+        formMatchIds = new long[capacity * FORM_LENGTH];
+        order = new int[capacity];
+    }
+
+    private void grow(int capacity) {
+        teamIds = Arrays.copyOf(teamIds, capacity);
+        played = Arrays.copyOf(played, capacity);
+        won = Arrays.copyOf(won, capacity);
+        drawn = Arrays.copyOf(drawn, capacity);
+        lost = Arrays.copyOf(lost, capacity);
+        goalsFor = Arrays.copyOf(goalsFor, capacity);
+        goalsAgainst = Arrays.copyOf(goalsAgainst, capacity);
+        points = Arrays.copyOf(points, capacity);
+        form = Arrays.copyOf(form, capacity);
+        formLength = Arrays.copyOf(formLength, capacity);
+        formMatchIds = Arrays.copyOf(formMatchIds, capacity * FORM_LENGTH);
+        order = Arrays.copyOf(order, capacity);
+    }
+}
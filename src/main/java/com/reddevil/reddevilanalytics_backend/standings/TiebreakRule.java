@@ -0,0 +1,39 @@
+package com.reddevil.reddevilanalytics_backend.standings;
+
+public enum TiebreakRule {
+    POINTS {
+        @Override
+        int compare(StandingsTable table, int a, int b) {
+            return Integer.compare(table.points(b), table.points(a));
+        }
+    },
+    GOAL_DIFFERENCE {
+        @Override
+        int compare(StandingsTable table, int a, int b) {
+            return Integer.compare(table.goalDifference(b), table.goalDifference(a));
+        }
+    },
+    GOALS_FOR {
+        @Override
+        int compare(StandingsTable table, int a, int b) {
+            return Integer.compare(table.goalsFor(b), table.goalsFor(a));
+        }
+    },
+    WINS {
+        @Override
+        int compare(StandingsTable table, int a, int b) {
+            return Integer.compare(table.won(b), table.won(a));
+        }
+    },
+    FEWEST_GOALS_AGAINST {
+        @Override
+        int compare(StandingsTable table, int a, int b) {
+            return Integer.compare(table.goalsAgainst(a), table.goalsAgainst(b));
+        }
+    };
+
+    /**
+     * Negative when the team in slot {@code a} ranks above the team in slot {@code b}.
+     */
+    abstract int compare(StandingsTable table, int a, int b);
+}
@@ -0,0 +1,227 @@
+package com.reddevil.reddevilanalytics_backend.stats;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * A team's last few results by kickoff as a fixed-size ring buffer, the newest overwriting the
+ * oldest. Results normally arrive in kickoff order and take the next slot; one that arrives late
+ * is slotted in at its kickoff, so the buffer always holds what a recount in kickoff order would.
+ *
+ * <p>Instances are never modified: each change copies the small arrays, so readers can hold one
+ * without locking while the next result is applied.
+ */
+public final class RecentForm {
+
+    public static final char WIN = 'W';
+    public static final char DRAW = 'D';
+    public static final char LOSS = 'L';
+
+    private final long[] matchIds;
+    private final long[] kickoffs;
+    private final char[] outcomes;
+    private final int next;
+    private final int size;
+
+    private RecentForm(long[] matchIds, long[] kickoffs, char[] outcomes, int next, int size) {
+        this.matchIds = matchIds;
+        this.kickoffs = kickoffs;
+        this.outcomes = outcomes;
+        this.next = next;
+        this.size = size;
+    }
+
+    public static RecentForm empty(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("Form length must be positive: " + length);
+        }
+        return new RecentForm(new long[length], new long[length], new char[length], 0, 0);
+    }
+
+    public static char outcome(int scored, int conceded) {
+        if (scored > conceded) {
+            return WIN;
+        }
+        return scored == conceded ? DRAW : LOSS;
+    }
+
+    /**
+     * Ordering value of a kickoff for {@link #record}; a match without a date sorts first.
+     */
+    public static long kickoff(LocalDateTime matchDate) {
+        return matchDate != null ? matchDate.toEpochSecond(ZoneOffset.UTC) : 0;
+    }
+
+    /**
+     * Adds a result at its place by kickoff, then match id, dropping the oldest once the buffer is
+     * full. A result older than everything in a full buffer leaves it as it is.
+     *
+     * @param kickoff any value that orders matches by kickoff, such as epoch seconds
+     */
+    public RecentForm record(long matchId, long kickoff, char outcome) {
+        int capacity = matchIds.length;
+        if (size == 0 || !before(matchId, kickoff, size - 1)) {
+            return append(matchId, kickoff, outcome);
+        }
+        if (size == capacity && before(matchId, kickoff, 0)) {
+            return this;
+        }
+
+        // Late result: lay the entries out again from slot 0 with it in place
+        long[] ids = new long[capacity];
+        long[] times = new long[capacity];
+        char[] results = new char[capacity];
+        int skip = size == capacity ? 1 : 0;
+        int count = 0;
+        boolean placed = false;
+        for (int i = skip; i < size; i++) {
+            int slot = slot(i);
+            if (!placed && before(matchId, kickoff, i)) {
+                ids[count] = matchId;
+                times[count] = kickoff;
+                results[count++] = outcome;
+                placed = true;
+            }
+            ids[count] = matchIds[slot];
+            times[count] = kickoffs[slot];
+            results[count++] = outcomes[slot];
+        }
+        return new RecentForm(ids, times, results, count % capacity, count);
+    }
+
+    // Takes the next slot, overwriting the oldest result once the buffer is full
+    private RecentForm append(long matchId, long kickoff, char outcome) {
+        int capacity = matchIds.length;
+        long[] ids = matchIds.clone();
+        long[] times = kickoffs.clone();
+        char[] results = outcomes.clone();
+        ids[next] = matchId;
+        times[next] = kickoff;
+        results[next] = outcome;
+        return new RecentForm(ids, times, results, (next + 1) % capacity, Math.min(size + 1, capacity));
+    }
+
+    /**
+     * Changes the outcome of a result still in the buffer, keeping its place; one that has
+     * already dropped out leaves the form as it is.
+     */
+    public RecentForm replace(long matchId, char outcome) {
+        int slot = slotOf(matchId);
+        if (slot < 0 || outcomes[slot] == outcome) {
+            return this;
+        }
+        char[] results = outcomes.clone();
+        results[slot] = outcome;
+        return new RecentForm(matchIds, kickoffs, results, next, size);
+    }
+
+    /**
+     * Takes a result out. A result that had already dropped out to make room does not come back,
+     * so the form is one short until the next result or a rebuild.
+     */
+    public RecentForm remove(long matchId) {
+        if (slotOf(matchId) < 0) {
+            return this;
+        }
+        int capacity = matchIds.length;
+        long[] ids = new long[capacity];
+        long[] times = new long[capacity];
+        char[] results = new char[capacity];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int slot = slot(i);
+            if (matchIds[slot] != matchId) {
+                ids[count] = matchIds[slot];
+                times[count] = kickoffs[slot];
+                results[count++] = outcomes[slot];
+            }
+        }
+        return new RecentForm(ids, times, results, count % capacity, count);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Outcomes oldest first, e.g. {@code WWDLW}; {@code null} before the first result.
+     */
+    public String form() {
+        if (size == 0) {
+            return null;
+        }
+        char[] form = new char[size];
+        for (int i = 0; i < size; i++) {
+            form[i] = outcomes[slot(i)];
+        }
+        return new String(form);
+    }
+
+    /**
+     * Stored form of the buffer: {@code matchId:kickoff:outcome} entries oldest first, comma
+     * separated.
+     */
+    public String encode() {
+        if (size == 0) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(size * 24);
+        for (int i = 0; i < size; i++) {
+            int slot = slot(i);
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(matchIds[slot]).append(':').append(kickoffs[slot]).append(':').append(outcomes[slot]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reads back {@link #encode()}. A buffer stored with a longer length keeps its newest results,
+     * and entries stored without a kickoff ({@code matchId:outcome}) keep their stored order.
+     */
+    public static RecentForm decode(String encoded, int length) {
+        RecentForm form = empty(length);
+        if (encoded == null || encoded.isBlank()) {
+            return form;
+        }
+        for (String entry : encoded.split(",")) {
+            String[] parts = entry.trim().split(":");
+            String outcome = parts[parts.length - 1];
+            if (parts.length < 2 || parts.length > 3 || outcome.length() != 1) {
+                throw new IllegalArgumentException("Malformed recent result: " + entry);
+            }
+            long matchId = Long.parseLong(parts[0]);
+            form = parts.length == 3
+                    ? form.record(matchId, Long.parseLong(parts[1]), outcome.charAt(0))
+                    : form.append(matchId, form.size == 0 ? 0 : form.kickoffs[form.slot(form.size - 1)], outcome.charAt(0));
+        }
+        return form;
+    }
+
+    // Whether a result goes before the i-th one counting from the oldest
+    private boolean before(long matchId, long kickoff, int i) {
+        int slot = slot(i);
+        return kickoff < kickoffs[slot] || (kickoff == kickoffs[slot] && matchId < matchIds[slot]);
+    }
+
+    // Buffer slot of the i-th result counting from the oldest
+    private int slot(int i) {
+        return Math.floorMod(next - size + i, matchIds.length);
+    }
+
+    private int slotOf(long matchId) {
+        for (int i = 0; i < size; i++) {
+            int slot = slot(i);
+            if (matchIds[slot] == matchId) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "RecentForm[" + (size == 0 ? "" : form()) + "]";
+    }
+}
@@ -0,0 +1,73 @@
+package com.reddevil.reddevilanalytics_backend.stats;
+
+/**
+ * One team's results in one season, split by venue, with its recent form. Applying a result
+ * returns a new instance, so a reader never sees totals and form out of step.
+ */
+public record TeamSeasonStats(
+    long seasonId,
+    long teamId,
+    VenueRecord home,
+    VenueRecord away,
+    RecentForm form
+) {
+
+    public static TeamSeasonStats empty(long seasonId, long teamId, int formLength) {
+        return new TeamSeasonStats(seasonId, teamId, VenueRecord.EMPTY, VenueRecord.EMPTY, RecentForm.empty(formLength));
+    }
+
+    /**
+     * @param kickoff orders the result in the form, see {@link RecentForm#record}
+     */
+    public TeamSeasonStats withResult(long matchId, long kickoff, boolean atHome, int scored, int conceded) {
+        return new TeamSeasonStats(seasonId, teamId,
+                atHome ? home.plus(scored, conceded) : home,
+                atHome ? away : away.plus(scored, conceded),
+                form.record(matchId, kickoff, RecentForm.outcome(scored, conceded)));
+    }
+
+    /**
+     * Takes a counted result back out, as when its match turns out to belong to another season.
+     */
+    public TeamSeasonStats withoutResult(long matchId, boolean atHome, int scored, int conceded) {
+        return new TeamSeasonStats(seasonId, teamId,
+                atHome ? home.minus(scored, conceded) : home,
+                atHome ? away : away.minus(scored, conceded),
+                form.remove(matchId));
+    }
+
+    /**
+     * Swaps a counted result's old score for its new one.
+     */
+    public TeamSeasonStats withCorrection(long matchId, boolean atHome, int oldScored, int oldConceded,
+                                          int scored, int conceded) {
+        return new TeamSeasonStats(seasonId, teamId,
+                atHome ? home.minus(oldScored, oldConceded).plus(scored, conceded) : home,
+                atHome ? away : away.minus(oldScored, oldConceded).plus(scored, conceded),
+                form.replace(matchId, RecentForm.outcome(scored, conceded)));
+    }
+
+    public int played() {
+        return home.played() + away.played();
+    }
+
+    public int won() {
+        return home.won() + away.won();
+    }
+
+    public int drawn() {
+        return home.drawn() + away.drawn();
+    }
+
+    public int lost() {
+        return home.lost() + away.lost();
+    }
+
+    public int goalsFor() {
+        return home.goalsFor() + away.goalsFor();
+    }
+
+    public int goalsAgainst() {
+        return home.goalsAgainst() + away.goalsAgainst();
+    }
+}
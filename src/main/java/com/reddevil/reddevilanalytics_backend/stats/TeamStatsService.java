@@ -0,0 +1,318 @@
+package com.reddevil.reddevilanalytics_backend.stats;
+
+import com.reddevil.reddevilanalytics_backend.event.MatchResultEvent;
+import com.reddevil.reddevilanalytics_backend.event.TeamStatsChangedEvent;
+import com.reddevil.reddevilanalytics_backend.repository.CountedResult;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.repository.MatchResult;
+import com.reddevil.reddevilanalytics_backend.repository.TeamSeasonStatsStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Season statistics of every team. {@code team_season_stats} is the source of truth: each result
+ * updates the rows of the two teams it involves under a row lock, so reading a team's record,
+ * venue splits or form is never an aggregate over the matches table and results handled on
+ * different nodes never overwrite each other; only {@link #rebuild()} reads the history.
+ *
+ * <p>{@link #get} and {@link #find} read an in-memory copy that follows {@link #STATS_CHANNEL}
+ * and a periodic reload. Responses that end up in the shared cache are built from {@link #load}
+ * instead, so one node's stale copy is never written back for every node to serve.
+ */
+@Slf4j
+@Service
+public class TeamStatsService {
+
+    public static final String STATS_CHANNEL = "team-stats:changed";
+
+    private static final String ALL = "*";
+
+    private record Key(long seasonId, long teamId) {}
+
+    private final MatchRepository matchRepository;
+    private final TeamSeasonStatsStore statsStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate resultTransaction;
+    private final TransactionTemplate rebuildTransaction;
+    private final int formLength;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Map<Key, TeamSeasonStats> stats = new ConcurrentHashMap<>();
+
+    public TeamStatsService(
+            MatchRepository matchRepository,
+            TeamSeasonStatsStore statsStore,
+            ApplicationEventPublisher eventPublisher,
+            StringRedisTemplate redisTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.stats.form-length:5}") int formLength) {
+        if (formLength < 1) {
+            throw new IllegalArgumentException("app.stats.form-length must be positive: " + formLength);
+        }
+        this.matchRepository = matchRepository;
+        this.statsStore = statsStore;
+        this.eventPublisher = eventPublisher;
+        this.redisTemplate = redisTemplate;
+        // Results also arrive from live merges, which run inside read-only transactions
+        this.resultTransaction = new TransactionTemplate(transactionManager);
+        this.resultTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.formLength = formLength;
+        log.info("TeamStatsService initialized - form length: {}", formLength);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.reload-interval:300000}", initialDelayString = "${app.stats.reload-interval:300000}")
+    public void reload() {
+        try {
+            Map<Key, TeamSeasonStats> loaded = new ConcurrentHashMap<>();
+            for (TeamSeasonStats teamStats : statsStore.findAll(formLength)) {
+                loaded.put(key(teamStats), teamStats);
+            }
+            stats = loaded;
+            log.debug("Loaded season statistics of {} teams", loaded.size());
+        } catch (Exception e) {
+            log.warn("Could not load team season statistics: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * A team's statistics for a season; all zero before its first result, or without a season.
+     */
+    public TeamSeasonStats get(Long seasonId, Long teamId) {
+        if (seasonId == null) {
+            return TeamSeasonStats.empty(0, teamId, formLength);
+        }
+        return current(seasonId, teamId);
+    }
+
+    public Optional<TeamSeasonStats> find(Long seasonId, Long teamId) {
+        if (seasonId == null || teamId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(stats.get(new Key(seasonId, teamId)));
+    }
+
+    /**
+     * The teams' statistics for a season as stored, by team id, for responses that are cached for
+     * every node. Teams without a result yet are left out. Falls back to the in-memory copy when
+     * the table cannot be read.
+     */
+    public Map<Long, TeamSeasonStats> load(Long seasonId, Collection<Long> teamIds) {
+        if (seasonId == null || teamIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, TeamSeasonStats> loaded = new HashMap<>();
+        try {
+            for (TeamSeasonStats teamStats : statsStore.findAll(seasonId, teamIds, formLength)) {
+                stats.put(key(teamStats), teamStats);
+                loaded.put(teamStats.teamId(), teamStats);
+            }
+        } catch (Exception e) {
+            log.warn("Could not load season {} statistics, using the local copy: {}", seasonId, e.getMessage());
+            teamIds.forEach(teamId -> find(seasonId, teamId).ifPresent(teamStats -> loaded.put(teamId, teamStats)));
+        }
+        return loaded;
+    }
+
+    /**
+     * Counted after the match write commits, since a counted result row would otherwise outlive a
+     * rolled-back write and block the real result when it comes again.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchResult(MatchResultEvent event) {
+        if (event.seasonId() == null) {
+            return;
+        }
+
+        List<TeamSeasonStats> updated = resultTransaction.execute(status -> apply(event));
+        if (updated == null || updated.isEmpty()) {
+            return;
+        }
+        updated.forEach(teamStats -> stats.put(key(teamStats), teamStats));
+        updated.forEach(teamStats -> eventPublisher.publishEvent(
+                new TeamStatsChangedEvent(teamStats.seasonId(), teamStats.teamId())));
+        publish(updated.stream()
+                .map(teamStats -> teamStats.seasonId() + ":" + teamStats.teamId())
+                .collect(Collectors.joining(",")));
+    }
+
+    /**
+     * Runs with the two teams' rows locked in the result's season and, when the match was
+     * counted in another one before, in that season too.
+     *
+     * @return the changed statistics, or none when the result was already counted as it is
+     */
+    private List<TeamSeasonStats> apply(MatchResultEvent event) {
+        Set<Long> seasonIds = new HashSet<>();
+        seasonIds.add(event.seasonId());
+        statsStore.findResult(event.matchId()).ifPresent(result -> seasonIds.add(result.seasonId()));
+
+        Map<Key, TeamSeasonStats> locked = new HashMap<>();
+        Optional<CountedResult> previous;
+        do {
+            statsStore.lockStats(seasonIds, event.homeTeamId(), event.awayTeamId(), formLength)
+                    .forEach(teamStats -> locked.put(key(teamStats), teamStats));
+            // Read again under the lock: the result may have been counted meanwhile
+            previous = statsStore.findResult(event.matchId());
+        } while (previous.isPresent() && seasonIds.add(previous.get().seasonId()));
+
+        if (previous.isPresent() && previous.get().seasonId().equals(event.seasonId())
+                && previous.get().homeScore() == event.homeScore() && previous.get().awayScore() == event.awayScore()) {
+            return List.of();
+        }
+
+        List<TeamSeasonStats> updated = new ArrayList<>(4);
+        if (previous.isPresent() && previous.get().seasonId().equals(event.seasonId())) {
+            int oldHome = previous.get().homeScore();
+            int oldAway = previous.get().awayScore();
+            updated.add(locked(locked, event.seasonId(), event.homeTeamId())
+                    .withCorrection(event.matchId(), true, oldHome, oldAway, event.homeScore(), event.awayScore()));
+            updated.add(locked(locked, event.seasonId(), event.awayTeamId())
+                    .withCorrection(event.matchId(), false, oldAway, oldHome, event.awayScore(), event.homeScore()));
+        } else {
+            if (previous.isPresent()) {
+                // Counted in another season before: take it out of that one
+                CountedResult old = previous.get();
+                updated.add(locked(locked, old.seasonId(), event.homeTeamId())
+                        .withoutResult(event.matchId(), true, old.homeScore(), old.awayScore()));
+                updated.add(locked(locked, old.seasonId(), event.awayTeamId())
+                        .withoutResult(event.matchId(), false, old.awayScore(), old.homeScore()));
+            }
+            long kickoff = RecentForm.kickoff(event.matchDate());
+            updated.add(locked(locked, event.seasonId(), event.homeTeamId())
+                    .withResult(event.matchId(), kickoff, true, event.homeScore(), event.awayScore()));
+            updated.add(locked(locked, event.seasonId(), event.awayTeamId())
+                    .withResult(event.matchId(), kickoff, false, event.awayScore(), event.homeScore()));
+        }
+
+        statsStore.saveResult(updated, new CountedResult(event.matchId(), event.seasonId(),
+                event.homeScore(), event.awayScore()));
+        log.debug("Counted match {} in season {} statistics: {}-{}", event.matchId(), event.seasonId(),
+                event.homeScore(), event.awayScore());
+        return updated;
+    }
+
+    /**
+     * Recounts every team's statistics from the stored results in kickoff order, replacing the
+     * table and the in-memory statistics. Other statistics writes wait until it commits, and
+     * other nodes reload once it has.
+     *
+     * @return number of results counted
+     */
+    public int rebuild() {
+        Map<Key, TeamSeasonStats> rebuilt = new HashMap<>();
+        Integer counted = rebuildTransaction.execute(status -> rebuildAll(rebuilt));
+        rebuilt.keySet().forEach(key -> eventPublisher.publishEvent(new TeamStatsChangedEvent(key.seasonId(), key.teamId())));
+        publish(ALL);
+        return counted != null ? counted : 0;
+    }
+
+    private int rebuildAll(Map<Key, TeamSeasonStats> rebuilt) {
+        statsStore.lockAll();
+        List<CountedResult> results = new ArrayList<>();
+
+        try (Stream<MatchResult> stored = matchRepository.streamAllResults()) {
+            stored.filter(result -> result.seasonId() != null).forEach(result -> {
+                Key homeKey = new Key(result.seasonId(), result.homeTeamId());
+                Key awayKey = new Key(result.seasonId(), result.awayTeamId());
+                TeamSeasonStats home = rebuilt.getOrDefault(homeKey,
+                        TeamSeasonStats.empty(result.seasonId(), result.homeTeamId(), formLength));
+                TeamSeasonStats away = rebuilt.getOrDefault(awayKey,
+                        TeamSeasonStats.empty(result.seasonId(), result.awayTeamId(), formLength));
+
+                long kickoff = RecentForm.kickoff(result.matchDate());
+                rebuilt.put(homeKey, home.withResult(result.matchId(), kickoff, true, result.homeScore(), result.awayScore()));
+                rebuilt.put(awayKey, away.withResult(result.matchId(), kickoff, false, result.awayScore(), result.homeScore()));
+                results.add(new CountedResult(result.matchId(), result.seasonId(),
+                        result.homeScore(), result.awayScore()));
+            });
+        }
+
+        statsStore.replaceAll(rebuilt.values(), results);
+        stats = new ConcurrentHashMap<>(rebuilt);
+        log.info("Rebuilt season statistics of {} teams from {} results", rebuilt.size(), results.size());
+        return results.size();
+    }
+
+    /**
+     * Handles a message from {@link #STATS_CHANNEL}, ignoring the ones this node sent.
+     */
+    public void onStatsMessage(String message) {
+        String[] parts = message.split("\\|", 2);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        if (ALL.equals(parts[1])) {
+            reload();
+            return;
+        }
+        try {
+            Map<Long, Set<Long>> teamsBySeason = new HashMap<>();
+            for (String entry : parts[1].split(",")) {
+                String[] ids = entry.split(":", 2);
+                if (ids.length != 2) {
+                    throw new NumberFormatException("expected season:team");
+                }
+                teamsBySeason.computeIfAbsent(Long.parseLong(ids[0]), seasonId -> new HashSet<>())
+                        .add(Long.parseLong(ids[1]));
+            }
+            teamsBySeason.forEach((seasonId, teamIds) -> statsStore.findAll(seasonId, teamIds, formLength)
+                    .forEach(teamStats -> stats.put(key(teamStats), teamStats)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed team statistics message: {}", message);
+        } catch (Exception e) {
+            log.warn("Could not reload team statistics for message {}: {}", message, e.getMessage());
+        }
+    }
+
+    private void publish(String change) {
+        try {
+            redisTemplate.convertAndSend(STATS_CHANNEL, nodeId + "|" + change);
+        } catch (Exception e) {
+            log.warn("Could not publish team statistics change {}: {}", change, e.getMessage());
+        }
+    }
+
+    private TeamSeasonStats locked(Map<Key, TeamSeasonStats> locked, Long seasonId, Long teamId) {
+        TeamSeasonStats teamStats = locked.get(new Key(seasonId, teamId));
+        return teamStats != null ? teamStats : TeamSeasonStats.empty(seasonId, teamId, formLength);
+    }
+
+    private TeamSeasonStats current(Long seasonId, Long teamId) {
+        TeamSeasonStats teamStats = stats.get(new Key(seasonId, teamId));
+        return teamStats != null ? teamStats : TeamSeasonStats.empty(seasonId, teamId, formLength);
+    }
+
+    private static Key key(TeamSeasonStats teamStats) {
+        return new Key(teamStats.seasonId(), teamStats.teamId());
+    }
+}
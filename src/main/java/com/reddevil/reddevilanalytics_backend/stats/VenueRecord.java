@@ -0,0 +1,31 @@
+package com.reddevil.reddevilanalytics_backend.stats;
+
+/**
+ * A team's results at one venue, home or away.
+ */
+public record VenueRecord(int won, int drawn, int lost, int goalsFor, int goalsAgainst) {
+
+    public static final VenueRecord EMPTY = new VenueRecord(0, 0, 0, 0, 0);
+
+    public int played() {
+        return won + drawn + lost;
+    }
+
+    public VenueRecord plus(int scored, int conceded) {
+        return new VenueRecord(
+                won + (scored > conceded ? 1 : 0),
+                drawn + (scored == conceded ? 1 : 0),
+                lost + (scored < conceded ? 1 : 0),
+                goalsFor + scored,
+                goalsAgainst + conceded);
+    }
+
+    public VenueRecord minus(int scored, int conceded) {
+        return new VenueRecord(
+                won - (scored > conceded ? 1 : 0),
+                drawn - (scored == conceded ? 1 : 0),
+                lost - (scored < conceded ? 1 : 0),
+                goalsFor - scored,
+                goalsAgainst - conceded);
+    }
+}
@@ -0,0 +1,3 @@
+-- Next-match lookups per team seek on (team, kickoff) instead of scanning by date
+CREATE INDEX IF NOT EXISTS idx_matches_home_team_date ON matches(home_team_id, match_date);
+CREATE INDEX IF NOT EXISTS idx_matches_away_team_date ON matches(away_team_id, match_date);
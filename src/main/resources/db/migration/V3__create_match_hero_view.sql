@@ -0,0 +1,24 @@
+-- Denormalized match hero read model, one row per match
+CREATE TABLE match_hero_view (
+    match_id BIGINT PRIMARY KEY REFERENCES matches(id) ON DELETE CASCADE,
+    match_date TIMESTAMP NOT NULL,
+    venue VARCHAR(255),
+    status VARCHAR(50),
+    home_score INTEGER,
+    away_score INTEGER,
+    competition_name VARCHAR(255),
+    home_team_id BIGINT NOT NULL,
+    home_team_name VARCHAR(255),
+    home_team_logo VARCHAR(500),
+    away_team_id BIGINT NOT NULL,
+    away_team_name VARCHAR(255),
+    away_team_logo VARCHAR(500),
+    home_win_probability DECIMAL(5,2),
+    draw_probability DECIMAL(5,2),
+    away_win_probability DECIMAL(5,2),
+    confidence_score DECIMAL(5,2),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_match_hero_view_home_team ON match_hero_view(home_team_id);
+CREATE INDEX idx_match_hero_view_away_team ON match_hero_view(away_team_id);
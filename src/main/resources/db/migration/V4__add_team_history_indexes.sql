@@ -0,0 +1,8 @@
+-- Keyset pagination of a team's matches seeks on (team, kickoff, id); the id column breaks
+-- ties between matches kicking off at the same time. These supersede the V2 indexes, which
+-- next-match lookups can use as a prefix.
+CREATE INDEX IF NOT EXISTS idx_matches_home_team_date_id ON matches(home_team_id, match_date, id);
+CREATE INDEX IF NOT EXISTS idx_matches_away_team_date_id ON matches(away_team_id, match_date, id);
+
+DROP INDEX IF EXISTS idx_matches_home_team_date;
+DROP INDEX IF EXISTS idx_matches_away_team_date;
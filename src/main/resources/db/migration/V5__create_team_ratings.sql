@@ -0,0 +1,18 @@
+-- Elo rating of each team within a competition, kept current as results land
+CREATE TABLE team_ratings (
+    competition_id BIGINT NOT NULL REFERENCES competitions(id) ON DELETE CASCADE,
+    team_id BIGINT NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    rating DOUBLE PRECISION NOT NULL,
+    matches_played INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (competition_id, team_id)
+);
+
+-- Rating change each counted result applied, so a corrected score can be reverted exactly
+CREATE TABLE match_rating_changes (
+    match_id BIGINT PRIMARY KEY REFERENCES matches(id) ON DELETE CASCADE,
+    competition_id BIGINT NOT NULL,
+    home_score INTEGER NOT NULL,
+    away_score INTEGER NOT NULL,
+    home_delta DOUBLE PRECISION NOT NULL
+);
@@ -0,0 +1,34 @@
+-- Season totals of each team split by venue, kept current as results land
+CREATE TABLE team_season_stats (
+    season_id BIGINT NOT NULL REFERENCES seasons(id) ON DELETE CASCADE,
+    team_id BIGINT NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    home_won INTEGER NOT NULL DEFAULT 0,
+    home_drawn INTEGER NOT NULL DEFAULT 0,
+    home_lost INTEGER NOT NULL DEFAULT 0,
+    home_goals_for INTEGER NOT NULL DEFAULT 0,
+    home_goals_against INTEGER NOT NULL DEFAULT 0,
+    away_won INTEGER NOT NULL DEFAULT 0,
+    away_drawn INTEGER NOT NULL DEFAULT 0,
+    away_lost INTEGER NOT NULL DEFAULT 0,
+    away_goals_for INTEGER NOT NULL DEFAULT 0,
+    away_goals_against INTEGER NOT NULL DEFAULT 0,
+    recent_results TEXT, -- last results oldest first, as match_id:outcome pairs
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (season_id, team_id)
+);
+
+-- Score each counted result was added with, so a corrected score can be taken back out
+CREATE TABLE match_stat_results (
+    match_id BIGINT PRIMARY KEY REFERENCES matches(id) ON DELETE CASCADE,
+    season_id BIGINT NOT NULL,
+    home_score INTEGER NOT NULL,
+    away_score INTEGER NOT NULL
+);
+
+-- Hero responses look team stats up by season
+ALTER TABLE match_hero_view ADD COLUMN season_id BIGINT;
+
+UPDATE match_hero_view v
+SET season_id = m.season_id
+FROM matches m
+WHERE m.id = v.match_id;
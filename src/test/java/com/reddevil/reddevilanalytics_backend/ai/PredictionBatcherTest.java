@@ -0,0 +1,88 @@
+package com.reddevil.reddevilanalytics_backend.ai;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PredictionBatcherTest {
+
+    private static final int MATCHES = 40;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private PredictionBatcher batcher;
+
+    @AfterEach
+    void shutdown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    void keepsBatchingWhileEverySlotIsBusy() {
+        // 20 batches of 2 against a stub that holds each one for 200ms, far more than the 4 in flight
+        batcher = new PredictionBatcher(stub(Duration.ofMillis(200), 0), 2, Duration.ofMillis(5));
+
+        List<AIPredictionResponse> responses = Flux.range(1, MATCHES)
+                .flatMap(matchId -> batcher.predict(request(matchId)))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertEquals(MATCHES, responses.size());
+        assertTrue(calls.get() < MATCHES, "requests should still be coalesced");
+    }
+
+    @Test
+    void failedBatchDoesNotStopTheNextOnes() {
+        batcher = new PredictionBatcher(stub(Duration.ZERO, 1), 2, Duration.ofMillis(5));
+
+        assertThrows(RuntimeException.class, () -> batcher.predict(request(1)).block(Duration.ofSeconds(5)));
+
+        AIPredictionResponse response = batcher.predict(request(2)).block(Duration.ofSeconds(5));
+        assertEquals(2L, response.matchId());
+    }
+
+    private static AIPredictionRequest request(long matchId) {
+        return new AIPredictionRequest(matchId, null, null, "HOME", null, null);
+    }
+
+    /**
+     * Answers every batch with predictions for all test matches after the given delay; the first
+     * {@code failures} calls get a 500 instead.
+     */
+    private WebClient stub(Duration delay, int failures) {
+        String predictions = LongStream.rangeClosed(1, MATCHES)
+                .mapToObj(matchId -> """
+                        {"matchId":%d,"homeWinProbability":0.5,"drawProbability":0.3,"awayWinProbability":0.2,\
+                        "predictedHomeScore":1.5,"predictedAwayScore":1.0,"confidenceScore":0.7}""".formatted(matchId))
+                .collect(Collectors.joining(",", "{\"predictions\":[", "]}"));
+
+        ExchangeFunction exchange = request -> Mono.delay(delay).map(tick -> {
+            if (calls.incrementAndGet() <= failures) {
+                return ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            }
+            return ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(predictions)
+                    .build();
+        });
+        return WebClient.builder().exchangeFunction(exchange).build();
+    }
+}
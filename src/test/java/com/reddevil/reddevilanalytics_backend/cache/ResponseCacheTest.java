@@ -0,0 +1,93 @@
+package com.reddevil.reddevilanalytics_backend.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResponseCacheTest {
+
+    private static final long NOW = 1_000_000_000L;
+    private static final long TTL = Duration.ofHours(12).toMillis();
+
+    private final ResponseCache responseCache = new ResponseCache(null, null, null, 1.0, 0.1);
+
+    @Test
+    void refreshesFastLoadsInsideTheWindow() {
+        // 30 minutes left of 12 hours, inside the last 72 minutes
+        CachedResponse cached = entry(Duration.ofMinutes(30).toMillis(), 5);
+
+        assertTrue(responseCache.shouldRefreshEarly(cached, NOW, 0.9));
+        assertFalse(responseCache.shouldRefreshEarly(cached, NOW, 0.3));
+    }
+
+    @Test
+    void keepsFreshEntries() {
+        CachedResponse cached = entry(Duration.ofHours(6).toMillis(), 5);
+
+        assertFalse(responseCache.shouldRefreshEarly(cached, NOW, 0.999));
+        assertFalse(responseCache.shouldRefreshEarly(cached, NOW, 0.001));
+    }
+
+    @Test
+    void slowLoadsStartBeforeTheWindow() {
+        // Two hours left, but the body took 40 minutes to build
+        CachedResponse cached = entry(Duration.ofHours(2).toMillis(), (int) Duration.ofMinutes(40).toMillis());
+
+        assertTrue(responseCache.shouldRefreshEarly(cached, NOW, 0.01));
+        assertFalse(responseCache.shouldRefreshEarly(cached, NOW, 0.9));
+    }
+
+    @Test
+    void cachesALoadWhoseVersionHeld() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(ResponseCache.MATCH_HERO);
+        DataVersionRegistry versions = mock(DataVersionRegistry.class);
+        when(versions.storedVersions(List.of("match:1"))).thenReturn(List.of(5L));
+        ResponseCache cache = new ResponseCache(cacheManager, versions, JsonMapper.builder().build(), 1.0, 0.1);
+
+        assertTrue(cache.get(ResponseCache.MATCH_HERO, 1L, "match:1", () -> Optional.of(Map.of("score", "1-0"))).isPresent());
+
+        assertNotNull(cacheManager.getCache(ResponseCache.MATCH_HERO).get(1L));
+    }
+
+    @Test
+    void skipsALoadThatAWriterOvertook() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(ResponseCache.MATCH_HERO);
+        DataVersionRegistry versions = mock(DataVersionRegistry.class);
+        // Read before the load, then bumped by a commit that landed while it ran
+        when(versions.storedVersions(List.of("match:1"))).thenReturn(List.of(5L), List.of(6L));
+        ResponseCache cache = new ResponseCache(cacheManager, versions, JsonMapper.builder().build(), 1.0, 0.1);
+
+        assertTrue(cache.get(ResponseCache.MATCH_HERO, 1L, "match:1", () -> Optional.of(Map.of("score", "0-0"))).isPresent());
+
+        assertNull(cacheManager.getCache(ResponseCache.MATCH_HERO).get(1L));
+    }
+
+    @Test
+    void evictsAPutThatAWriterOvertook() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(ResponseCache.MATCH_HERO);
+        DataVersionRegistry versions = mock(DataVersionRegistry.class);
+        // Unchanged when checked, bumped by the time the entry was in
+        when(versions.storedVersions(List.of("match:1"))).thenReturn(List.of(5L), List.of(5L), List.of(6L));
+        ResponseCache cache = new ResponseCache(cacheManager, versions, JsonMapper.builder().build(), 1.0, 0.1);
+
+        cache.get(ResponseCache.MATCH_HERO, 1L, "match:1", () -> Optional.of(Map.of("score", "0-0")));
+
+        assertNull(cacheManager.getCache(ResponseCache.MATCH_HERO).get(1L));
+    }
+
+    private static CachedResponse entry(long remainingMillis, int loadMillis) {
+        return new CachedResponse(new byte[0], "application/json", null, NOW + remainingMillis, TTL, loadMillis);
+    }
+}
@@ -0,0 +1,97 @@
+package com.reddevil.reddevilanalytics_backend.cache.codec;
+
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.domain.MatchPrediction;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryCacheSerializerTest {
+
+    private final BinaryCacheSerializer serializer = new BinaryCacheSerializer(List.of(new MatchPredictionCodec()));
+
+    @Test
+    void roundTripsAValue() {
+        MatchPrediction prediction = MatchPrediction.builder()
+                .id(7L)
+                .match(Match.builder().id(Long.MIN_VALUE).build())
+                .homeWinProbability(new BigDecimal("0.4512"))
+                .drawProbability(new BigDecimal("0.2700"))
+                .awayWinProbability(null)
+                .predictedHomeScore(new BigDecimal("-1.25"))
+                .predictedAwayScore(BigDecimal.ONE.movePointLeft(127))
+                .confidenceScore(BigDecimal.ZERO)
+                .createdAt(LocalDateTime.of(2025, 8, 16, 15, 0, 0, 1))
+                .build();
+
+        MatchPrediction read = (MatchPrediction) serializer.deserialize(serializer.serialize(prediction));
+
+        assertEquals(7L, read.getId());
+        assertEquals(Long.MIN_VALUE, read.getMatch().getId());
+        assertEquals(prediction.getHomeWinProbability(), read.getHomeWinProbability());
+        assertEquals(prediction.getDrawProbability(), read.getDrawProbability());
+        assertNull(read.getAwayWinProbability());
+        assertEquals(prediction.getPredictedHomeScore(), read.getPredictedHomeScore());
+        assertEquals(prediction.getPredictedAwayScore(), read.getPredictedAwayScore());
+        assertEquals(prediction.getConfidenceScore(), read.getConfidenceScore());
+        assertEquals(prediction.getCreatedAt(), read.getCreatedAt());
+    }
+
+    @Test
+    void roundTripsNulls() {
+        assertNull(serializer.serialize(null));
+        assertNull(serializer.deserialize(null));
+        assertSame(NullValue.INSTANCE, serializer.deserialize(serializer.serialize(NullValue.INSTANCE)));
+
+        MatchPrediction empty = (MatchPrediction) serializer.deserialize(serializer.serialize(MatchPrediction.builder().build()));
+        assertNull(empty.getId());
+        assertNull(empty.getMatch());
+        assertNull(empty.getCreatedAt());
+    }
+
+    @Test
+    void unreadableEntriesAreMisses() {
+        byte[] bytes = serializer.serialize(MatchPrediction.builder().id(1L).build());
+
+        byte[] unknownTag = bytes.clone();
+        unknownTag[1] = 42;
+        byte[] newerVersion = bytes.clone();
+        newerVersion[2] = (byte) (new MatchPredictionCodec().version() + 1);
+
+        assertNull(serializer.deserialize(unknownTag));
+        assertNull(serializer.deserialize(newerVersion));
+        assertNull(serializer.deserialize("{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+        assertNull(serializer.deserialize(new byte[0]));
+    }
+
+    @Test
+    void corruptEntriesFail() {
+        byte[] bytes = serializer.serialize(MatchPrediction.builder().id(1L).createdAt(LocalDateTime.now()).build());
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(Arrays.copyOf(bytes, bytes.length - 2)));
+    }
+
+    @Test
+    void rejectsValuesItCannotEncode() {
+        assertThrows(SerializationException.class, () -> serializer.serialize("no codec"));
+        assertThrows(SerializationException.class, () -> serializer.serialize(
+                MatchPrediction.builder().homeWinProbability(new BigDecimal("92233720368547758080")).build()));
+    }
+
+    @Test
+    void rejectsDuplicateTags() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BinaryCacheSerializer(List.of(new MatchPredictionCodec(), new MatchPredictionCodec())));
+    }
+}
@@ -0,0 +1,114 @@
+package com.reddevil.reddevilanalytics_backend.cache.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryWriterTest {
+
+    @Test
+    void roundTripsLongsAtTheEdges() {
+        long[] values = {0, 1, -1, 63, -64, 64, -65, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+        BinaryWriter out = new BinaryWriter(0);
+        for (long value : values) {
+            out.writeVarLong(value);
+        }
+        out.writeNullableLong(null).writeNullableLong(Long.MIN_VALUE);
+
+        BinaryReader in = reader(out);
+        for (long value : values) {
+            assertEquals(value, in.readVarLong());
+        }
+        assertNull(in.readNullableLong());
+        assertEquals(Long.MIN_VALUE, in.readNullableLong());
+    }
+
+    @Test
+    void smallNegativesStayShort() {
+        assertEquals(1, new BinaryWriter(16).writeVarLong(-1).toByteArray().length);
+        assertEquals(10, new BinaryWriter(16).writeVarLong(Long.MIN_VALUE).toByteArray().length);
+    }
+
+    @Test
+    void roundTripsStrings() {
+        String nonAscii = "Málaga – 東京 ⚽ 🏆";
+        BinaryReader in = reader(new BinaryWriter(16)
+                .writeString(null)
+                .writeString("")
+                .writeString(nonAscii)
+                .writeString("x".repeat(1000)));
+
+        assertNull(in.readString());
+        assertEquals("", in.readString());
+        assertEquals(nonAscii, in.readString());
+        assertEquals("x".repeat(1000), in.readString());
+    }
+
+    @Test
+    void roundTripsDecimals() {
+        BigDecimal largeScale = new BigDecimal("0." + "0".repeat(120) + "1234567");
+        BinaryReader in = reader(new BinaryWriter(16)
+                .writeDecimal(null)
+                .writeDecimal(new BigDecimal("-0.4567"))
+                .writeDecimal(BigDecimal.valueOf(Long.MIN_VALUE, 4))
+                .writeDecimal(largeScale)
+                .writeDecimal(new BigDecimal("1.5E+3")));
+
+        assertNull(in.readDecimal());
+        assertEquals(new BigDecimal("-0.4567"), in.readDecimal());
+        assertEquals(BigDecimal.valueOf(Long.MIN_VALUE, 4), in.readDecimal());
+        assertEquals(largeScale, in.readDecimal());
+        // Negative scales are written as the same number at scale 0
+        assertEquals(new BigDecimal("1500"), in.readDecimal());
+    }
+
+    @Test
+    void rejectsDecimalsTheFormatCannotHold() {
+        BinaryWriter out = new BinaryWriter(16);
+
+        assertThrows(IllegalArgumentException.class, () -> out.writeDecimal(BigDecimal.ONE.movePointLeft(128)));
+        assertThrows(ArithmeticException.class, () -> out.writeDecimal(new BigDecimal("92233720368547758080")));
+    }
+
+    @Test
+    void roundTripsDateTimes() {
+        LocalDateTime beforeEpoch = LocalDateTime.of(1899, 12, 31, 23, 59, 59, 999_999_999);
+        LocalDateTime kickoff = LocalDateTime.of(2025, 8, 16, 15, 0, 0, 123_000_000);
+        BinaryReader in = reader(new BinaryWriter(16)
+                .writeDateTime(null)
+                .writeDateTime(beforeEpoch)
+                .writeDateTime(kickoff));
+
+        assertNull(in.readDateTime());
+        assertEquals(beforeEpoch, in.readDateTime());
+        assertEquals(kickoff, in.readDateTime());
+    }
+
+    @Test
+    void truncatedInputFails() {
+        byte[] bytes = new BinaryWriter(16).writeString("truncated").toByteArray();
+        byte[] cut = Arrays.copyOf(bytes, bytes.length - 3);
+
+        assertThrows(IllegalArgumentException.class, () -> new BinaryReader(cut, 0).readString());
+        assertThrows(IllegalArgumentException.class, () -> new BinaryReader(new byte[] {(byte) 0x80}, 0).readVarLong());
+    }
+
+    @Test
+    void readsFromTheGivenOffset() {
+        byte[] bytes = new BinaryWriter(16).writeByte(7).writeByte(9).writeVarLong(-300).toByteArray();
+
+        assertArrayEquals(new byte[] {7, 9}, Arrays.copyOf(bytes, 2));
+        assertEquals(-300, new BinaryReader(bytes, 2).readVarLong());
+    }
+
+    private static BinaryReader reader(BinaryWriter out) {
+        return new BinaryReader(out.toByteArray(), 0);
+    }
+}
@@ -0,0 +1,152 @@
+package com.reddevil.reddevilanalytics_backend.cache.codec;
+
+import com.reddevil.reddevilanalytics_backend.domain.Competition;
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.domain.MatchPrediction;
+import com.reddevil.reddevilanalytics_backend.domain.MatchStatus;
+import com.reddevil.reddevilanalytics_backend.domain.Provider;
+import com.reddevil.reddevilanalytics_backend.domain.Team;
+import com.reddevil.reddevilanalytics_backend.domain.TeamAsset;
+import com.reddevil.reddevilanalytics_backend.provider.dto.AssetDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of the binary cache codecs against the JSON serializer they replace.
+ * Entry sizes are printed once per value type at setup.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.reddevil.reddevilanalytics_backend.cache.codec.CacheCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    @Param({"teamAsset", "prediction", "assetDto"})
+    private String valueType;
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final BinaryCacheSerializer binary = new BinaryCacheSerializer(List.of(
+            new TeamAssetCodec(), new AssetDtoCodec(), new MatchPredictionCodec()));
+
+    private Object value;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        value = switch (valueType) {
+            case "teamAsset" -> teamAsset();
+            case "prediction" -> prediction();
+            default -> assetDto();
+        };
+        jsonBytes = json.serialize(value);
+        binaryBytes = binary.serialize(value);
+        System.out.printf("%n%s entry size: json=%d bytes, binary=%d bytes%n",
+                valueType, jsonBytes.length, binaryBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binary.serialize(value);
+    }
+
+    @Benchmark
+    public Object decodeJson() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object decodeBinary() {
+        return binary.deserialize(binaryBytes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static Team team(long id, String name) {
+        return Team.builder()
+                .id(id)
+                .name(name)
+                .shortName(name)
+                .tla(name.substring(0, 3).toUpperCase())
+                .logoUrl("https://crests.football-data.org/" + id + ".png")
+                .stadium("Old Trafford")
+                .founded(1878)
+                .clubColors("Red / White")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static TeamAsset teamAsset() {
+        return TeamAsset.builder()
+                .id(12L)
+                .team(team(66, "Manchester United"))
+                .logoUrl("https://www.thesportsdb.com/images/media/team/badge/xzqdr11517660252.png")
+                .bannerUrl("https://www.thesportsdb.com/images/media/team/banner/wuyvtv1475406006.jpg")
+                .provider(Provider.THESPORTSDB)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static MatchPrediction prediction() {
+        Match match = Match.builder()
+                .id(4411L)
+                .homeTeam(team(66, "Manchester United"))
+                .awayTeam(team(64, "Liverpool"))
+                .competition(Competition.builder().id(2021L).name("Premier League").build())
+                .matchDate(LocalDateTime.now().plusDays(3))
+                .status(MatchStatus.SCHEDULED)
+                .venue("Old Trafford")
+                .build();
+        return MatchPrediction.builder()
+                .id(981L)
+                .match(match)
+                .homeWinProbability(new BigDecimal("45.20"))
+                .drawProbability(new BigDecimal("27.40"))
+                .awayWinProbability(new BigDecimal("27.40"))
+                .predictedHomeScore(new BigDecimal("1.62"))
+                .predictedAwayScore(new BigDecimal("1.18"))
+                .confidenceScore(new BigDecimal("0.71"))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static AssetDTO assetDto() {
+        return AssetDTO.builder()
+                .logoUrl("https://www.thesportsdb.com/images/media/team/badge/xzqdr11517660252.png")
+                .bannerUrl("https://www.thesportsdb.com/images/media/team/banner/wuyvtv1475406006.jpg")
+                .build();
+    }
+}
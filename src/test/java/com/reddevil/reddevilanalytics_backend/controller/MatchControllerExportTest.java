@@ -0,0 +1,77 @@
+package com.reddevil.reddevilanalytics_backend.controller;
+
+import com.reddevil.reddevilanalytics_backend.cache.DataVersionRegistry;
+import com.reddevil.reddevilanalytics_backend.cache.MatchCachePolicy;
+import com.reddevil.reddevilanalytics_backend.cache.ResponseCache;
+import com.reddevil.reddevilanalytics_backend.config.AsyncTimeoutInterceptor;
+import com.reddevil.reddevilanalytics_backend.service.AssetService;
+import com.reddevil.reddevilanalytics_backend.service.FixtureExportService;
+import com.reddevil.reddevilanalytics_backend.service.MatchHeroViewService;
+import com.reddevil.reddevilanalytics_backend.service.MatchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MatchControllerExportTest {
+
+    private static final long DEFAULT_TIMEOUT = 100;
+    private static final long EXPORT_TIMEOUT = 5000;
+
+    private final FixtureExportService fixtureExportService = mock(FixtureExportService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MatchController controller = new MatchController(mock(MatchService.class), mock(AssetService.class),
+                mock(MatchHeroViewService.class), mock(DataVersionRegistry.class), mock(ResponseCache.class),
+                mock(MatchCachePolicy.class), fixtureExportService);
+        ReflectionTestUtils.setField(controller, "exportTimeout", EXPORT_TIMEOUT);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setAsyncRequestTimeout(DEFAULT_TIMEOUT)
+                .setCallableInterceptors(new AsyncTimeoutInterceptor())
+                .build();
+
+        when(fixtureExportService.exists(1L, 2L)).thenReturn(true);
+        doAnswer(invocation -> {
+            // Outlasts the default async timeout by a wide margin
+            Thread.sleep(DEFAULT_TIMEOUT * 3);
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"matchId\":7}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(fixtureExportService).exportSeasonFixtures(eq(1L), eq(2L), any());
+    }
+
+    @Test
+    void exportRunsPastTheDefaultAsyncTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/matches/export")
+                        .param("competitionId", "1")
+                        .param("seasonId", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(EXPORT_TIMEOUT, result.getRequest().getAsyncContext().getTimeout());
+
+        // The dispatch waits for the body as long as the request's own timeout allows
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"matchId\":7}\n"));
+    }
+}
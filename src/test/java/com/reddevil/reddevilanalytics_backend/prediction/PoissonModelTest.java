@@ -0,0 +1,39 @@
+package com.reddevil.reddevilanalytics_backend.prediction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoissonModelTest {
+
+    @Test
+    void favoursTheStrongerSide() {
+        // Team 1 beats team 2 3-0 at home and 2-0 away, team 3 draws both with team 2
+        long[] home = {1, 2, 3, 2};
+        long[] away = {2, 1, 2, 3};
+        int[] homeGoals = {3, 0, 1, 1};
+        int[] awayGoals = {0, 2, 1, 1};
+        double[] weights = {1, 1, 1, 1};
+
+        PoissonModel model = PoissonModel.fit(home, away, homeGoals, awayGoals, weights);
+        ScorelineMatrix scorelines = model.predict(1, 2);
+
+        assertEquals(1.0, scorelines.homeWin() + scorelines.draw() + scorelines.awayWin(), 1e-9);
+        assertTrue(scorelines.homeWin() > scorelines.awayWin());
+        assertTrue(scorelines.expectedHomeGoals() > scorelines.expectedAwayGoals());
+        assertTrue(model.predict(2, 1).awayWin() > model.predict(2, 1).homeWin());
+        assertEquals(2, model.played(1));
+        assertEquals(0, model.played(99));
+    }
+
+    @Test
+    void priorGivesHomeSideTheEdge() {
+        ScorelineMatrix scorelines = PoissonModel.PRIOR.predict(1, 2);
+
+        assertTrue(scorelines.homeWin() > scorelines.awayWin());
+        assertEquals(PoissonModel.DEFAULT_BASE_RATE * PoissonModel.DEFAULT_HOME_ADVANTAGE,
+                scorelines.expectedHomeGoals(), 1e-9);
+        assertEquals(1.0, scorelines.homeWin() + scorelines.draw() + scorelines.awayWin(), 1e-9);
+    }
+}
@@ -0,0 +1,64 @@
+package com.reddevil.reddevilanalytics_backend.prediction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScorelineMatrixTest {
+
+    private static final double LAMBDA = 1.4;
+    private static final double MU = 1.1;
+
+    @Test
+    void rhoOnlyReshapesTheLowScores() {
+        ScorelineMatrix independent = new ScorelineMatrix(LAMBDA, MU, 0);
+        ScorelineMatrix corrected = new ScorelineMatrix(LAMBDA, MU, -0.1);
+
+        // A negative rho makes low draws likelier and the narrow wins less likely
+        assertTrue(corrected.probability(0, 0) > independent.probability(0, 0));
+        assertTrue(corrected.probability(1, 1) > independent.probability(1, 1));
+        assertTrue(corrected.probability(1, 0) < independent.probability(1, 0));
+        assertTrue(corrected.probability(0, 1) < independent.probability(0, 1));
+
+        // Every other cell moves only by the shared normalization
+        double scale = corrected.probability(2, 1) / independent.probability(2, 1);
+        assertEquals(scale, corrected.probability(3, 0) / independent.probability(3, 0), 1e-12);
+        assertEquals(scale, corrected.probability(0, 4) / independent.probability(0, 4), 1e-12);
+        assertTrue(corrected.draw() > independent.draw());
+    }
+
+    @Test
+    void zeroRhoIsIndependentPoisson() {
+        ScorelineMatrix scorelines = new ScorelineMatrix(LAMBDA, MU, 0);
+
+        double ratio = scorelines.probability(0, 0) / (Math.exp(-LAMBDA) * Math.exp(-MU));
+        assertEquals(ratio, scorelines.probability(2, 3) / (poisson(LAMBDA, 2) * poisson(MU, 3)), 1e-12);
+    }
+
+    @Test
+    void truncatedMatrixSumsToOne() {
+        // High rates put real mass beyond ten goals, which normalization has to fold back in
+        for (double[] rates : new double[][] {{LAMBDA, MU}, {4.5, 3.5}, {0.05, 0.05}}) {
+            ScorelineMatrix scorelines = new ScorelineMatrix(rates[0], rates[1], -0.1);
+
+            double total = 0;
+            for (int h = 0; h <= ScorelineMatrix.MAX_GOALS; h++) {
+                for (int a = 0; a <= ScorelineMatrix.MAX_GOALS; a++) {
+                    total += scorelines.probability(h, a);
+                }
+            }
+            assertEquals(1.0, total, 1e-12);
+            assertEquals(1.0, scorelines.homeWin() + scorelines.draw() + scorelines.awayWin(), 1e-12);
+            assertEquals(0, scorelines.probability(ScorelineMatrix.MAX_GOALS + 1, 0));
+        }
+    }
+
+    private static double poisson(double rate, int goals) {
+        double p = Math.exp(-rate);
+        for (int k = 1; k <= goals; k++) {
+            p *= rate / k;
+        }
+        return p;
+    }
+}
@@ -0,0 +1,93 @@
+package com.reddevil.reddevilanalytics_backend.provider;
+
+import com.reddevil.reddevilanalytics_backend.provider.apifootball.ApiFootballFixtureDecoder;
+import com.reddevil.reddevilanalytics_backend.provider.apifootball.ApiFootballRecordBinding;
+import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
+import com.reddevil.reddevilanalytics_backend.provider.footballdata.FootballDataFixtureDecoder;
+import com.reddevil.reddevilanalytics_backend.provider.footballdata.FootballDataRecordBinding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cost of turning a season of provider fixtures into {@link FixtureDTO}s: binding to the provider
+ * records and mapping, against the streaming decoders. The recorded payloads are repeated up to a
+ * full season at setup. The GC profiler reports bytes allocated per decoded season as
+ * {@code gc.alloc.rate.norm}.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.reddevil.reddevilanalytics_backend.provider.FixtureDecoderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixtureDecoderBenchmark {
+
+    private static final int SEASON_FIXTURES = 380;
+
+    @Param({"football-data", "api-football"})
+    private String provider;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private byte[] payload;
+    private Function<byte[], List<FixtureDTO>> binding;
+    private Function<InputStream, List<FixtureDTO>> decoder;
+
+    @Setup
+    public void setUp() {
+        switch (provider) {
+            case "football-data" -> {
+                payload = RecordedPayloads.season(jsonMapper, "football-data-matches.json", "matches", SEASON_FIXTURES);
+                binding = bytes -> FootballDataRecordBinding.fixtures(jsonMapper, bytes);
+                decoder = new FootballDataFixtureDecoder(jsonMapper)::decode;
+            }
+            case "api-football" -> {
+                payload = RecordedPayloads.season(jsonMapper, "api-football-fixtures.json", "response", SEASON_FIXTURES);
+                binding = bytes -> ApiFootballRecordBinding.fixtures(jsonMapper, bytes);
+                decoder = new ApiFootballFixtureDecoder(jsonMapper)::decode;
+            }
+            default -> throw new IllegalArgumentException("Unknown provider " + provider);
+        }
+        System.out.printf("%n%s payload: %d bytes, %d fixtures%n", provider, payload.length, decodeStreaming().size());
+    }
+
+    @Benchmark
+    public List<FixtureDTO> bindRecords() {
+        return binding.apply(payload);
+    }
+
+    @Benchmark
+    public List<FixtureDTO> decodeStreaming() {
+        return decoder.apply(new ByteArrayInputStream(payload));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FixtureDecoderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.reddevil.reddevilanalytics_backend.provider;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Handlers that block on a slow provider, the way controllers and scheduled jobs do, run once on
+ * a pool the size of Tomcat's default and once on virtual threads. Run with {@code mvn test -Pload-test}.
+ *
+ * <p>The client gets a connection pool of its own with room for every request at once, so the
+ * shared default pool's connection limit does not cap both runs at the same rate.
+ */
+@Slf4j
+@Tag("load")
+class ProviderLatencyLoadTest {
+
+    private static final int UPSTREAM_LATENCY_MS = 500;
+    private static final int REQUESTS = 1_000;
+    private static final int PLATFORM_THREADS = 200;
+
+    private HttpServer upstream;
+    private ConnectionProvider connections;
+    private WebClient webClient;
+
+    @BeforeEach
+    void startUpstream() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), REQUESTS);
+        upstream.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        upstream.createContext("/fixtures", exchange -> {
+            try {
+                Thread.sleep(UPSTREAM_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"response\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.start();
+
+        connections = ConnectionProvider.builder("provider-latency-load-test")
+                .maxConnections(REQUESTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient httpClient = HttpClient.create(connections)
+                .responseTimeout(Duration.ofSeconds(30));
+        webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl("http://127.0.0.1:" + upstream.getAddress().getPort())
+                .build();
+    }
+
+    @AfterEach
+    void stopUpstream() {
+        connections.dispose();
+        upstream.stop(0);
+    }
+
+    @Test
+    void virtualThreadsSustainHigherThroughputUnderUpstreamLatency() throws Exception {
+        run(Executors.newVirtualThreadPerTaskExecutor(), 100);
+
+        double platform = run(Executors.newFixedThreadPool(PLATFORM_THREADS), REQUESTS);
+        double virtual = run(Executors.newVirtualThreadPerTaskExecutor(), REQUESTS);
+
+        log.info("Upstream latency {} ms, {} requests: platform pool of {} {} req/s, virtual threads {} req/s",
+                UPSTREAM_LATENCY_MS, REQUESTS, PLATFORM_THREADS, Math.round(platform), Math.round(virtual));
+        assertTrue(virtual > platform * 1.5,
+                "Expected virtual threads to outperform the bounded pool, got " + virtual + " vs " + platform);
+    }
+
+    /**
+     * @return completed requests per second
+     */
+    private double run(ExecutorService executor, int requests) throws Exception {
+        long start = System.nanoTime();
+        try (executor) {
+            List<Future<String>> results = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> webClient.get()
+                        .uri("/fixtures")
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block()));
+            }
+            for (Future<String> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return requests / seconds;
+    }
+}
@@ -0,0 +1,47 @@
+package com.reddevil.reddevilanalytics_backend.provider;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Provider responses recorded under {@code src/test/resources/payloads}. Each keeps a handful of
+ * real entries plus a few with missing, null and unknown fields; {@link #season} repeats them up
+ * to a full season for benchmarks, so the repository does not carry whole seasons.
+ */
+public final class RecordedPayloads {
+
+    private RecordedPayloads() {
+    }
+
+    public static byte[] read(String name) {
+        try (InputStream in = RecordedPayloads.class.getResourceAsStream("/payloads/" + name)) {
+            return Objects.requireNonNull(in, "recorded payload missing: " + name).readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The recorded payload with the entries of its {@code field} array repeated to {@code size}.
+     */
+    public static byte[] season(JsonMapper jsonMapper, String name, String field, int size) {
+        ObjectNode root = (ObjectNode) jsonMapper.readTree(read(name));
+        List<JsonNode> recorded = new ArrayList<>();
+        root.get(field).forEach(recorded::add);
+
+        ArrayNode entries = root.putArray(field);
+        for (int i = 0; i < size; i++) {
+            entries.add(recorded.get(i % recorded.size()).deepCopy());
+        }
+        return jsonMapper.writeValueAsBytes(root);
+    }
+}
@@ -0,0 +1,69 @@
+package com.reddevil.reddevilanalytics_backend.provider.apifootball;
+
+import com.reddevil.reddevilanalytics_backend.provider.RecordedPayloads;
+import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ApiFootballFixtureDecoderTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ApiFootballFixtureDecoder decoder = new ApiFootballFixtureDecoder(jsonMapper);
+    private final byte[] payload = RecordedPayloads.read("api-football-fixtures.json");
+
+    @Test
+    void decodesTheSameFixturesAsRecordBinding() {
+        List<FixtureDTO> decoded = decoder.decode(new ByteArrayInputStream(payload));
+
+        assertEquals(13, decoded.size());
+        assertEquals(ApiFootballRecordBinding.fixtures(jsonMapper, payload), decoded);
+    }
+
+    @Test
+    void leavesMissingFieldsEmpty() {
+        FixtureDTO fixture = fixture(900101);
+
+        // Without a timestamp the kickoff comes from the date
+        assertEquals(LocalDateTime.of(2026, 5, 24, 15, 0), fixture.getMatchDate());
+        assertNull(fixture.getStatus());
+        assertNull(fixture.getVenue());
+        assertNull(fixture.getReferee());
+        assertNull(fixture.getHomeScore());
+        assertEquals("Chelsea", fixture.getAwayTeam().getName());
+    }
+
+    @Test
+    void readsNullsAsEmpty() {
+        FixtureDTO fixture = fixture(900102);
+
+        assertNull(fixture.getMatchDate());
+        assertNull(fixture.getStatus());
+        assertNull(fixture.getAwayTeam());
+        assertNull(fixture.getHomeTeam().getId());
+        assertNull(fixture.getAwayScore());
+    }
+
+    @Test
+    void skipsUnknownFields() {
+        FixtureDTO fixture = fixture(900103);
+
+        assertEquals("Everton Stadium", fixture.getVenue());
+        assertEquals("Everton", fixture.getHomeTeam().getName());
+        assertEquals(0, fixture.getHomeScore());
+        assertEquals(3, fixture.getAwayScore());
+    }
+
+    private FixtureDTO fixture(long id) {
+        return decoder.decode(new ByteArrayInputStream(payload)).stream()
+                .filter(fixture -> fixture.getId() == id)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,22 @@
+package com.reddevil.reddevilanalytics_backend.provider.apifootball;
+
+import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+/**
+ * Binding to {@link FixturesResponse} and mapping, the path {@link ApiFootballFixtureDecoder}
+ * replaced for season fixtures, kept reachable for comparing the two.
+ */
+public final class ApiFootballRecordBinding {
+
+    private ApiFootballRecordBinding() {
+    }
+
+    public static List<FixtureDTO> fixtures(JsonMapper jsonMapper, byte[] payload) {
+        return jsonMapper.readValue(payload, FixturesResponse.class).response().stream()
+                .map(ApiFootballClient::mapToFixtureDTO)
+                .toList();
+    }
+}
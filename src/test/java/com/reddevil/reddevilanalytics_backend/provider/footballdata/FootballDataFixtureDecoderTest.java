@@ -0,0 +1,71 @@
+package com.reddevil.reddevilanalytics_backend.provider.footballdata;
+
+import com.reddevil.reddevilanalytics_backend.provider.RecordedPayloads;
+import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FootballDataFixtureDecoderTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final FootballDataFixtureDecoder decoder = new FootballDataFixtureDecoder(jsonMapper);
+    private final byte[] payload = RecordedPayloads.read("football-data-matches.json");
+
+    @Test
+    void decodesTheSameFixturesAsRecordBinding() {
+        List<FixtureDTO> decoded = decoder.decode(new ByteArrayInputStream(payload));
+
+        assertEquals(13, decoded.size());
+        assertEquals(FootballDataRecordBinding.fixtures(jsonMapper, payload), decoded);
+    }
+
+    @Test
+    void leavesMissingFieldsEmpty() {
+        FixtureDTO fixture = fixture(900001);
+
+        assertEquals(LocalDateTime.of(2026, 5, 24, 15, 0), fixture.getMatchDate());
+        assertNull(fixture.getVenue());
+        assertNull(fixture.getHomeScore());
+        assertNull(fixture.getCompetition());
+        assertNull(fixture.getSeason());
+        assertNull(fixture.getHomeTeam().getShortName());
+        assertEquals("CHE", fixture.getAwayTeam().getShortName());
+    }
+
+    @Test
+    void readsNullsAsEmpty() {
+        FixtureDTO fixture = fixture(900002);
+
+        assertNull(fixture.getMatchDate());
+        assertNull(fixture.getAwayTeam());
+        assertNull(fixture.getHomeScore());
+        assertNull(fixture.getAwayScore());
+        assertNull(fixture.getHomeTeam().getLogoUrl());
+        assertEquals("LIV", fixture.getHomeTeam().getShortName());
+    }
+
+    @Test
+    void skipsUnknownFields() {
+        FixtureDTO fixture = fixture(900003);
+
+        assertEquals("Premier League", fixture.getCompetition());
+        assertEquals("2403", fixture.getSeason());
+        assertEquals("Everton FC", fixture.getHomeTeam().getName());
+        assertEquals(0, fixture.getHomeScore());
+        assertEquals(3, fixture.getAwayScore());
+    }
+
+    private FixtureDTO fixture(long id) {
+        return decoder.decode(new ByteArrayInputStream(payload)).stream()
+                .filter(fixture -> fixture.getId() == id)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,22 @@
+package com.reddevil.reddevilanalytics_backend.provider.footballdata;
+
+import com.reddevil.reddevilanalytics_backend.provider.dto.FixtureDTO;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+/**
+ * Binding to {@link FootballDataModels} and mapping, the path {@link FootballDataFixtureDecoder}
+ * replaced for season fixtures, kept reachable for comparing the two.
+ */
+public final class FootballDataRecordBinding {
+
+    private FootballDataRecordBinding() {
+    }
+
+    public static List<FixtureDTO> fixtures(JsonMapper jsonMapper, byte[] payload) {
+        return jsonMapper.readValue(payload, FootballDataModels.FixturesResponse.class).matches().stream()
+                .map(FootballDataClient::mapToFixtureDTO)
+                .toList();
+    }
+}
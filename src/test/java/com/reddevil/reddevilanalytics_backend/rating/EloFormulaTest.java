@@ -0,0 +1,44 @@
+package com.reddevil.reddevilanalytics_backend.rating;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EloFormulaTest {
+
+    private final EloFormula elo = new EloFormula(20, 65);
+
+    @Test
+    void expectationsOfBothSidesAddUpToOne() {
+        double home = elo.expectedHomeScore(1600, 1500);
+        // Seen from the away side the bonus switches sides
+        double away = new EloFormula(20, -65).expectedHomeScore(1500, 1600);
+
+        assertEquals(1.0, home + away, 1e-12);
+        assertEquals(0.5, new EloFormula(20, 0).expectedHomeScore(1500, 1500), 1e-12);
+        assertTrue(elo.expectedHomeScore(1500, 1500) > 0.5, "home advantage favours the home side");
+    }
+
+    @Test
+    void reversedResultMovesRatingsTheOtherWay() {
+        EloFormula neutral = new EloFormula(20, 0);
+
+        double homeWin = neutral.homeDelta(1500, 1500, 2, 1);
+        double awayWin = neutral.homeDelta(1500, 1500, 1, 2);
+
+        assertEquals(10.0, homeWin, 1e-9);
+        assertEquals(-homeWin, awayWin, 1e-9);
+        assertEquals(0.0, neutral.homeDelta(1500, 1500, 1, 1), 1e-9);
+    }
+
+    @Test
+    void widerMarginsMoveRatingsFurther() {
+        double narrow = elo.homeDelta(1500, 1500, 1, 0);
+        double twoGoals = elo.homeDelta(1500, 1500, 2, 0);
+        double fourGoals = elo.homeDelta(1500, 1500, 4, 0);
+
+        assertEquals(1.5 * narrow, twoGoals, 1e-9);
+        assertEquals(15.0 / 8 * narrow, fourGoals, 1e-9);
+    }
+}
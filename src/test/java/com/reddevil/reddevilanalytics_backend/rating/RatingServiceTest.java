@@ -0,0 +1,138 @@
+package com.reddevil.reddevilanalytics_backend.rating;
+
+import com.reddevil.reddevilanalytics_backend.event.MatchResultEvent;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.repository.RatingChange;
+import com.reddevil.reddevilanalytics_backend.repository.TeamRating;
+import com.reddevil.reddevilanalytics_backend.repository.TeamRatingStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RatingServiceTest {
+
+    private static final long COMPETITION = 1;
+    private static final long HOME = 10;
+    private static final long AWAY = 20;
+
+    private final EloFormula elo = new EloFormula(20, 65);
+    private final InMemoryRatingStore store = new InMemoryRatingStore();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private RatingService ratingService;
+
+    @BeforeEach
+    void setUp() {
+        ratingService = new RatingService(mock(MatchRepository.class), store, redisTemplate,
+                mock(PlatformTransactionManager.class), 1500, 20, 65);
+    }
+
+    @Test
+    void appliesResultToStoredRatings() {
+        // Another node already moved the home side; this one has never loaded it
+        store.ratings.put(HOME, new TeamRating(COMPETITION, HOME, 1600, 3));
+
+        ratingService.onMatchResult(result(100, 2, 0));
+
+        double delta = elo.homeDelta(1600, 1500, 2, 0);
+        assertEquals(1600 + delta, store.ratings.get(HOME).rating(), 1e-9);
+        assertEquals(1500 - delta, store.ratings.get(AWAY).rating(), 1e-9);
+        assertEquals(4, store.ratings.get(HOME).matchesPlayed());
+        assertEquals(1600 + delta, ratingService.rating(COMPETITION, HOME), 1e-9);
+        verify(redisTemplate).convertAndSend(eq(RatingService.RATING_CHANNEL), anyString());
+    }
+
+    @Test
+    void ignoresReReportedScore() {
+        ratingService.onMatchResult(result(100, 2, 0));
+        TeamRating home = store.ratings.get(HOME);
+
+        ratingService.onMatchResult(result(100, 2, 0));
+
+        assertEquals(home, store.ratings.get(HOME));
+        assertEquals(1, store.ratings.get(HOME).matchesPlayed());
+        verify(redisTemplate, times(1)).convertAndSend(eq(RatingService.RATING_CHANNEL), anyString());
+    }
+
+    @Test
+    void correctionRevertsTheOldScore() {
+        ratingService.onMatchResult(result(100, 2, 0));
+        ratingService.onMatchResult(result(100, 0, 1));
+
+        double delta = elo.homeDelta(1500, 1500, 0, 1);
+        assertEquals(1500 + delta, store.ratings.get(HOME).rating(), 1e-9);
+        assertEquals(1500 - delta, store.ratings.get(AWAY).rating(), 1e-9);
+        assertEquals(1, store.ratings.get(HOME).matchesPlayed());
+        assertEquals(1, store.ratings.get(AWAY).matchesPlayed());
+        assertEquals(delta, store.changes.get(100L).homeDelta(), 1e-9);
+    }
+
+    @Test
+    void reloadsRowsAnnouncedByOtherNodes() {
+        store.ratings.put(HOME, new TeamRating(COMPETITION, HOME, 1550, 1));
+        store.ratings.put(AWAY, new TeamRating(COMPETITION, AWAY, 1450, 1));
+
+        ratingService.onRatingMessage("other-node|" + COMPETITION + "|" + HOME + "," + AWAY);
+
+        assertEquals(1550, ratingService.rating(COMPETITION, HOME), 1e-9);
+        assertEquals(1450, ratingService.rating(COMPETITION, AWAY), 1e-9);
+    }
+
+    private static MatchResultEvent result(long matchId, int homeScore, int awayScore) {
+        return new MatchResultEvent(matchId, HOME, AWAY, COMPETITION, 5L, homeScore, awayScore, null);
+    }
+
+    /**
+     * One competition's rows, standing in for the database every node shares.
+     */
+    private static class InMemoryRatingStore extends TeamRatingStore {
+
+        private final Map<Long, TeamRating> ratings = new HashMap<>();
+        private final Map<Long, RatingChange> changes = new HashMap<>();
+
+        InMemoryRatingStore() {
+            super(null);
+        }
+
+        @Override
+        public List<TeamRating> findAll() {
+            return List.copyOf(ratings.values());
+        }
+
+        @Override
+        public List<TeamRating> findAll(Long competitionId, Long homeTeamId, Long awayTeamId) {
+            return List.of(ratings.get(homeTeamId), ratings.get(awayTeamId));
+        }
+
+        @Override
+        public Map<Long, TeamRating> lockRatings(Long competitionId, Long homeTeamId, Long awayTeamId, double initialRating) {
+            ratings.putIfAbsent(homeTeamId, new TeamRating(competitionId, homeTeamId, initialRating, 0));
+            ratings.putIfAbsent(awayTeamId, new TeamRating(competitionId, awayTeamId, initialRating, 0));
+            return Map.of(homeTeamId, ratings.get(homeTeamId), awayTeamId, ratings.get(awayTeamId));
+        }
+
+        @Override
+        public Optional<RatingChange> findChange(Long matchId) {
+            return Optional.ofNullable(changes.get(matchId));
+        }
+
+        @Override
+        public void saveResult(TeamRating home, TeamRating away, RatingChange change) {
+            ratings.put(home.teamId(), home);
+            ratings.put(away.teamId(), away);
+            changes.put(change.matchId(), change);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.reddevil.reddevilanalytics_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchHistoryCursorTest {
+
+    @Test
+    void roundTripsThroughTheToken() {
+        // A kickoff on the hour prints without seconds, one with nanos prints all of them
+        for (MatchHistoryCursor cursor : new MatchHistoryCursor[] {
+                new MatchHistoryCursor(LocalDateTime.of(2025, 8, 16, 15, 0), 42L),
+                new MatchHistoryCursor(LocalDateTime.of(2025, 8, 16, 15, 0, 30, 123_000_000), 43L),
+                MatchHistoryCursor.START}) {
+            String token = cursor.encode();
+
+            assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+            assertEquals(cursor, MatchHistoryCursor.decode(token));
+        }
+    }
+
+    @Test
+    void rejectsForeignTokens() {
+        assertThrows(IllegalArgumentException.class, () -> MatchHistoryCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> MatchHistoryCursor.decode(token("2025-08-16T15:00")));
+        assertThrows(IllegalArgumentException.class, () -> MatchHistoryCursor.decode(token("yesterday|42")));
+        assertThrows(IllegalArgumentException.class, () -> MatchHistoryCursor.decode(token("2025-08-16T15:00|x")));
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,146 @@
+package com.reddevil.reddevilanalytics_backend.service;
+
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.domain.Team;
+import com.reddevil.reddevilanalytics_backend.provider.client.FixtureProviderClient;
+import com.reddevil.reddevilanalytics_backend.provider.client.LiveMatchProviderClient;
+import com.reddevil.reddevilanalytics_backend.repository.CompetitionRepository;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.repository.SeasonRepository;
+import com.reddevil.reddevilanalytics_backend.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MatchServiceTest {
+
+    private static final long TEAM = 10;
+    private static final long OTHER = 20;
+    private static final LocalDateTime KICKOFF = LocalDateTime.of(2025, 8, 16, 15, 0);
+
+    private final List<Match> matches = new ArrayList<>();
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private MatchService matchService;
+
+    @BeforeEach
+    void setUp() {
+        // The keyset queries, run against the in-memory matches
+        when(matchRepository.findHomeMatchesBefore(anyLong(), any(), anyLong(), any())).thenAnswer(invocation ->
+                before(Match::getHomeTeam, invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3)));
+        when(matchRepository.findAwayMatchesBefore(anyLong(), any(), anyLong(), any())).thenAnswer(invocation ->
+                before(Match::getAwayTeam, invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3)));
+        when(teamRepository.existsById(TEAM)).thenReturn(true);
+
+        matchService = new MatchService(matchRepository, mock(CompetitionRepository.class), mock(SeasonRepository.class),
+                teamRepository, mock(ExternalRefService.class), mock(FixtureProviderClient.class),
+                mock(LiveMatchProviderClient.class), mock(StandingsService.class), mock(MatchScheduleIndex.class),
+                mock(MatchHeroViewService.class), mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void pagesThroughHomeAndAwayMatchesNewestFirst() {
+        for (long id = 1; id <= 7; id++) {
+            match(id, KICKOFF.plusWeeks(id), id % 2 == 0);
+        }
+
+        List<Long> seen = pageAll(3);
+
+        assertEquals(List.of(7L, 6L, 5L, 4L, 3L, 2L, 1L), seen);
+    }
+
+    @Test
+    void fullLastPageHasNoNextCursor() {
+        for (long id = 1; id <= 4; id++) {
+            match(id, KICKOFF.plusWeeks(id), id % 2 == 0);
+        }
+
+        MatchHistoryPage first = matchService.getTeamMatches(TEAM, MatchHistoryCursor.START, 2).orElseThrow();
+        MatchHistoryPage last = matchService.getTeamMatches(TEAM, first.next(), 2).orElseThrow();
+
+        assertEquals(new MatchHistoryCursor(KICKOFF.plusWeeks(3), 3L), first.next());
+        assertEquals(List.of(2L, 1L), ids(last));
+        assertNull(last.next());
+    }
+
+    @Test
+    void tiedKickoffsSplitAcrossPagesByMatchId() {
+        // A rescheduled round can put several of a team's matches on one kickoff
+        match(1, KICKOFF, true);
+        match(2, KICKOFF, false);
+        match(3, KICKOFF, true);
+        match(4, KICKOFF, false);
+        match(5, KICKOFF.plusDays(1), true);
+
+        List<Long> seen = pageAll(2);
+
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), seen);
+    }
+
+    @Test
+    void unknownTeamIsEmpty() {
+        assertTrue(matchService.getTeamMatches(99L, MatchHistoryCursor.START, 20).isEmpty());
+    }
+
+    @Test
+    void knownTeamWithoutMatchesIsAnEmptyPage() {
+        MatchHistoryPage page = matchService.getTeamMatches(TEAM, MatchHistoryCursor.START, 20).orElseThrow();
+
+        assertTrue(page.matches().isEmpty());
+        assertNull(page.next());
+    }
+
+    private List<Long> pageAll(int limit) {
+        List<Long> seen = new ArrayList<>();
+        MatchHistoryCursor cursor = MatchHistoryCursor.START;
+        while (cursor != null) {
+            MatchHistoryPage page = matchService.getTeamMatches(TEAM, cursor, limit).orElseThrow();
+            assertTrue(page.matches().size() <= limit);
+            seen.addAll(ids(page));
+            cursor = page.next();
+        }
+        return seen;
+    }
+
+    private List<Match> before(Function<Match, Team> side, Long teamId, LocalDateTime matchDate, Long matchId, Limit limit) {
+        return matches.stream()
+                .filter(match -> side.apply(match).getId().equals(teamId))
+                .filter(match -> match.getMatchDate().isBefore(matchDate)
+                        || match.getMatchDate().equals(matchDate) && match.getId() < matchId)
+                .sorted(Comparator.comparing(Match::getMatchDate).thenComparing(Match::getId).reversed())
+                .limit(limit.max())
+                .toList();
+    }
+
+    private void match(long id, LocalDateTime matchDate, boolean home) {
+        Team team = Team.builder().id(TEAM).build();
+        Team other = Team.builder().id(OTHER).build();
+        matches.add(Match.builder()
+                .id(id)
+                .homeTeam(home ? team : other)
+                .awayTeam(home ? other : team)
+                .matchDate(matchDate)
+                .build());
+    }
+
+    private static List<Long> ids(MatchHistoryPage page) {
+        return page.matches().stream().map(Match::getId).toList();
+    }
+}
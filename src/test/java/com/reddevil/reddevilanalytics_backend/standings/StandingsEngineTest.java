@@ -0,0 +1,118 @@
+package com.reddevil.reddevilanalytics_backend.standings;
+
+import com.reddevil.reddevilanalytics_backend.domain.Competition;
+import com.reddevil.reddevilanalytics_backend.domain.Match;
+import com.reddevil.reddevilanalytics_backend.domain.MatchStatus;
+import com.reddevil.reddevilanalytics_backend.domain.Season;
+import com.reddevil.reddevilanalytics_backend.domain.Standing;
+import com.reddevil.reddevilanalytics_backend.domain.Team;
+import com.reddevil.reddevilanalytics_backend.event.MatchResultEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StandingsEngineTest {
+
+    private static final long COMPETITION = 1;
+    private static final long SEASON = 5;
+    private static final LocalDateTime KICKOFF = LocalDateTime.of(2025, 8, 16, 15, 0);
+
+    private final StandingsEngine engine = new StandingsEngine("POINTS,GOAL_DIFFERENCE,GOALS_FOR");
+    private final Team home = Team.builder().id(10L).build();
+    private final Team away = Team.builder().id(20L).build();
+    private final Team third = Team.builder().id(30L).build();
+
+    @Test
+    void appliesResultsTheProviderTableHasNotCounted() {
+        // The provider has counted the first meeting only
+        List<Standing> standings = List.of(
+                standing(home, 1, 1, 0, 0, 2, 0, 3, "W"),
+                standing(away, 1, 0, 0, 1, 0, 2, 0, "L"));
+        List<Match> finished = List.of(
+                match(101, home, away, KICKOFF.plusWeeks(1), 1, 1),
+                match(100, home, away, KICKOFF, 2, 0));
+
+        int pending = engine.load(COMPETITION, SEASON, standings, finished);
+
+        assertEquals(1, pending);
+        StandingsTable.Row first = engine.rows(COMPETITION, SEASON).get(0);
+        assertEquals(10L, first.teamId());
+        assertEquals(2, first.played());
+        assertEquals(4, first.points());
+        assertEquals("D,W", first.form());
+    }
+
+    @Test
+    void addsAResultOnlyToTheSideThatHasNotCountedIt() {
+        // The away side's count covers its earlier draw, so the later match is counted for the
+        // home side only, and the draw for the away side only
+        List<Standing> standings = List.of(
+                standing(home, 1, 1, 0, 0, 2, 0, 3, "W"),
+                standing(away, 1, 0, 1, 0, 1, 1, 1, "D"),
+                standing(third, 0, 0, 0, 0, 0, 0, 0, null));
+        List<Match> finished = List.of(
+                match(99, third, away, KICKOFF.minusWeeks(1), 1, 1),
+                match(100, home, away, KICKOFF, 2, 0));
+
+        int pending = engine.load(COMPETITION, SEASON, standings, finished);
+
+        assertEquals(2, pending);
+        StandingsTable table = engine.copyOf(COMPETITION, SEASON).orElseThrow();
+        assertEquals(1, table.rowForTeam(10L).played());
+        assertEquals(3, table.rowForTeam(10L).points());
+        assertEquals(2, table.rowForTeam(20L).played());
+        assertEquals(1, table.rowForTeam(20L).points());
+        assertEquals(3, table.rowForTeam(20L).goalsAgainst());
+        assertEquals("L,D", table.rowForTeam(20L).form());
+        assertEquals(1, table.rowForTeam(30L).played());
+        assertEquals(1, table.rowForTeam(30L).points());
+    }
+
+    @Test
+    void correctionOfACountedResultIsAppliedAsADelta() {
+        List<Standing> standings = List.of(
+                standing(home, 1, 1, 0, 0, 2, 0, 3, "W"),
+                standing(away, 1, 0, 0, 1, 0, 2, 0, "L"));
+        engine.load(COMPETITION, SEASON, standings, List.of(match(100, home, away, KICKOFF, 2, 0)));
+
+        engine.apply(new MatchResultEvent(100L, 10L, 20L, COMPETITION, SEASON, 0, 1, KICKOFF));
+
+        StandingsTable.Row first = engine.rows(COMPETITION, SEASON).get(0);
+        assertEquals(20L, first.teamId());
+        assertEquals(1, first.played());
+        assertEquals(3, first.points());
+    }
+
+    private static Standing standing(Team team, int played, int won, int draw, int lost,
+                                     int goalsFor, int goalsAgainst, int points, String form) {
+        return Standing.builder()
+                .team(team)
+                .playedGames(played)
+                .won(won)
+                .draw(draw)
+                .lost(lost)
+                .goalsFor(goalsFor)
+                .goalsAgainst(goalsAgainst)
+                .goalDifference(goalsFor - goalsAgainst)
+                .points(points)
+                .form(form)
+                .build();
+    }
+
+    private static Match match(long id, Team homeTeam, Team awayTeam, LocalDateTime kickoff, int homeScore, int awayScore) {
+        return Match.builder()
+                .id(id)
+                .homeTeam(homeTeam)
+                .awayTeam(awayTeam)
+                .competition(Competition.builder().id(COMPETITION).build())
+                .season(Season.builder().id(SEASON).build())
+                .matchDate(kickoff)
+                .status(MatchStatus.FINISHED)
+                .homeScore(homeScore)
+                .awayScore(awayScore)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.reddevil.reddevilanalytics_backend.standings;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StandingsTableTest {
+
+    private static final List<TiebreakRule> TIEBREAKERS =
+            List.of(TiebreakRule.POINTS, TiebreakRule.GOAL_DIFFERENCE, TiebreakRule.GOALS_FOR);
+
+    @Test
+    void appliesResultAndReranks() {
+        StandingsTable table = new StandingsTable(TIEBREAKERS);
+        table.seedRow(1, 1, 1, 0, 0, 2, 0, 3, "W");
+        table.seedRow(2, 1, 0, 0, 1, 0, 2, 0, "L");
+        table.seedRow(3, 0, 0, 0, 0, 0, 0, 0, null);
+        table.markApplied(10, 1, 2, 2, 0);
+        table.rank();
+
+        assertTrue(table.applyResult(11, 3, 1, 3, 0, true));
+
+        List<StandingsTable.Row> rows = table.rows();
+        assertEquals(3L, rows.get(0).teamId());
+        assertEquals(1L, rows.get(1).teamId());
+        assertEquals(2, rows.get(1).played());
+        assertEquals("L,W", rows.get(1).form());
+    }
+
+    @Test
+    void ignoresDuplicateAndCorrectsChangedScore() {
+        StandingsTable table = new StandingsTable(TIEBREAKERS);
+        table.seedRow(1, 0, 0, 0, 0, 0, 0, 0, null);
+        table.seedRow(2, 0, 0, 0, 0, 0, 0, 0, null);
+        table.rank();
+
+        assertTrue(table.applyResult(10, 1, 2, 1, 0, true));
+        assertFalse(table.applyResult(10, 1, 2, 1, 0, true));
+        assertTrue(table.applyResult(10, 1, 2, 1, 1, true));
+
+        StandingsTable.Row first = table.rowForTeam(1);
+        assertEquals(1, first.played());
+        assertEquals(1, first.points());
+        assertEquals(1, first.draw());
+        assertEquals(0, first.won());
+    }
+
+    @Test
+    void correctionReplacesTheMatchInForm() {
+        StandingsTable table = new StandingsTable(TIEBREAKERS);
+        table.seedRow(1, 2, 1, 1, 0, 3, 1, 4, "W,D");
+        table.seedRow(2, 2, 0, 1, 1, 1, 3, 1, "L,D");
+        table.markApplied(9, 1, 2, 1, 1);
+        table.markApplied(10, 1, 2, 2, 0);
+        table.rank();
+        table.applyResult(11, 2, 1, 3, 0, true);
+
+        // One seeded result and one applied locally, each corrected after the other came in
+        assertTrue(table.applyResult(10, 1, 2, 0, 1, true));
+        assertTrue(table.applyResult(11, 2, 1, 3, 3, true));
+
+        assertEquals("D,L,D", table.rowForTeam(1).form());
+        assertEquals("D,W,D", table.rowForTeam(2).form());
+        assertEquals(5, table.rowForTeam(2).points());
+    }
+
+    @Test
+    void revertRestoresPreviousTotals() {
+        StandingsTable table = new StandingsTable(TIEBREAKERS);
+        table.seedRow(1, 0, 0, 0, 0, 0, 0, 0, null);
+        table.seedRow(2, 0, 0, 0, 0, 0, 0, 0, null);
+        table.rank();
+
+        table.applyResult(10, 2, 1, 2, 0, false);
+        StandingsTable copy = table.copy();
+        assertTrue(copy.revertResult(10));
+
+        assertEquals(0, copy.rowForTeam(2).points());
+        assertEquals(3, table.rowForTeam(2).points());
+        assertEquals(1, table.rows().get(0).position());
+        assertEquals(2L, table.rows().get(0).teamId());
+    }
+}
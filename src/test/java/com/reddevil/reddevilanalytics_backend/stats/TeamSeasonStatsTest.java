@@ -0,0 +1,83 @@
+package com.reddevil.reddevilanalytics_backend.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TeamSeasonStatsTest {
+
+    @Test
+    void formKeepsTheLastResultsOldestFirst() {
+        RecentForm form = RecentForm.empty(3);
+        assertNull(form.form());
+
+        form = form.record(1, 100, RecentForm.WIN).record(2, 200, RecentForm.DRAW).record(3, 300, RecentForm.LOSS);
+        assertEquals("WDL", form.form());
+
+        form = form.record(4, 400, RecentForm.WIN);
+        assertEquals("DLW", form.form());
+        assertEquals(3, form.size());
+    }
+
+    @Test
+    void lateResultTakesItsPlaceByKickoff() {
+        RecentForm form = RecentForm.empty(3).record(1, 100, RecentForm.WIN).record(3, 300, RecentForm.LOSS);
+
+        form = form.record(2, 200, RecentForm.DRAW);
+        assertEquals("WDL", form.form());
+
+        // Full: a late result drops the oldest, one older than everything kept is not shown
+        form = form.record(4, 250, RecentForm.DRAW);
+        assertEquals("DDL", form.form());
+        assertEquals(form.encode(), form.record(5, 50, RecentForm.WIN).encode());
+
+        form = form.record(6, 400, RecentForm.WIN);
+        assertEquals("DLW", form.form());
+    }
+
+    @Test
+    void formSurvivesEncoding() {
+        RecentForm form = RecentForm.empty(3).record(10, 100, RecentForm.WIN).record(11, 110, RecentForm.LOSS)
+                .record(12, 120, RecentForm.DRAW).record(13, 130, RecentForm.DRAW);
+
+        assertEquals("11:110:L,12:120:D,13:130:D", form.encode());
+        assertEquals("LDD", RecentForm.decode(form.encode(), 3).form());
+        assertEquals("DD", RecentForm.decode(form.encode(), 2).form());
+        assertEquals("WLD", RecentForm.decode("10:W,11:L,12:D", 3).form());
+    }
+
+    @Test
+    void correctionSwapsTheOldScoreForTheNew() {
+        TeamSeasonStats stats = TeamSeasonStats.empty(1, 7, 5)
+                .withResult(100, 1000, true, 2, 0)
+                .withResult(101, 2000, false, 1, 1);
+        assertEquals("WD", stats.form().form());
+
+        // Match 100 is corrected from 2-0 to 1-2
+        stats = stats.withCorrection(100, true, 2, 0, 1, 2);
+
+        assertEquals(0, stats.won());
+        assertEquals(1, stats.drawn());
+        assertEquals(1, stats.lost());
+        assertEquals(2, stats.goalsFor());
+        assertEquals(3, stats.goalsAgainst());
+        assertEquals(1, stats.home().played());
+        assertEquals(1, stats.away().drawn());
+        assertEquals("LD", stats.form().form());
+    }
+
+    @Test
+    void removedResultLeavesTotalsAndForm() {
+        TeamSeasonStats stats = TeamSeasonStats.empty(1, 7, 5)
+                .withResult(100, 1000, true, 2, 0)
+                .withResult(101, 2000, false, 1, 1);
+
+        stats = stats.withoutResult(100, true, 2, 0);
+
+        assertEquals(1, stats.played());
+        assertEquals(0, stats.home().played());
+        assertEquals(1, stats.goalsFor());
+        assertEquals("D", stats.form().form());
+    }
+}
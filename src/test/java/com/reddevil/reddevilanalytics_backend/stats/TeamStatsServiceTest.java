@@ -0,0 +1,159 @@
+package com.reddevil.reddevilanalytics_backend.stats;
+
+import com.reddevil.reddevilanalytics_backend.event.MatchResultEvent;
+import com.reddevil.reddevilanalytics_backend.repository.CountedResult;
+import com.reddevil.reddevilanalytics_backend.repository.MatchRepository;
+import com.reddevil.reddevilanalytics_backend.repository.TeamSeasonStatsStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TeamStatsServiceTest {
+
+    private static final long SEASON = 5;
+    private static final long NEXT_SEASON = 6;
+    private static final long HOME = 10;
+    private static final long AWAY = 20;
+    private static final LocalDateTime KICKOFF = LocalDateTime.of(2025, 8, 16, 15, 0);
+
+    private final InMemoryStatsStore store = new InMemoryStatsStore();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private TeamStatsService teamStatsService;
+
+    @BeforeEach
+    void setUp() {
+        teamStatsService = new TeamStatsService(mock(MatchRepository.class), store, mock(ApplicationEventPublisher.class),
+                redisTemplate, mock(PlatformTransactionManager.class), 5);
+    }
+
+    @Test
+    void duplicateResultIsCountedOnce() {
+        teamStatsService.onMatchResult(result(100, SEASON, KICKOFF, 2, 0));
+        teamStatsService.onMatchResult(result(100, SEASON, KICKOFF, 2, 0));
+
+        TeamSeasonStats home = store.stats.get(key(SEASON, HOME));
+        assertEquals(1, home.played());
+        assertEquals(2, home.goalsFor());
+        assertEquals("W", home.form().form());
+        verify(redisTemplate, times(1)).convertAndSend(eq(TeamStatsService.STATS_CHANNEL), anyString());
+    }
+
+    @Test
+    void correctionReplacesTheOldScore() {
+        teamStatsService.onMatchResult(result(100, SEASON, KICKOFF, 2, 0));
+        teamStatsService.onMatchResult(result(100, SEASON, KICKOFF, 1, 1));
+
+        TeamSeasonStats home = store.stats.get(key(SEASON, HOME));
+        TeamSeasonStats away = store.stats.get(key(SEASON, AWAY));
+        assertEquals(1, home.played());
+        assertEquals(1, home.drawn());
+        assertEquals(0, home.won());
+        assertEquals(1, away.away().drawn());
+        assertEquals(0, away.lost());
+        assertEquals("D", home.form().form());
+    }
+
+    @Test
+    void seasonChangeMovesTheResult() {
+        teamStatsService.onMatchResult(result(100, SEASON, KICKOFF, 2, 0));
+        teamStatsService.onMatchResult(result(100, NEXT_SEASON, KICKOFF, 2, 0));
+
+        assertEquals(0, store.stats.get(key(SEASON, HOME)).played());
+        assertEquals(0, store.stats.get(key(SEASON, AWAY)).goalsAgainst());
+        assertNull(store.stats.get(key(SEASON, HOME)).form().form());
+        assertEquals(1, store.stats.get(key(NEXT_SEASON, HOME)).won());
+        assertEquals(1, store.stats.get(key(NEXT_SEASON, AWAY)).lost());
+        assertEquals(NEXT_SEASON, store.results.get(100L).seasonId());
+    }
+
+    @Test
+    void lateResultIsOrderedByKickoff() {
+        teamStatsService.onMatchResult(result(101, SEASON, KICKOFF, 2, 0));
+        teamStatsService.onMatchResult(result(103, SEASON, KICKOFF.plusWeeks(2), 0, 1));
+        teamStatsService.onMatchResult(result(102, SEASON, KICKOFF.plusWeeks(1), 1, 1));
+
+        assertEquals("WDL", store.stats.get(key(SEASON, HOME)).form().form());
+        assertEquals("WDL", teamStatsService.get(SEASON, HOME).form().form());
+    }
+
+    @Test
+    void reloadsRowsAnnouncedByOtherNodes() {
+        store.stats.put(key(SEASON, HOME), TeamSeasonStats.empty(SEASON, HOME, 5).withResult(100, 0, true, 3, 1));
+
+        teamStatsService.onStatsMessage("other-node|" + SEASON + ":" + HOME);
+
+        assertEquals(1, teamStatsService.get(SEASON, HOME).won());
+    }
+
+    private static MatchResultEvent result(long matchId, long seasonId, LocalDateTime kickoff, int homeScore, int awayScore) {
+        return new MatchResultEvent(matchId, HOME, AWAY, 1L, seasonId, homeScore, awayScore, kickoff);
+    }
+
+    private static String key(long seasonId, long teamId) {
+        return seasonId + ":" + teamId;
+    }
+
+    /**
+     * Rows standing in for the database every node shares.
+     */
+    private static class InMemoryStatsStore extends TeamSeasonStatsStore {
+
+        private final Map<String, TeamSeasonStats> stats = new HashMap<>();
+        private final Map<Long, CountedResult> results = new HashMap<>();
+
+        InMemoryStatsStore() {
+            super(null);
+        }
+
+        @Override
+        public List<TeamSeasonStats> findAll(int formLength) {
+            return List.copyOf(stats.values());
+        }
+
+        @Override
+        public List<TeamSeasonStats> findAll(Long seasonId, Collection<Long> teamIds, int formLength) {
+            return teamIds.stream().map(teamId -> stats.get(key(seasonId, teamId))).filter(Objects::nonNull).toList();
+        }
+
+        @Override
+        public List<TeamSeasonStats> lockStats(Collection<Long> seasonIds, Long homeTeamId, Long awayTeamId, int formLength) {
+            for (Long seasonId : seasonIds) {
+                for (Long teamId : List.of(homeTeamId, awayTeamId)) {
+                    stats.putIfAbsent(key(seasonId, teamId), TeamSeasonStats.empty(seasonId, teamId, formLength));
+                }
+            }
+            return seasonIds.stream()
+                    .flatMap(seasonId -> findAll(seasonId, List.of(homeTeamId, awayTeamId), formLength).stream())
+                    .toList();
+        }
+
+        @Override
+        public Optional<CountedResult> findResult(Long matchId) {
+            return Optional.ofNullable(results.get(matchId));
+        }
+
+        @Override
+        public void saveResult(Collection<TeamSeasonStats> updated, CountedResult result) {
+            updated.forEach(teamStats -> stats.put(key(teamStats.seasonId(), teamStats.teamId()), teamStats));
+            results.put(result.matchId(), result);
+        }
+    }
+}